@@ -0,0 +1,113 @@
+package com.matchsentinel.ai.benchmark;
+
+import com.matchsentinel.ai.challenger.ChallengerScorer;
+import com.matchsentinel.ai.challenger.ComparisonStore;
+import com.matchsentinel.ai.features.AccountFeatureStore;
+import com.matchsentinel.ai.service.AiScoringService;
+import com.matchsentinel.ai.service.ChallengerModelRegistry;
+import com.matchsentinel.ai.service.MerchantWatchlistRegistry;
+import com.matchsentinel.ai.service.ScoringModelRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiScoringServiceBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"0", "50000"})
+    private int watchlistKeywords;
+
+    // Measures what queueing the challenger costs the live scoring path.
+    @Param({"none", "classpath:models/heuristic-v1.json"})
+    private String challengerModel;
+
+    private AiScoringService service;
+    private AiScoringService.TransactionInput lowRisk;
+    private AiScoringService.TransactionInput highRisk;
+    private List<AiScoringService.TransactionInput> batch;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path watchlist = Files.createTempFile("merchant-watchlist", ".csv");
+        watchlist.toFile().deleteOnExit();
+        List<String> lines = new ArrayList<>(List.of("crypto,CRYPTO_MERCHANT,0.20", "exchange,CRYPTO_MERCHANT,0.20"));
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < watchlistKeywords; i++) {
+            StringBuilder keyword = new StringBuilder();
+            for (int c = 0; c < 10; c++) {
+                keyword.append((char) ('a' + random.nextInt(26)));
+            }
+            lines.add(keyword + ",WATCHLIST_" + (i % 16) + ",0.05");
+        }
+        Files.write(watchlist, lines);
+        MerchantWatchlistRegistry watchlists = new MerchantWatchlistRegistry(new FileSystemResource(watchlist));
+        watchlists.initialize();
+        ScoringModelRegistry models = new ScoringModelRegistry(new ClassPathResource("models/heuristic-v1.json"));
+        models.initialize();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountFeatureStore featureStore = new AccountFeatureStore(meterRegistry, 1_000_000, 72);
+        ChallengerModelRegistry challengers = new ChallengerModelRegistry(
+                "none".equals(challengerModel) ? "" : challengerModel, new DefaultResourceLoader());
+        challengers.initialize();
+        ChallengerScorer challenger = new ChallengerScorer(
+                challengers, new ComparisonStore(0.85, 0.01, 500), meterRegistry, 2, 64);
+        service = new AiScoringService(meterRegistry, watchlists, models, featureStore, challenger);
+        lowRisk = new AiScoringService.TransactionInput(
+                UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("42.50"), "USD", "US", "Coffee Shop",
+                Instant.now());
+        highRisk = new AiScoringService.TransactionInput(
+                UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("15000.00"), "EUR", "IR", "Crypto Exchange",
+                Instant.now());
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(i % 10 == 0 ? highRisk : lowRisk);
+        }
+    }
+
+    @Benchmark
+    public AiScoringService.AiScore scoreLowRisk() {
+        return service.score(lowRisk);
+    }
+
+    @Benchmark
+    public AiScoringService.AiScore scoreHighRisk() {
+        return service.score(highRisk);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<AiScoringService.AiScore> scoreBatch() {
+        return service.scoreBatch(batch);
+    }
+}
@@ -0,0 +1,76 @@
+package com.matchsentinel.ai.benchmark;
+
+import com.matchsentinel.ai.model.Link;
+import com.matchsentinel.ai.model.ModelFeatures;
+import com.matchsentinel.ai.model.TreeEnsembleModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeEnsembleModelBenchmark {
+
+    @Param({"100", "500"})
+    private int trees;
+
+    @Param({"6"})
+    private int depth;
+
+    private TreeEnsembleModel model;
+    private double[] features;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        int nodesPerTree = (1 << (depth + 1)) - 1;
+        int internalPerTree = (1 << depth) - 1;
+        int[] roots = new int[trees];
+        int[] feature = new int[trees * nodesPerTree];
+        double[] threshold = new double[feature.length];
+        int[] left = new int[feature.length];
+        int[] right = new int[feature.length];
+        double[] leafValue = new double[feature.length];
+        for (int tree = 0; tree < trees; tree++) {
+            int offset = tree * nodesPerTree;
+            roots[tree] = offset;
+            for (int node = 0; node < nodesPerTree; node++) {
+                int index = offset + node;
+                if (node < internalPerTree) {
+                    feature[index] = random.nextInt(ModelFeatures.COUNT);
+                    threshold[index] = random.nextDouble();
+                    left[index] = offset + 2 * node + 1;
+                    right[index] = offset + 2 * node + 2;
+                } else {
+                    feature[index] = -1;
+                    leafValue[index] = random.nextDouble(-0.1, 0.1);
+                }
+            }
+        }
+        model = new TreeEnsembleModel("benchmark", roots, feature, threshold, left, right, leafValue, 0, Link.LOGISTIC);
+        features = new double[ModelFeatures.COUNT];
+        for (int i = 0; i < features.length; i++) {
+            features[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public double score() {
+        return model.score(features);
+    }
+}
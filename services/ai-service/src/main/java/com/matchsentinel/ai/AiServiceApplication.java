@@ -3,9 +3,13 @@ package com.matchsentinel.ai;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableCaching
 @EnableRabbit
+@EnableScheduling
 public class AiServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,136 @@
+package com.matchsentinel.ai.challenger;
+
+import com.matchsentinel.ai.model.ScoringModel;
+import com.matchsentinel.ai.service.ChallengerModelRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scores the challenger model on the exact feature columns the champion saw, on a bounded pool off
+ * the scoring path. When the pool is saturated the batch is dropped and counted rather than slowing
+ * live scoring; challenger output never reaches decisions or published events.
+ */
+@Component
+public class ChallengerScorer {
+    private static final Logger logger = LoggerFactory.getLogger(ChallengerScorer.class);
+
+    private final ChallengerModelRegistry challengers;
+    private final ComparisonStore comparisons;
+    private final ThreadPoolExecutor executor;
+    private final Timer latency;
+    private final Counter shed;
+    private final Counter failures;
+
+    public ChallengerScorer(
+            ChallengerModelRegistry challengers,
+            ComparisonStore comparisons,
+            MeterRegistry meterRegistry,
+            @Value("${ai.challenger.threads}") int threads,
+            @Value("${ai.challenger.queue-capacity}") int queueCapacity
+    ) {
+        this.challengers = challengers;
+        this.comparisons = comparisons;
+        this.latency = Timer.builder("ai.challenger.evaluation")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.shed = meterRegistry.counter("ai.challenger.shed");
+        this.failures = meterRegistry.counter("ai.challenger.failures");
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ai-challenger-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> shed.increment()
+        );
+        Gauge.builder("ai.challenger.queue", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a challenger pass over the first {@code transactionIds.size()} rows of the champion's
+     * columns. The columns are copied before returning, so callers may reuse them immediately.
+     */
+    public void submit(
+            List<UUID> transactionIds,
+            double[][] features,
+            double[] championScores,
+            String championVersion,
+            long championNanos
+    ) {
+        ScoringModel challenger = challengers.current();
+        if (challenger == null) {
+            return;
+        }
+        // Checked up front so a saturated pool costs nothing; the rejection handler covers the race.
+        if (executor.getQueue().remainingCapacity() == 0) {
+            shed.increment();
+            return;
+        }
+        int rows = transactionIds.size();
+        double[][] columns = new double[features.length][];
+        for (int feature = 0; feature < features.length; feature++) {
+            columns[feature] = Arrays.copyOf(features[feature], rows);
+        }
+        double[] champion = Arrays.copyOf(championScores, rows);
+        List<UUID> ids = List.copyOf(transactionIds);
+        executor.execute(() -> compare(challenger, ids, columns, champion, championVersion, championNanos));
+    }
+
+    void compare(
+            ScoringModel challenger,
+            List<UUID> transactionIds,
+            double[][] columns,
+            double[] champion,
+            String championVersion,
+            long championNanos
+    ) {
+        int rows = transactionIds.size();
+        double[] scores = new double[rows];
+        long started = System.nanoTime();
+        try {
+            challenger.score(columns, rows, scores);
+        } catch (RuntimeException ex) {
+            failures.increment();
+            logger.warn("Challenger model {} failed to score a batch of {}", challenger.version(), rows, ex);
+            return;
+        }
+        long elapsed = System.nanoTime() - started;
+        latency.record(elapsed, TimeUnit.NANOSECONDS);
+        for (int row = 0; row < rows; row++) {
+            champion[row] = clamp(champion[row]);
+            scores[row] = clamp(scores[row]);
+        }
+        comparisons.record(
+                championVersion, challenger.version(), transactionIds, champion, scores, championNanos, elapsed);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static double clamp(double score) {
+        return Math.min(1.0, Math.max(0.0, score));
+    }
+}
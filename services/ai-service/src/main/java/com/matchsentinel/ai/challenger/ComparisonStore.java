@@ -0,0 +1,66 @@
+package com.matchsentinel.ai.challenger;
+
+import com.matchsentinel.ai.dto.ModelComparisonResponse;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the comparison for the current champion/challenger pair. A new version on either side starts
+ * a fresh comparison so a promoted or replaced model is never judged on its predecessor's numbers.
+ */
+@Component
+public class ComparisonStore {
+    private final double flagThreshold;
+    private final double sampleRate;
+    private final int sampleCapacity;
+    private volatile ModelComparison current;
+
+    public ComparisonStore(
+            @Value("${ai.challenger.flag-threshold}") double flagThreshold,
+            @Value("${ai.challenger.sample-rate}") double sampleRate,
+            @Value("${ai.challenger.sample-capacity}") int sampleCapacity
+    ) {
+        this.flagThreshold = flagThreshold;
+        this.sampleRate = sampleRate;
+        this.sampleCapacity = sampleCapacity;
+    }
+
+    public void record(
+            String championVersion,
+            String challengerVersion,
+            List<UUID> transactionIds,
+            double[] championScores,
+            double[] challengerScores,
+            long championNanos,
+            long challengerNanos
+    ) {
+        comparisonFor(championVersion, challengerVersion)
+                .record(transactionIds, championScores, challengerScores, championNanos, challengerNanos);
+    }
+
+    public Optional<ModelComparisonResponse> current() {
+        ModelComparison comparison = current;
+        return comparison == null ? Optional.empty() : Optional.of(comparison.snapshot());
+    }
+
+    public synchronized void reset() {
+        current = null;
+    }
+
+    private ModelComparison comparisonFor(String championVersion, String challengerVersion) {
+        ModelComparison comparison = current;
+        if (comparison != null && comparison.covers(championVersion, challengerVersion)) {
+            return comparison;
+        }
+        synchronized (this) {
+            if (current == null || !current.covers(championVersion, challengerVersion)) {
+                current = new ModelComparison(
+                        championVersion, challengerVersion, flagThreshold, sampleRate, sampleCapacity);
+            }
+            return current;
+        }
+    }
+}
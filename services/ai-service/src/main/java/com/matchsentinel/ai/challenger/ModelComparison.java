@@ -0,0 +1,143 @@
+package com.matchsentinel.ai.challenger;
+
+import com.matchsentinel.ai.dto.ModelComparisonResponse;
+import com.matchsentinel.ai.dto.ModelComparisonResponse.Confusion;
+import com.matchsentinel.ai.dto.ModelComparisonResponse.HistogramBin;
+import com.matchsentinel.ai.dto.ModelComparisonResponse.Sample;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+// Fixed-size aggregates for one champion/challenger pair: memory does not grow with traffic.
+final class ModelComparison {
+    static final int SCORE_BINS = 20;
+    static final int DIFFERENCE_BINS = 40;
+
+    private static final int BOTH = 3;
+    private static final int CHAMPION_ONLY = 2;
+    private static final int CHALLENGER_ONLY = 1;
+    private static final int NEITHER = 0;
+
+    private final String championVersion;
+    private final String challengerVersion;
+    private final double flagThreshold;
+    private final double sampleRate;
+    private final Instant since = Instant.now();
+    private final LongAdder compared = new LongAdder();
+    private final AtomicLongArray confusion = new AtomicLongArray(4);
+    private final DoubleAdder differenceSum = new DoubleAdder();
+    private final DoubleAdder absoluteDifferenceSum = new DoubleAdder();
+    private final LongAdder championNanos = new LongAdder();
+    private final LongAdder challengerNanos = new LongAdder();
+    private final AtomicLongArray differences = new AtomicLongArray(DIFFERENCE_BINS);
+    private final AtomicLongArray championScores = new AtomicLongArray(SCORE_BINS);
+    private final AtomicLongArray challengerScores = new AtomicLongArray(SCORE_BINS);
+    private final AtomicReferenceArray<Sample> samples;
+    private final AtomicLong sampleCursor = new AtomicLong();
+
+    ModelComparison(
+            String championVersion,
+            String challengerVersion,
+            double flagThreshold,
+            double sampleRate,
+            int sampleCapacity
+    ) {
+        this.championVersion = championVersion;
+        this.challengerVersion = challengerVersion;
+        this.flagThreshold = flagThreshold;
+        this.sampleRate = sampleRate;
+        this.samples = new AtomicReferenceArray<>(Math.max(1, sampleCapacity));
+    }
+
+    boolean covers(String champion, String challenger) {
+        return championVersion.equals(champion) && challengerVersion.equals(challenger);
+    }
+
+    void record(
+            List<UUID> transactionIds,
+            double[] champion,
+            double[] challenger,
+            long championBatchNanos,
+            long challengerBatchNanos
+    ) {
+        int rows = transactionIds.size();
+        double batchDifference = 0;
+        double batchAbsoluteDifference = 0;
+        Instant comparedAt = Instant.now();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int row = 0; row < rows; row++) {
+            double difference = challenger[row] - champion[row];
+            batchDifference += difference;
+            batchAbsoluteDifference += Math.abs(difference);
+            differences.incrementAndGet(bin((difference + 1) / 2, DIFFERENCE_BINS));
+            championScores.incrementAndGet(bin(champion[row], SCORE_BINS));
+            challengerScores.incrementAndGet(bin(challenger[row], SCORE_BINS));
+            boolean championFlagged = champion[row] >= flagThreshold;
+            boolean challengerFlagged = challenger[row] >= flagThreshold;
+            confusion.incrementAndGet((championFlagged ? CHAMPION_ONLY : 0) | (challengerFlagged ? CHALLENGER_ONLY : 0));
+            if (random.nextDouble() < sampleRate) {
+                int slot = (int) (sampleCursor.getAndIncrement() % samples.length());
+                samples.set(slot, new Sample(transactionIds.get(row), champion[row], challenger[row], comparedAt));
+            }
+        }
+        differenceSum.add(batchDifference);
+        absoluteDifferenceSum.add(batchAbsoluteDifference);
+        championNanos.add(championBatchNanos);
+        challengerNanos.add(challengerBatchNanos);
+        compared.add(rows);
+    }
+
+    // Concurrent writers may land between reads, so counters can disagree by a batch; fine for a dashboard.
+    ModelComparisonResponse snapshot() {
+        long total = compared.sum();
+        double divisor = Math.max(1, total);
+        List<Sample> sampled = new ArrayList<>();
+        for (int slot = 0; slot < samples.length(); slot++) {
+            Sample sample = samples.get(slot);
+            if (sample != null) {
+                sampled.add(sample);
+            }
+        }
+        return new ModelComparisonResponse(
+                championVersion,
+                challengerVersion,
+                since,
+                total,
+                flagThreshold,
+                new Confusion(
+                        confusion.get(BOTH),
+                        confusion.get(CHAMPION_ONLY),
+                        confusion.get(CHALLENGER_ONLY),
+                        confusion.get(NEITHER)
+                ),
+                differenceSum.sum() / divisor,
+                absoluteDifferenceSum.sum() / divisor,
+                championNanos.sum() / 1_000.0 / divisor,
+                challengerNanos.sum() / 1_000.0 / divisor,
+                histogram(differences, -1, 1),
+                histogram(championScores, 0, 1),
+                histogram(challengerScores, 0, 1),
+                sampled
+        );
+    }
+
+    private static int bin(double unitValue, int bins) {
+        return Math.min(bins - 1, Math.max(0, (int) (unitValue * bins)));
+    }
+
+    private static List<HistogramBin> histogram(AtomicLongArray counts, double lower, double upper) {
+        double width = (upper - lower) / counts.length();
+        List<HistogramBin> bins = new ArrayList<>(counts.length());
+        for (int i = 0; i < counts.length(); i++) {
+            bins.add(new HistogramBin(lower + i * width, lower + (i + 1) * width, counts.get(i)));
+        }
+        return bins;
+    }
+}
@@ -1,6 +1,8 @@
 package com.matchsentinel.ai.controller;
 
 import com.matchsentinel.ai.dto.AiDecisionResponse;
+import com.matchsentinel.ai.dto.BatchScoreRequest;
+import com.matchsentinel.ai.dto.BatchScoreResponse;
 import com.matchsentinel.ai.dto.ScoreTransactionRequest;
 import com.matchsentinel.ai.service.AiDecisionService;
 import jakarta.validation.Valid;
@@ -28,6 +30,11 @@ public class AiDecisionController {
         return ResponseEntity.ok(decisionService.score(request));
     }
 
+    @PostMapping("/score/batch")
+    public ResponseEntity<BatchScoreResponse> scoreBatch(@Valid @RequestBody BatchScoreRequest request) {
+        return ResponseEntity.ok(decisionService.scoreBatch(request));
+    }
+
     @GetMapping("/decisions/{id}")
     public ResponseEntity<AiDecisionResponse> getById(@PathVariable UUID id) {
         return decisionService.findById(id)
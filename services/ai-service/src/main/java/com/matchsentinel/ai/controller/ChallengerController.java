@@ -0,0 +1,32 @@
+package com.matchsentinel.ai.controller;
+
+import com.matchsentinel.ai.challenger.ComparisonStore;
+import com.matchsentinel.ai.dto.ModelComparisonResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/ai/challenger")
+public class ChallengerController {
+    private final ComparisonStore comparisons;
+
+    public ChallengerController(ComparisonStore comparisons) {
+        this.comparisons = comparisons;
+    }
+
+    @GetMapping("/comparison")
+    public ResponseEntity<ModelComparisonResponse> comparison() {
+        return comparisons.current()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/comparison")
+    public ResponseEntity<Void> reset() {
+        comparisons.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.matchsentinel.ai.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BatchScoreRequest(
+        @NotEmpty @Size(max = 10_000) List<@Valid ScoreTransactionRequest> transactions,
+        boolean dryRun
+) {
+}
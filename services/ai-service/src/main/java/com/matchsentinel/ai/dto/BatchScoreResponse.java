@@ -0,0 +1,11 @@
+package com.matchsentinel.ai.dto;
+
+import java.util.List;
+
+public record BatchScoreResponse(
+        boolean dryRun,
+        int scored,
+        int existing,
+        List<AiDecisionResponse> decisions
+) {
+}
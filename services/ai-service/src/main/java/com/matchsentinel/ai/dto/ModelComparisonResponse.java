@@ -0,0 +1,31 @@
+package com.matchsentinel.ai.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record ModelComparisonResponse(
+        String championVersion,
+        String challengerVersion,
+        Instant since,
+        long compared,
+        double flagThreshold,
+        Confusion confusion,
+        double meanScoreDifference,
+        double meanAbsoluteScoreDifference,
+        double championMicrosPerTransaction,
+        double challengerMicrosPerTransaction,
+        List<HistogramBin> scoreDifference,
+        List<HistogramBin> championScores,
+        List<HistogramBin> challengerScores,
+        List<Sample> samples
+) {
+    public record Confusion(long bothFlagged, long championOnly, long challengerOnly, long neitherFlagged) {
+    }
+
+    public record HistogramBin(double lowerBound, double upperBound, long count) {
+    }
+
+    public record Sample(UUID transactionId, double championScore, double challengerScore, Instant comparedAt) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.matchsentinel.ai.features;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccountFeatureStore {
+    private static final AccountFeatures EMPTY = new AccountFeatures();
+
+    private final Cache<UUID, AccountFeatures> accounts;
+    private final Function<UUID, AccountFeatures> newAccount = accountId -> new AccountFeatures();
+
+    public AccountFeatureStore(
+            MeterRegistry meterRegistry,
+            @Value("${ai.features.max-accounts}") long maxAccounts,
+            @Value("${ai.features.expire-after-idle-hours}") long expireAfterIdleHours
+    ) {
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maxAccounts)
+                .expireAfterAccess(Duration.ofHours(expireAfterIdleHours))
+                .build();
+        Gauge.builder("ai.features.accounts", accounts, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes the account's history features as they were before this transaction into
+     * {@code features[*][row]}, then folds the transaction into the aggregates.
+     */
+    public void observe(
+            UUID accountId,
+            BigDecimal amount,
+            String merchant,
+            Instant occurredAt,
+            double[][] features,
+            int row
+    ) {
+        AccountFeatures account = accounts.get(accountId, newAccount);
+        double value = amount == null ? 0 : amount.doubleValue();
+        long epochSecond = (occurredAt == null ? Instant.now() : occurredAt).getEpochSecond();
+        synchronized (account) {
+            account.read(value, epochSecond, features, row);
+            account.record(value, merchantHash(merchant), epochSecond);
+        }
+    }
+
+    /**
+     * Writes the same features as {@link #observe} without updating the account, for what-if scoring.
+     */
+    public void peek(
+            UUID accountId,
+            BigDecimal amount,
+            Instant occurredAt,
+            double[][] features,
+            int row
+    ) {
+        AccountFeatures account = accounts.getIfPresent(accountId);
+        double value = amount == null ? 0 : amount.doubleValue();
+        long epochSecond = (occurredAt == null ? Instant.now() : occurredAt).getEpochSecond();
+        (account == null ? EMPTY : account).read(value, epochSecond, features, row);
+    }
+
+    public long trackedAccounts() {
+        return accounts.estimatedSize();
+    }
+
+    private static int merchantHash(String merchant) {
+        return merchant == null ? 0 : merchant.trim().toLowerCase(Locale.ROOT).hashCode();
+    }
+}
@@ -0,0 +1,86 @@
+package com.matchsentinel.ai.features;
+
+import com.matchsentinel.ai.model.ModelFeatures;
+
+// Running aggregates for one account. Every update and read is O(1): Welford for the amount mean and
+// variance, an exponentially decayed transaction counter, and a fixed ring of recent merchant hashes.
+final class AccountFeatures {
+    static final int MERCHANT_SLOTS = 16;
+
+    private static final double HOUR_SECONDS = 3600.0;
+    private static final long DAY_SECONDS = 86_400;
+
+    private long count;
+    private double meanAmount;
+    private double squaredDeviations;
+    private double decayedHourCount;
+    private long lastEpochSecond = Long.MIN_VALUE;
+    // High 32 bits hold the merchant hash, low 32 bits the epoch second it was last seen.
+    private final long[] merchants = new long[MERCHANT_SLOTS];
+
+    synchronized void read(double amount, long epochSecond, double[][] features, int row) {
+        features[ModelFeatures.ACCOUNT_TXN_COUNT][row] = count;
+        features[ModelFeatures.ACCOUNT_MEAN_AMOUNT][row] = meanAmount;
+        double stddev = count > 1 ? Math.sqrt(squaredDeviations / (count - 1)) : 0;
+        features[ModelFeatures.ACCOUNT_AMOUNT_STDDEV][row] = stddev;
+        features[ModelFeatures.AMOUNT_ZSCORE][row] = stddev > 0 ? (amount - meanAmount) / stddev : 0;
+        features[ModelFeatures.TXN_COUNT_1H][row] = decayedHourCount * decay(epochSecond);
+        features[ModelFeatures.DISTINCT_MERCHANTS_24H][row] = distinctMerchants(epochSecond);
+        features[ModelFeatures.SECONDS_SINCE_LAST_TXN][row] = count == 0
+                ? -1
+                : Math.max(0, epochSecond - lastEpochSecond);
+    }
+
+    synchronized void record(double amount, int merchantHash, long epochSecond) {
+        count++;
+        double delta = amount - meanAmount;
+        meanAmount += delta / count;
+        squaredDeviations += delta * (amount - meanAmount);
+        decayedHourCount = decayedHourCount * decay(epochSecond) + 1;
+        lastEpochSecond = Math.max(lastEpochSecond, epochSecond);
+        rememberMerchant(merchantHash, epochSecond);
+    }
+
+    private double decay(long epochSecond) {
+        if (lastEpochSecond == Long.MIN_VALUE || epochSecond <= lastEpochSecond) {
+            return 1;
+        }
+        return Math.exp(-(epochSecond - lastEpochSecond) / HOUR_SECONDS);
+    }
+
+    private int distinctMerchants(long epochSecond) {
+        int distinct = 0;
+        for (long slot : merchants) {
+            if (slot != 0 && epochSecond - seenAt(slot) < DAY_SECONDS) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    private void rememberMerchant(int merchantHash, long epochSecond) {
+        int oldest = 0;
+        for (int i = 0; i < merchants.length; i++) {
+            long slot = merchants[i];
+            if (slot != 0 && (int) (slot >>> 32) == merchantHash) {
+                merchants[i] = pack(merchantHash, Math.max(seenAt(slot), epochSecond));
+                return;
+            }
+            if (slot == 0 || seenAt(slot) < seenAt(merchants[oldest])) {
+                oldest = i;
+                if (slot == 0) {
+                    break;
+                }
+            }
+        }
+        merchants[oldest] = pack(merchantHash, epochSecond);
+    }
+
+    private static long pack(int merchantHash, long epochSecond) {
+        return ((long) merchantHash << 32) | (epochSecond & 0xFFFF_FFFFL);
+    }
+
+    private static long seenAt(long slot) {
+        return slot & 0xFFFF_FFFFL;
+    }
+}
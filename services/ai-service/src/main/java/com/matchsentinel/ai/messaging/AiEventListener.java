@@ -2,7 +2,7 @@ package com.matchsentinel.ai.messaging;
 
 import com.matchsentinel.ai.dto.TransactionCreatedEvent;
 import com.matchsentinel.ai.service.AiDecisionService;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,8 +13,11 @@ public class AiEventListener {
         this.decisionService = decisionService;
     }
 
-    @RabbitListener(queues = "${ai.rabbit.input.queue}")
     public void onTransactionCreated(TransactionCreatedEvent event) {
         decisionService.handleTransactionCreated(event);
     }
+
+    public void onTransactionsCreated(List<TransactionCreatedEvent> events, long firstReceivedNanos) {
+        decisionService.handleTransactionsCreated(events, firstReceivedNanos);
+    }
 }
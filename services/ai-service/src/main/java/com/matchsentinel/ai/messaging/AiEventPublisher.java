@@ -1,7 +1,12 @@
 package com.matchsentinel.ai.messaging;
 
 import com.matchsentinel.ai.dto.TransactionScoredEvent;
+import java.util.List;
 
 public interface AiEventPublisher {
     void publishTransactionScored(TransactionScoredEvent event);
+
+    default void publishTransactionsScored(List<TransactionScoredEvent> events) {
+        events.forEach(this::publishTransactionScored);
+    }
 }
@@ -1,6 +1,7 @@
 package com.matchsentinel.ai.messaging;
 
 import com.matchsentinel.ai.dto.TransactionScoredEvent;
+import java.util.List;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -10,19 +11,36 @@ public class RabbitAiEventPublisher implements AiEventPublisher {
     private final RabbitTemplate rabbitTemplate;
     private final String exchange;
     private final String routingKey;
+    private final AccountPartitioner partitioner;
 
     public RabbitAiEventPublisher(
             RabbitTemplate rabbitTemplate,
             @Value("${ai.rabbit.output.exchange}") String exchange,
-            @Value("${ai.rabbit.output.routing-key}") String routingKey
+            @Value("${ai.rabbit.output.routing-key}") String routingKey,
+            @Value("${ai.rabbit.output.partitions}") int partitions
     ) {
         this.rabbitTemplate = rabbitTemplate;
         this.exchange = exchange;
         this.routingKey = routingKey;
+        this.partitioner = new AccountPartitioner(partitions);
     }
 
     @Override
     public void publishTransactionScored(TransactionScoredEvent event) {
-        rabbitTemplate.convertAndSend(exchange, routingKey, event);
+        rabbitTemplate.convertAndSend(exchange, routingKeyFor(event), event);
+    }
+
+    @Override
+    public void publishTransactionsScored(List<TransactionScoredEvent> events) {
+        rabbitTemplate.invoke(operations -> {
+            for (TransactionScoredEvent event : events) {
+                operations.convertAndSend(exchange, routingKeyFor(event), event);
+            }
+            return null;
+        });
+    }
+
+    String routingKeyFor(TransactionScoredEvent event) {
+        return routingKey + "." + partitioner.partitionFor(event.accountId());
     }
 }
@@ -1,20 +1,28 @@
 package com.matchsentinel.ai.messaging;
 
-import org.springframework.amqp.core.Binding;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitMqConfig {
 
+    // Set by the listener container as each message is taken off the consumer, before it joins a batch.
+    static final String RECEIVED_NANOS_HEADER = "x-ai-received-nanos";
+
     @Bean
     public DirectExchange inputExchange(@Value("${ai.rabbit.input.exchange}") String exchangeName) {
         return new DirectExchange(exchangeName);
@@ -26,17 +34,43 @@ public class RabbitMqConfig {
     }
 
     @Bean
-    public Queue inputQueue(@Value("${ai.rabbit.input.queue}") String queueName) {
-        return QueueBuilder.durable(queueName).build();
+    public Declarables inputPartitions(
+            DirectExchange inputExchange,
+            @Value("${ai.rabbit.input.queue}") String queuePrefix,
+            @Value("${ai.rabbit.input.routing-key}") String routingKey,
+            @Value("${ai.rabbit.input.partitions}") int partitions
+    ) {
+        List<Declarable> declarables = new ArrayList<>(partitions * 2);
+        for (int partition = 0; partition < partitions; partition++) {
+            Queue queue = QueueBuilder.durable(queuePrefix + "." + partition)
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(inputExchange).with(routingKey + "." + partition));
+        }
+        return new Declarables(declarables);
     }
 
     @Bean
-    public Binding inputBinding(
-            Queue inputQueue,
-            DirectExchange inputExchange,
-            @Value("${ai.rabbit.input.routing-key}") String routingKey
+    public SimpleRabbitListenerContainerFactory transactionBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${ai.rabbit.input.batch-size}") int batchSize,
+            @Value("${ai.rabbit.input.batch-max-wait-ms}") long batchMaxWaitMs
     ) {
-        return BindingBuilder.bind(inputQueue).to(inputExchange).with(routingKey);
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(batchMaxWaitMs);
+        factory.setBatchReceiveTimeout(batchMaxWaitMs);
+        factory.setAfterReceivePostProcessors(message -> {
+            message.getMessageProperties().setHeader(RECEIVED_NANOS_HEADER, System.nanoTime());
+            return message;
+        });
+        factory.setPrefetchCount(Math.max(batchSize * 2, 250));
+        return factory;
     }
 
     @Bean
@@ -0,0 +1,97 @@
+package com.matchsentinel.ai.messaging;
+
+import com.matchsentinel.ai.dto.TransactionCreatedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TransactionPartitionListenerConfig implements RabbitListenerConfigurer {
+
+    private final AiEventListener listener;
+    private final Jackson2JsonMessageConverter messageConverter;
+    private final SimpleRabbitListenerContainerFactory batchContainerFactory;
+    private final String queuePrefix;
+    private final List<Integer> assignedPartitions;
+    private final int batchSize;
+
+    public TransactionPartitionListenerConfig(
+            AiEventListener listener,
+            Jackson2JsonMessageConverter messageConverter,
+            SimpleRabbitListenerContainerFactory transactionBatchContainerFactory,
+            @Value("${ai.rabbit.input.queue}") String queuePrefix,
+            @Value("${ai.rabbit.input.partitions}") int partitions,
+            @Value("${ai.rabbit.input.assigned-partitions}") String assignedPartitions,
+            @Value("${ai.rabbit.input.batch-size}") int batchSize
+    ) {
+        this.listener = listener;
+        this.messageConverter = messageConverter;
+        this.batchContainerFactory = transactionBatchContainerFactory;
+        this.queuePrefix = queuePrefix;
+        this.assignedPartitions = parsePartitions(assignedPartitions, partitions);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        for (int partition : assignedPartitions) {
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId("transaction-created-" + partition);
+            endpoint.setQueueNames(queuePrefix + "." + partition);
+            endpoint.setConcurrency("1");
+            if (batchSize > 1) {
+                endpoint.setBatchListener(true);
+                endpoint.setMessageListener((BatchMessageListener) messages -> listener.onTransactionsCreated(
+                        messages.stream().map(this::toEvent).toList(), firstReceivedNanos(messages)));
+                registrar.registerEndpoint(endpoint, batchContainerFactory);
+            } else {
+                endpoint.setMessageListener(message -> listener.onTransactionCreated(toEvent(message)));
+                registrar.registerEndpoint(endpoint);
+            }
+        }
+    }
+
+    private TransactionCreatedEvent toEvent(Message message) {
+        message.getMessageProperties().setInferredArgumentType(TransactionCreatedEvent.class);
+        return (TransactionCreatedEvent) messageConverter.fromMessage(message);
+    }
+
+    // When the oldest message of the batch was received, so the batch wait excludes upstream and broker lag.
+    static long firstReceivedNanos(List<Message> messages) {
+        long now = System.nanoTime();
+        long first = now;
+        for (Message message : messages) {
+            if (message.getMessageProperties().getHeader(RabbitMqConfig.RECEIVED_NANOS_HEADER) instanceof Long received
+                    && received - first < 0) {
+                first = received;
+            }
+        }
+        return first;
+    }
+
+    static List<Integer> parsePartitions(String assigned, int partitions) {
+        List<Integer> result = new ArrayList<>();
+        if (assigned == null || assigned.isBlank()) {
+            for (int partition = 0; partition < partitions; partition++) {
+                result.add(partition);
+            }
+            return result;
+        }
+        for (String token : assigned.split(",")) {
+            int partition = Integer.parseInt(token.trim());
+            if (partition < 0 || partition >= partitions) {
+                throw new IllegalStateException("Assigned partition " + partition + " is outside 0.." + (partitions - 1));
+            }
+            result.add(partition);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.matchsentinel.ai.model;
+
+import java.util.Arrays;
+
+public final class LinearModel implements ScoringModel {
+    private final String version;
+    private final int[] features;
+    private final double[] coefficients;
+    private final double intercept;
+    private final Link link;
+
+    public LinearModel(String version, int[] features, double[] coefficients, double intercept, Link link) {
+        if (features.length != coefficients.length) {
+            throw new IllegalArgumentException("Every coefficient needs a feature");
+        }
+        this.version = version;
+        this.features = features;
+        this.coefficients = coefficients;
+        this.intercept = intercept;
+        this.link = link;
+    }
+
+    @Override
+    public String version() {
+        return version;
+    }
+
+    @Override
+    public double score(double[] values) {
+        double margin = intercept;
+        for (int i = 0; i < features.length; i++) {
+            margin += coefficients[i] * values[features[i]];
+        }
+        return link.apply(margin);
+    }
+
+    @Override
+    public void score(double[][] columns, int rows, double[] scores) {
+        Arrays.fill(scores, 0, rows, intercept);
+        for (int i = 0; i < features.length; i++) {
+            double coefficient = coefficients[i];
+            double[] column = columns[features[i]];
+            for (int row = 0; row < rows; row++) {
+                scores[row] += coefficient * column[row];
+            }
+        }
+        for (int row = 0; row < rows; row++) {
+            scores[row] = link.apply(scores[row]);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.matchsentinel.ai.model;
+
+public enum Link {
+    IDENTITY,
+    LOGISTIC;
+
+    public double apply(double margin) {
+        return this == LOGISTIC ? 1.0 / (1.0 + Math.exp(-margin)) : margin;
+    }
+}
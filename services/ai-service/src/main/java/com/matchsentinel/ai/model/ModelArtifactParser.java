@@ -0,0 +1,117 @@
+package com.matchsentinel.ai.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads exported model artifacts. Two types are supported:
+ * <pre>
+ * {"type": "linear", "version": "...", "link": "logistic", "intercept": -2.1,
+ *  "coefficients": {"amount": 0.0001, "high_risk_country": 1.7}}
+ *
+ * {"type": "tree_ensemble", "version": "...", "link": "logistic", "baseScore": -1.5,
+ *  "trees": [{"nodes": [{"feature": "amount", "threshold": 10000, "left": 1, "right": 2},
+ *                       {"leaf": -0.3}, {"leaf": 0.8}]}]}
+ * </pre>
+ * Tree child indices are local to their tree and must point forward.
+ */
+public final class ModelArtifactParser {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ModelArtifactParser() {
+    }
+
+    public static ScoringModel parse(InputStream input) throws IOException {
+        JsonNode root = MAPPER.readTree(input);
+        String version = required(root, "version").asText();
+        Link link = Link.valueOf(root.path("link").asText("identity").toUpperCase(Locale.ROOT));
+        String type = required(root, "type").asText();
+        return switch (type) {
+            case "linear" -> linear(root, version, link);
+            case "tree_ensemble" -> treeEnsemble(root, version, link);
+            default -> throw new IllegalArgumentException("Unsupported model type " + type);
+        };
+    }
+
+    private static LinearModel linear(JsonNode root, String version, Link link) {
+        JsonNode coefficients = required(root, "coefficients");
+        int[] features = new int[coefficients.size()];
+        double[] weights = new double[coefficients.size()];
+        int index = 0;
+        for (Iterator<Map.Entry<String, JsonNode>> it = coefficients.fields(); it.hasNext(); index++) {
+            Map.Entry<String, JsonNode> coefficient = it.next();
+            features[index] = ModelFeatures.indexOf(coefficient.getKey());
+            weights[index] = coefficient.getValue().asDouble();
+        }
+        return new LinearModel(version, features, weights, root.path("intercept").asDouble(0), link);
+    }
+
+    private static TreeEnsembleModel treeEnsemble(JsonNode root, String version, Link link) {
+        List<Integer> roots = new ArrayList<>();
+        List<JsonNode> nodes = new ArrayList<>();
+        for (JsonNode tree : required(root, "trees")) {
+            JsonNode treeNodes = required(tree, "nodes");
+            if (treeNodes.isEmpty()) {
+                throw new IllegalArgumentException("Tree " + roots.size() + " has no nodes");
+            }
+            roots.add(nodes.size());
+            treeNodes.forEach(nodes::add);
+        }
+
+        int[] feature = new int[nodes.size()];
+        double[] threshold = new double[nodes.size()];
+        int[] left = new int[nodes.size()];
+        int[] right = new int[nodes.size()];
+        double[] leafValue = new double[nodes.size()];
+        for (int tree = 0; tree < roots.size(); tree++) {
+            int offset = roots.get(tree);
+            int end = tree + 1 < roots.size() ? roots.get(tree + 1) : nodes.size();
+            for (int node = offset; node < end; node++) {
+                JsonNode definition = nodes.get(node);
+                if (definition.has("leaf")) {
+                    feature[node] = -1;
+                    leafValue[node] = definition.get("leaf").asDouble();
+                    continue;
+                }
+                feature[node] = ModelFeatures.indexOf(required(definition, "feature").asText());
+                threshold[node] = required(definition, "threshold").asDouble();
+                left[node] = child(definition, "left", node, offset, end);
+                right[node] = child(definition, "right", node, offset, end);
+            }
+        }
+        return new TreeEnsembleModel(
+                version,
+                roots.stream().mapToInt(Integer::intValue).toArray(),
+                feature,
+                threshold,
+                left,
+                right,
+                leafValue,
+                root.path("baseScore").asDouble(0),
+                link
+        );
+    }
+
+    private static int child(JsonNode definition, String field, int node, int offset, int end) {
+        int child = offset + required(definition, field).asInt();
+        if (child <= node || child >= end) {
+            throw new IllegalArgumentException("Node " + (node - offset) + " has invalid " + field + " child");
+        }
+        return child;
+    }
+
+    private static JsonNode required(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            throw new IllegalArgumentException("Model artifact is missing " + field);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,48 @@
+package com.matchsentinel.ai.model;
+
+import java.util.List;
+
+public final class ModelFeatures {
+    public static final int AMOUNT = 0;
+    public static final int HIGH_AMOUNT = 1;
+    public static final int HIGH_RISK_COUNTRY = 2;
+    public static final int NON_USD_CURRENCY = 3;
+    public static final int WATCHLIST_WEIGHT = 4;
+    public static final int WATCHLIST_HITS = 5;
+    public static final int ACCOUNT_TXN_COUNT = 6;
+    public static final int ACCOUNT_MEAN_AMOUNT = 7;
+    public static final int ACCOUNT_AMOUNT_STDDEV = 8;
+    public static final int AMOUNT_ZSCORE = 9;
+    public static final int TXN_COUNT_1H = 10;
+    public static final int DISTINCT_MERCHANTS_24H = 11;
+    public static final int SECONDS_SINCE_LAST_TXN = 12;
+
+    private static final List<String> NAMES = List.of(
+            "amount",
+            "high_amount",
+            "high_risk_country",
+            "non_usd_currency",
+            "watchlist_weight",
+            "watchlist_hits",
+            "account_txn_count",
+            "account_mean_amount",
+            "account_amount_stddev",
+            "amount_zscore",
+            "txn_count_1h",
+            "distinct_merchants_24h",
+            "seconds_since_last_txn"
+    );
+
+    public static final int COUNT = NAMES.size();
+
+    private ModelFeatures() {
+    }
+
+    public static int indexOf(String name) {
+        int index = NAMES.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown model feature " + name + ", expected one of " + NAMES);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,13 @@
+package com.matchsentinel.ai.model;
+
+public interface ScoringModel {
+
+    String version();
+
+    double score(double[] features);
+
+    /**
+     * Scores {@code rows} transactions whose features are laid out column-wise, {@code columns[feature][row]}.
+     */
+    void score(double[][] columns, int rows, double[] scores);
+}
@@ -0,0 +1,81 @@
+package com.matchsentinel.ai.model;
+
+import java.util.Arrays;
+
+/**
+ * Gradient-boosted trees stored as parallel primitive arrays. A node with {@code feature < 0} is a leaf;
+ * otherwise traversal goes left when the feature value is below the threshold.
+ */
+public final class TreeEnsembleModel implements ScoringModel {
+    private final String version;
+    private final int[] roots;
+    private final int[] feature;
+    private final double[] threshold;
+    private final int[] left;
+    private final int[] right;
+    private final double[] leafValue;
+    private final double baseScore;
+    private final Link link;
+
+    public TreeEnsembleModel(
+            String version,
+            int[] roots,
+            int[] feature,
+            double[] threshold,
+            int[] left,
+            int[] right,
+            double[] leafValue,
+            double baseScore,
+            Link link
+    ) {
+        this.version = version;
+        this.roots = roots;
+        this.feature = feature;
+        this.threshold = threshold;
+        this.left = left;
+        this.right = right;
+        this.leafValue = leafValue;
+        this.baseScore = baseScore;
+        this.link = link;
+    }
+
+    @Override
+    public String version() {
+        return version;
+    }
+
+    @Override
+    public double score(double[] values) {
+        double margin = baseScore;
+        for (int root : roots) {
+            int node = root;
+            while (feature[node] >= 0) {
+                node = values[feature[node]] < threshold[node] ? left[node] : right[node];
+            }
+            margin += leafValue[node];
+        }
+        return link.apply(margin);
+    }
+
+    // Tree-major order keeps one tree's nodes hot in cache while every row walks it.
+    @Override
+    public void score(double[][] columns, int rows, double[] scores) {
+        Arrays.fill(scores, 0, rows, baseScore);
+        for (int root : roots) {
+            for (int row = 0; row < rows; row++) {
+                int node = root;
+                while (feature[node] >= 0) {
+                    node = columns[feature[node]][row] < threshold[node] ? left[node] : right[node];
+                }
+                scores[row] += leafValue[node];
+            }
+        }
+        for (int row = 0; row < rows; row++) {
+            scores[row] = link.apply(scores[row]);
+        }
+    }
+
+    public int treeCount() {
+        return roots.length;
+    }
+}
@@ -1,10 +1,19 @@
 package com.matchsentinel.ai.repository;
 
 import com.matchsentinel.ai.domain.AiDecision;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AiDecisionRepository extends JpaRepository<AiDecision, UUID> {
     Optional<AiDecision> findByTransactionId(UUID transactionId);
+
+    List<AiDecision> findByTransactionIdIn(Collection<UUID> transactionIds);
+
+    @Query("select d.transactionId from AiDecision d where d.transactionId in :transactionIds")
+    List<UUID> findTransactionIdsIn(@Param("transactionIds") Collection<UUID> transactionIds);
 }
@@ -2,6 +2,8 @@ package com.matchsentinel.ai.service;
 
 import com.matchsentinel.ai.domain.AiDecision;
 import com.matchsentinel.ai.dto.AiDecisionResponse;
+import com.matchsentinel.ai.dto.BatchScoreRequest;
+import com.matchsentinel.ai.dto.BatchScoreResponse;
 import com.matchsentinel.ai.dto.ScoreTransactionRequest;
 import com.matchsentinel.ai.dto.TransactionCreatedEvent;
 import com.matchsentinel.ai.dto.TransactionScoredEvent;
@@ -9,11 +11,21 @@ import com.matchsentinel.ai.messaging.AiEventPublisher;
 import com.matchsentinel.ai.repository.AiDecisionRepository;
 import com.matchsentinel.ai.service.AiScoringService.AiScore;
 import com.matchsentinel.ai.service.AiScoringService.TransactionInput;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,89 +35,250 @@ public class AiDecisionService {
     private final AiDecisionRepository repository;
     private final AiScoringService scoringService;
     private final AiEventPublisher eventPublisher;
+    private final TransactionIdFilter transactionIds;
+    private final ParallelScorer parallelScorer;
+    private final DistributionSummary batchSize;
+    private final Timer queueDelay;
+    private final Timer computeTime;
+    private final Timer persistTime;
 
     public AiDecisionService(
             AiDecisionRepository repository,
             AiScoringService scoringService,
-            AiEventPublisher eventPublisher
+            AiEventPublisher eventPublisher,
+            TransactionIdFilter transactionIds,
+            ParallelScorer parallelScorer,
+            MeterRegistry meterRegistry
     ) {
         this.repository = repository;
         this.scoringService = scoringService;
         this.eventPublisher = eventPublisher;
+        this.transactionIds = transactionIds;
+        this.parallelScorer = parallelScorer;
+        this.batchSize = DistributionSummary.builder("ai.batch.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueDelay = batchTimer(meterRegistry, "ai.batch.queue.delay");
+        this.computeTime = batchTimer(meterRegistry, "ai.batch.compute");
+        this.persistTime = batchTimer(meterRegistry, "ai.batch.persist");
     }
 
     @Transactional
     public AiDecisionResponse handleTransactionCreated(TransactionCreatedEvent event) {
-        Optional<AiDecision> existing = repository.findByTransactionId(event.id());
+        Optional<AiDecision> existing = findExisting(event.id());
         if (existing.isPresent()) {
             return toResponse(existing.get());
         }
 
-        TransactionInput input = new TransactionInput(
-                event.id(),
-                event.accountId(),
-                event.amount(),
-                event.currency(),
-                event.country(),
-                event.merchant(),
-                event.occurredAt()
-        );
-        return createAndPublish(input);
+        return createAndPublish(toInput(event));
+    }
+
+    // Not transactional: saveAll commits on its own so a duplicate surfaces here and the batch can fall back.
+    // firstReceivedNanos is when the listener took the batch's oldest message, so the queue delay is the wait
+    // inside the micro-batching stage, not upstream relay, broker lag or clock skew between hosts.
+    public void handleTransactionsCreated(List<TransactionCreatedEvent> events, long firstReceivedNanos) {
+        queueDelay.record(System.nanoTime() - firstReceivedNanos, TimeUnit.NANOSECONDS);
+        batchSize.record(events.size());
+        Map<UUID, TransactionCreatedEvent> pending = new LinkedHashMap<>();
+        List<UUID> possiblyScored = new ArrayList<>();
+        for (TransactionCreatedEvent event : events) {
+            if (pending.putIfAbsent(event.id(), event) == null && transactionIds.mightContain(event.id())) {
+                possiblyScored.add(event.id());
+            }
+        }
+        if (!possiblyScored.isEmpty()) {
+            repository.findTransactionIdsIn(possiblyScored).forEach(pending::remove);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long computeStarted = System.nanoTime();
+        List<TransactionInput> inputs = pending.values().stream().map(this::toInput).toList();
+        List<AiScore> scores = scoringService.scoreBatch(inputs);
+        computeTime.record(System.nanoTime() - computeStarted, TimeUnit.NANOSECONDS);
+
+        long persistStarted = System.nanoTime();
+        if (persistAndPublish(inputs, scores) == null) {
+            for (int i = 0; i < inputs.size(); i++) {
+                resolveScored(inputs.get(i), scores.get(i));
+            }
+            return;
+        }
+        persistTime.record(System.nanoTime() - persistStarted, TimeUnit.NANOSECONDS);
     }
 
     @Transactional
     public AiDecisionResponse score(ScoreTransactionRequest request) {
-        Optional<AiDecision> existing = repository.findByTransactionId(request.transactionId());
+        Optional<AiDecision> existing = findExisting(request.transactionId());
         if (existing.isPresent()) {
             return toResponse(existing.get());
         }
 
-        TransactionInput input = new TransactionInput(
-                request.transactionId(),
-                request.accountId(),
-                request.amount(),
-                request.currency(),
-                request.country(),
-                request.merchant(),
-                request.occurredAt()
-        );
-        return createAndPublish(input);
+        return createAndPublish(toInput(request));
     }
 
+    /**
+     * Scores many transactions at once. Already-scored transactions are resolved with a single lookup,
+     * the rest are scored in parallel and persisted in bulk. A dry run scores every transaction against
+     * the live model without reading or writing decisions, publishing events or updating account features.
+     */
+    public BatchScoreResponse scoreBatch(BatchScoreRequest request) {
+        Map<UUID, TransactionInput> pending = new LinkedHashMap<>();
+        for (ScoreTransactionRequest transaction : request.transactions()) {
+            pending.putIfAbsent(transaction.transactionId(), toInput(transaction));
+        }
+
+        Map<UUID, AiDecisionResponse> decisions = new HashMap<>();
+        if (!request.dryRun()) {
+            List<UUID> possiblyScored = pending.keySet().stream()
+                    .filter(transactionIds::mightContain)
+                    .toList();
+            if (!possiblyScored.isEmpty()) {
+                repository.findByTransactionIdIn(possiblyScored)
+                        .forEach(decision -> decisions.put(decision.getTransactionId(), toResponse(decision)));
+            }
+        }
+        int existing = decisions.size();
+
+        List<TransactionInput> inputs = pending.values().stream()
+                .filter(input -> !decisions.containsKey(input.transactionId()))
+                .toList();
+        if (!inputs.isEmpty()) {
+            List<AiScore> scores = parallelScorer.score(inputs, !request.dryRun());
+            if (request.dryRun()) {
+                for (int i = 0; i < inputs.size(); i++) {
+                    TransactionInput input = inputs.get(i);
+                    decisions.put(input.transactionId(), toResponse(toDecision(input, scores.get(i), null)));
+                }
+            } else {
+                List<AiDecision> saved = persistAndPublish(inputs, scores);
+                if (saved == null) {
+                    for (int i = 0; i < inputs.size(); i++) {
+                        decisions.put(inputs.get(i).transactionId(), resolveScored(inputs.get(i), scores.get(i)));
+                    }
+                } else {
+                    saved.forEach(decision -> decisions.put(decision.getTransactionId(), toResponse(decision)));
+                }
+            }
+        }
+
+        List<AiDecisionResponse> ordered = pending.keySet().stream().map(decisions::get).toList();
+        return new BatchScoreResponse(request.dryRun(), inputs.size(), existing, ordered);
+    }
+
+    @Cacheable(cacheNames = "decisions", unless = "#result == null")
     @Transactional(readOnly = true)
     public Optional<AiDecisionResponse> findById(UUID id) {
         return repository.findById(id).map(this::toResponse);
     }
 
+    @Cacheable(cacheNames = "decisionsByTransaction", unless = "#result == null")
     @Transactional(readOnly = true)
     public Optional<AiDecisionResponse> findByTransactionId(UUID transactionId) {
         return repository.findByTransactionId(transactionId).map(this::toResponse);
     }
 
+    private Optional<AiDecision> findExisting(UUID transactionId) {
+        if (!transactionIds.mightContain(transactionId)) {
+            return Optional.empty();
+        }
+        return repository.findByTransactionId(transactionId);
+    }
+
     private AiDecisionResponse createAndPublish(TransactionInput input) {
-        AiScore score = scoringService.score(input);
+        return persistScored(input, scoringService.score(input));
+    }
+
+    // Per-item fallback for a batch whose bulk insert conflicted. Reuses the batch's scores: scoring again
+    // would fold each transaction into its account features and the challenger comparison a second time.
+    private AiDecisionResponse resolveScored(TransactionInput input, AiScore score) {
+        return findExisting(input.transactionId())
+                .map(this::toResponse)
+                .orElseGet(() -> persistScored(input, score));
+    }
+
+    private AiDecisionResponse persistScored(TransactionInput input, AiScore score) {
         AiDecision saved;
         try {
-            saved = repository.save(AiDecision.builder()
-                    .transactionId(input.transactionId())
-                    .accountId(input.accountId())
-                    .amount(input.amount())
-                    .currency(input.currency())
-                    .country(input.country())
-                    .merchant(input.merchant())
-                    .occurredAt(input.occurredAt())
-                    .riskScore(score.riskScore())
-                    .reasons(String.join(",", score.reasons()))
-                    .modelVersion(score.modelVersion())
-                    .createdAt(Instant.now())
-                    .build());
+            saved = repository.save(toDecision(input, score, Instant.now()));
         } catch (DataIntegrityViolationException ex) {
+            transactionIds.add(input.transactionId());
             return repository.findByTransactionId(input.transactionId())
                     .map(this::toResponse)
                     .orElseThrow(() -> ex);
         }
+        transactionIds.add(saved.getTransactionId());
+
+        eventPublisher.publishTransactionScored(toEvent(saved, score));
+
+        return toResponse(saved);
+    }
+
+    // Returns null when another writer stored one of the decisions first, so the caller can fall back per item.
+    private List<AiDecision> persistAndPublish(List<TransactionInput> inputs, List<AiScore> scores) {
+        Instant createdAt = Instant.now();
+        List<AiDecision> decisions = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            decisions.add(toDecision(inputs.get(i), scores.get(i), createdAt));
+        }
+        List<AiDecision> saved;
+        try {
+            saved = repository.saveAll(decisions);
+        } catch (DataIntegrityViolationException ex) {
+            return null;
+        }
+        List<TransactionScoredEvent> published = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            transactionIds.add(saved.get(i).getTransactionId());
+            published.add(toEvent(saved.get(i), scores.get(i)));
+        }
+        eventPublisher.publishTransactionsScored(published);
+        return saved;
+    }
 
-        eventPublisher.publishTransactionScored(new TransactionScoredEvent(
+    private TransactionInput toInput(ScoreTransactionRequest request) {
+        return new TransactionInput(
+                request.transactionId(),
+                request.accountId(),
+                request.amount(),
+                request.currency(),
+                request.country(),
+                request.merchant(),
+                request.occurredAt()
+        );
+    }
+
+    private TransactionInput toInput(TransactionCreatedEvent event) {
+        return new TransactionInput(
+                event.id(),
+                event.accountId(),
+                event.amount(),
+                event.currency(),
+                event.country(),
+                event.merchant(),
+                event.occurredAt()
+        );
+    }
+
+    private AiDecision toDecision(TransactionInput input, AiScore score, Instant createdAt) {
+        return AiDecision.builder()
+                .transactionId(input.transactionId())
+                .accountId(input.accountId())
+                .amount(input.amount())
+                .currency(input.currency())
+                .country(input.country())
+                .merchant(input.merchant())
+                .occurredAt(input.occurredAt())
+                .riskScore(score.riskScore())
+                .reasons(String.join(",", score.reasons()))
+                .modelVersion(score.modelVersion())
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private TransactionScoredEvent toEvent(AiDecision saved, AiScore score) {
+        return new TransactionScoredEvent(
                 saved.getTransactionId(),
                 saved.getAccountId(),
                 saved.getAmount(),
@@ -115,11 +288,9 @@ public class AiDecisionService {
                 saved.getOccurredAt(),
                 score.scoredAt(),
                 saved.getRiskScore(),
-                splitReasons(saved.getReasons()),
+                score.reasons(),
                 saved.getModelVersion()
-        ));
-
-        return toResponse(saved);
+        );
     }
 
     private AiDecisionResponse toResponse(AiDecision decision) {
@@ -139,6 +310,14 @@ public class AiDecisionService {
         );
     }
 
+    private static Timer batchTimer(MeterRegistry meterRegistry, String name) {
+        return Timer.builder(name)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
     private List<String> splitReasons(String reasons) {
         if (reasons == null || reasons.isBlank()) {
             return List.of();
@@ -1,54 +1,215 @@
 package com.matchsentinel.ai.service;
 
+import com.matchsentinel.ai.challenger.ChallengerScorer;
+import com.matchsentinel.ai.features.AccountFeatureStore;
+import com.matchsentinel.ai.model.ModelFeatures;
+import com.matchsentinel.ai.model.ScoringModel;
+import com.matchsentinel.ai.watchlist.MerchantWatchlist;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AiScoringService {
-    private static final String MODEL_VERSION = "heuristic-v1";
+    private static final BigDecimal HIGH_AMOUNT_THRESHOLD = new BigDecimal("10000");
     private static final Set<String> HIGH_RISK_COUNTRIES = new HashSet<>(
             List.of("IR", "KP", "SY", "RU")
     );
+    private static final ThreadLocal<Columns> COLUMNS = ThreadLocal.withInitial(Columns::new);
+
+    private final List<Heuristic> heuristics;
+    private final MerchantWatchlistRegistry watchlists;
+    private final ScoringModelRegistry models;
+    private final AccountFeatureStore featureStore;
+    private final ChallengerScorer challenger;
+    private final MeterRegistry meterRegistry;
+    private final Timer featureLatency;
+    private final Timer watchlistLatency;
+    private final Timer modelLatency;
+    private volatile WatchlistMeters watchlistMeters;
+
+    public AiScoringService(
+            MeterRegistry meterRegistry,
+            MerchantWatchlistRegistry watchlists,
+            ScoringModelRegistry models,
+            AccountFeatureStore featureStore,
+            ChallengerScorer challenger
+    ) {
+        this.watchlists = watchlists;
+        this.models = models;
+        this.featureStore = featureStore;
+        this.challenger = challenger;
+        this.meterRegistry = meterRegistry;
+        this.featureLatency = meterRegistry.timer("ai.features.evaluation");
+        this.watchlistLatency = meterRegistry.timer("ai.heuristic.evaluation", "reason", "MERCHANT_WATCHLIST");
+        this.modelLatency = meterRegistry.timer("ai.model.evaluation");
+        this.heuristics = List.of(
+                heuristic(meterRegistry, "HIGH_AMOUNT", ModelFeatures.HIGH_AMOUNT,
+                        input -> input.amount().compareTo(HIGH_AMOUNT_THRESHOLD) >= 0),
+                heuristic(meterRegistry, "HIGH_RISK_COUNTRY", ModelFeatures.HIGH_RISK_COUNTRY,
+                        input -> HIGH_RISK_COUNTRIES.contains(input.country().toUpperCase(Locale.ROOT))),
+                heuristic(meterRegistry, "NON_USD_CURRENCY", ModelFeatures.NON_USD_CURRENCY,
+                        input -> !"USD".equalsIgnoreCase(input.currency()))
+        );
+    }
 
     public AiScore score(TransactionInput input) {
-        BigDecimal score = BigDecimal.ZERO;
-        List<String> reasons = new ArrayList<>();
+        return scoreBatch(List.of(input)).get(0);
+    }
+
+    public List<AiScore> scoreBatch(List<TransactionInput> inputs) {
+        return scoreBatch(inputs, true);
+    }
+
+    /**
+     * Scores {@code inputs} in one columnar pass. With {@code observe} false the account feature store is
+     * only read and no challenger comparison is queued, so what-if runs leave no trace.
+     */
+    public List<AiScore> scoreBatch(List<TransactionInput> inputs, boolean observe) {
+        int rows = inputs.size();
+        Columns columns = COLUMNS.get().reset(rows);
+        WatchlistMeters meters = watchlistMeters(watchlists.current());
+        List<List<String>> reasons = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            reasons.add(extract(inputs.get(row), meters, columns.features, row, observe));
+        }
 
-        if (input.amount().compareTo(new BigDecimal("10000")) >= 0) {
-            score = score.add(new BigDecimal("0.50"));
-            reasons.add("HIGH_AMOUNT");
+        ScoringModel model = models.current();
+        long started = System.nanoTime();
+        model.score(columns.features, rows, columns.scores);
+        long elapsed = System.nanoTime() - started;
+        modelLatency.record(elapsed, TimeUnit.NANOSECONDS);
+        if (observe) {
+            challenger.submit(
+                    inputs.stream().map(TransactionInput::transactionId).toList(),
+                    columns.features,
+                    columns.scores,
+                    model.version(),
+                    elapsed
+            );
         }
 
-        String country = input.country().toUpperCase(Locale.ROOT);
-        if (HIGH_RISK_COUNTRIES.contains(country)) {
-            score = score.add(new BigDecimal("0.40"));
-            reasons.add("HIGH_RISK_COUNTRY");
+        Instant scoredAt = Instant.now();
+        List<AiScore> scores = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            double clamped = Math.min(1.0, Math.max(0.0, columns.scores[row]));
+            BigDecimal score = BigDecimal.valueOf(clamped).setScale(2, RoundingMode.HALF_UP);
+            scores.add(new AiScore(score, reasons.get(row), model.version(), scoredAt));
+        }
+        return scores;
+    }
+
+    private List<String> extract(
+            TransactionInput input,
+            WatchlistMeters meters,
+            double[][] features,
+            int row,
+            boolean observe
+    ) {
+        features[ModelFeatures.AMOUNT][row] = input.amount().doubleValue();
+        long featuresStarted = System.nanoTime();
+        if (observe) {
+            featureStore.observe(
+                    input.accountId(), input.amount(), input.merchant(), input.occurredAt(), features, row);
+        } else {
+            featureStore.peek(input.accountId(), input.amount(), input.occurredAt(), features, row);
         }
+        featureLatency.record(System.nanoTime() - featuresStarted, TimeUnit.NANOSECONDS);
+        List<String> reasons = new ArrayList<>();
 
-        String merchant = input.merchant().toLowerCase(Locale.ROOT);
-        if (merchant.contains("crypto") || merchant.contains("exchange")) {
-            score = score.add(new BigDecimal("0.20"));
-            reasons.add("CRYPTO_MERCHANT");
+        for (Heuristic heuristic : heuristics) {
+            long started = System.nanoTime();
+            boolean hit = heuristic.check().test(input);
+            heuristic.latency().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            if (hit) {
+                heuristic.hits().increment();
+                features[heuristic.feature()][row] = 1;
+                reasons.add(heuristic.reason());
+            }
         }
 
-        if (!"USD".equalsIgnoreCase(input.currency())) {
-            score = score.add(new BigDecimal("0.10"));
-            reasons.add("NON_USD_CURRENCY");
+        long started = System.nanoTime();
+        long matched = meters.watchlist().match(input.merchant());
+        watchlistLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        while (matched != 0) {
+            int reason = Long.numberOfTrailingZeros(matched);
+            matched &= matched - 1;
+            meters.hits()[reason].increment();
+            features[ModelFeatures.WATCHLIST_WEIGHT][row] += meters.watchlist().weight(reason).doubleValue();
+            features[ModelFeatures.WATCHLIST_HITS][row]++;
+            reasons.add(meters.watchlist().reason(reason));
         }
+        return reasons;
+    }
 
-        if (score.compareTo(BigDecimal.ONE) > 0) {
-            score = BigDecimal.ONE;
+    private WatchlistMeters watchlistMeters(MerchantWatchlist watchlist) {
+        WatchlistMeters current = watchlistMeters;
+        if (current != null && current.watchlist() == watchlist) {
+            return current;
         }
+        Counter[] hits = new Counter[watchlist.reasonCount()];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = meterRegistry.counter("ai.heuristic.hits", "reason", watchlist.reason(i));
+        }
+        current = new WatchlistMeters(watchlist, hits);
+        watchlistMeters = current;
+        return current;
+    }
+
+    private static Heuristic heuristic(
+            MeterRegistry meterRegistry,
+            String reason,
+            int feature,
+            Predicate<TransactionInput> check
+    ) {
+        return new Heuristic(
+                reason,
+                feature,
+                check,
+                meterRegistry.timer("ai.heuristic.evaluation", "reason", reason),
+                meterRegistry.counter("ai.heuristic.hits", "reason", reason)
+        );
+    }
 
-        score = score.setScale(2, RoundingMode.HALF_UP);
-        return new AiScore(score, reasons, MODEL_VERSION, Instant.now());
+    private record Heuristic(
+            String reason,
+            int feature,
+            Predicate<TransactionInput> check,
+            Timer latency,
+            Counter hits
+    ) {
+    }
+
+    private record WatchlistMeters(MerchantWatchlist watchlist, Counter[] hits) {
+    }
+
+    private static final class Columns {
+        private double[][] features = new double[ModelFeatures.COUNT][0];
+        private double[] scores = new double[0];
+
+        private Columns reset(int rows) {
+            if (scores.length < rows) {
+                features = new double[ModelFeatures.COUNT][rows];
+                scores = new double[rows];
+                return this;
+            }
+            for (double[] column : features) {
+                Arrays.fill(column, 0, rows, 0);
+            }
+            return this;
+        }
     }
 
     public record TransactionInput(
@@ -0,0 +1,88 @@
+package com.matchsentinel.ai.service;
+
+import com.matchsentinel.ai.model.ModelArtifactParser;
+import com.matchsentinel.ai.model.ScoringModel;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Holds the optional challenger model scored next to the live one. With no location configured
+ * {@link #current()} returns null and challenger scoring is off.
+ */
+@Service
+public class ChallengerModelRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(ChallengerModelRegistry.class);
+
+    private final Resource location;
+    private volatile ScoringModel current;
+    private volatile String loadedVersion;
+
+    public ChallengerModelRegistry(
+            @Value("${ai.challenger.location}") String location,
+            ResourceLoader resourceLoader
+    ) {
+        this.location = location == null || location.isBlank() ? null : resourceLoader.getResource(location.trim());
+    }
+
+    public ScoringModel current() {
+        return current;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (location == null) {
+            return;
+        }
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            logger.warn("Challenger model {} could not be loaded, challenger scoring stays off",
+                    location.getDescription(), ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ai.model.refresh-interval-ms}")
+    public void refreshIfChanged() {
+        if (location == null) {
+            return;
+        }
+        try {
+            if (!version().equals(loadedVersion)) {
+                reload();
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Challenger model refresh failed, keeping {}",
+                    current == null ? "none" : current.version(), ex);
+        }
+    }
+
+    public synchronized void reload() {
+        String version = version();
+        ScoringModel loaded;
+        try (InputStream input = location.getInputStream()) {
+            loaded = ModelArtifactParser.parse(input);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to read challenger model " + location.getDescription(), ex);
+        }
+        current = loaded;
+        loadedVersion = version;
+        logger.info("Loaded challenger model {} from {}", loaded.version(), location.getDescription());
+    }
+
+    private String version() {
+        try {
+            return location.lastModified() + "/" + location.contentLength();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to stat challenger model " + location.getDescription(), ex);
+        }
+    }
+}
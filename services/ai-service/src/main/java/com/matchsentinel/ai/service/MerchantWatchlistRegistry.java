@@ -0,0 +1,98 @@
+package com.matchsentinel.ai.service;
+
+import com.matchsentinel.ai.watchlist.MerchantWatchlist;
+import com.matchsentinel.ai.watchlist.WatchlistEntry;
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MerchantWatchlistRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(MerchantWatchlistRegistry.class);
+
+    private final Resource location;
+    private volatile MerchantWatchlist current = MerchantWatchlist.empty();
+    private volatile String loadedVersion;
+
+    public MerchantWatchlistRegistry(@Value("${ai.watchlist.location}") Resource location) {
+        this.location = location;
+    }
+
+    public MerchantWatchlist current() {
+        return current;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${ai.watchlist.refresh-interval-ms}")
+    public void refreshIfChanged() {
+        try {
+            if (!version().equals(loadedVersion)) {
+                reload();
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Watchlist refresh failed, keeping {} loaded keywords", current.keywordCount(), ex);
+        }
+    }
+
+    public synchronized void reload() {
+        String version = version();
+        current = MerchantWatchlist.compile(read());
+        loadedVersion = version;
+        logger.info("Loaded {} watchlist keywords across {} reason codes from {}",
+                current.keywordCount(), current.reasonCount(), location.getDescription());
+    }
+
+    // Each line is keyword,reason,weight; the keyword may itself contain commas.
+    private List<WatchlistEntry> read() {
+        List<WatchlistEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                int weightSeparator = trimmed.lastIndexOf(',');
+                int reasonSeparator = weightSeparator < 0 ? -1 : trimmed.lastIndexOf(',', weightSeparator - 1);
+                if (reasonSeparator <= 0) {
+                    throw new IllegalArgumentException("Watchlist line " + lineNumber + " must be keyword,reason,weight");
+                }
+                entries.add(new WatchlistEntry(
+                        trimmed.substring(0, reasonSeparator).trim(),
+                        trimmed.substring(reasonSeparator + 1, weightSeparator).trim(),
+                        new BigDecimal(trimmed.substring(weightSeparator + 1).trim())
+                ));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to read watchlist " + location.getDescription(), ex);
+        }
+        return entries;
+    }
+
+    private String version() {
+        try {
+            return location.lastModified() + "/" + location.contentLength();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to stat watchlist " + location.getDescription(), ex);
+        }
+    }
+}
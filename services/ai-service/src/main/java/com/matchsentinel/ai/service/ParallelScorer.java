@@ -0,0 +1,89 @@
+package com.matchsentinel.ai.service;
+
+import com.matchsentinel.ai.service.AiScoringService.AiScore;
+import com.matchsentinel.ai.service.AiScoringService.TransactionInput;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scores large request batches across a fixed worker pool. Inputs are sharded by account so each
+ * account's transactions are scored in request order by a single worker, keeping feature updates
+ * deterministic; each shard is scored columnar in chunks of {@code chunkSize} rows.
+ */
+@Component
+public class ParallelScorer {
+    private final AiScoringService scoringService;
+    private final int parallelism;
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    public ParallelScorer(
+            AiScoringService scoringService,
+            @Value("${ai.score.batch.parallelism}") int parallelism,
+            @Value("${ai.score.batch.chunk-size}") int chunkSize
+    ) {
+        this.scoringService = scoringService;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = Math.max(1, chunkSize);
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.parallelism, task -> {
+            Thread thread = new Thread(task, "ai-batch-score-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<AiScore> score(List<TransactionInput> inputs, boolean observe) {
+        int shards = Math.min(parallelism, (inputs.size() + chunkSize - 1) / chunkSize);
+        if (shards <= 1) {
+            return scoreShard(inputs, observe);
+        }
+
+        List<List<Integer>> rows = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            rows.add(new ArrayList<>());
+        }
+        for (int row = 0; row < inputs.size(); row++) {
+            rows.get(Math.floorMod(inputs.get(row).accountId().hashCode(), shards)).add(row);
+        }
+
+        AiScore[] scores = new AiScore[inputs.size()];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            List<Integer> shardRows = rows.get(shard);
+            futures[shard] = CompletableFuture.runAsync(() -> {
+                List<AiScore> shardScores = scoreShard(shardRows.stream().map(inputs::get).toList(), observe);
+                for (int i = 0; i < shardRows.size(); i++) {
+                    scores[shardRows.get(i)] = shardScores.get(i);
+                }
+            }, executor);
+        }
+        CompletableFuture.allOf(futures).join();
+        return Arrays.asList(scores);
+    }
+
+    private List<AiScore> scoreShard(List<TransactionInput> inputs, boolean observe) {
+        if (inputs.size() <= chunkSize) {
+            return scoringService.scoreBatch(inputs, observe);
+        }
+        List<AiScore> scores = new ArrayList<>(inputs.size());
+        for (int from = 0; from < inputs.size(); from += chunkSize) {
+            scores.addAll(scoringService.scoreBatch(
+                    inputs.subList(from, Math.min(inputs.size(), from + chunkSize)), observe));
+        }
+        return scores;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
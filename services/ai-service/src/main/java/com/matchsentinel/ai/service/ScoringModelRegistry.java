@@ -0,0 +1,68 @@
+package com.matchsentinel.ai.service;
+
+import com.matchsentinel.ai.model.ModelArtifactParser;
+import com.matchsentinel.ai.model.ScoringModel;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ScoringModelRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(ScoringModelRegistry.class);
+
+    private final Resource location;
+    private volatile ScoringModel current;
+    private volatile String loadedVersion;
+
+    public ScoringModelRegistry(@Value("${ai.model.location}") Resource location) {
+        this.location = location;
+    }
+
+    public ScoringModel current() {
+        return current;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${ai.model.refresh-interval-ms}")
+    public void refreshIfChanged() {
+        try {
+            if (!version().equals(loadedVersion)) {
+                reload();
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Model refresh failed, keeping {}", current.version(), ex);
+        }
+    }
+
+    public synchronized void reload() {
+        String version = version();
+        ScoringModel loaded;
+        try (InputStream input = location.getInputStream()) {
+            loaded = ModelArtifactParser.parse(input);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to read model " + location.getDescription(), ex);
+        }
+        current = loaded;
+        loadedVersion = version;
+        logger.info("Loaded model {} from {}", loaded.version(), location.getDescription());
+    }
+
+    private String version() {
+        try {
+            return location.lastModified() + "/" + location.contentLength();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to stat model " + location.getDescription(), ex);
+        }
+    }
+}
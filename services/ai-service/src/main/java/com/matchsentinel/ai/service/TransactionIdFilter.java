@@ -0,0 +1,65 @@
+package com.matchsentinel.ai.service;
+
+import com.matchsentinel.ai.util.ScalableBloomFilter;
+import jakarta.annotation.PostConstruct;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class TransactionIdFilter {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionIdFilter.class);
+    private static final String SEED_QUERY = "SELECT transaction_id FROM ai_decisions WHERE created_at >= ?";
+
+    private final ScalableBloomFilter filter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long seedHours;
+
+    public TransactionIdFilter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${ai.dedupe.expected-ids}") long expectedIds,
+            @Value("${ai.dedupe.max-ids}") long maxIds,
+            @Value("${ai.dedupe.false-positive-rate}") double falsePositiveRate,
+            @Value("${ai.dedupe.seed-hours}") long seedHours
+    ) {
+        this.filter = new ScalableBloomFilter(expectedIds, falsePositiveRate, maxIds);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.seedHours = seedHours;
+    }
+
+    @PostConstruct
+    public void seed() {
+        long started = System.nanoTime();
+        Timestamp since = Timestamp.from(Instant.now().minus(Duration.ofHours(seedHours)));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SEED_QUERY);
+            statement.setFetchSize(10_000);
+            statement.setTimestamp(1, since);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> filter.add(resultSet.getObject(1, UUID.class))));
+        logger.info("Seeded transaction id filter with {} ids in {} ms",
+                filter.approximateSize(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    public boolean mightContain(UUID transactionId) {
+        return filter.mightContain(transactionId);
+    }
+
+    public void add(UUID transactionId) {
+        filter.add(transactionId);
+    }
+}
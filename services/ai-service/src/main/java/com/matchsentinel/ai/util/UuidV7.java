@@ -0,0 +1,32 @@
+package com.matchsentinel.ai.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class UuidV7 {
+
+    private static final AtomicLong LAST_TICK = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    // 48-bit unix millis, 4-bit version, 12-bit per-millisecond sequence, 2-bit variant, 62 random bits.
+    // The sequence keeps ids strictly increasing within a JVM; on overflow it borrows the next millisecond.
+    public static UUID generate() {
+        long tick = nextTick(System.currentTimeMillis() << 12);
+        long mostSigBits = ((tick >>> 12) << 16) | 0x7000L | (tick & 0xFFFL);
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long nextTick(long candidate) {
+        while (true) {
+            long last = LAST_TICK.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST_TICK.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.matchsentinel.ai.watchlist;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton over merchant keywords. Matching is case-insensitive, walks the merchant
+ * name once and reports every matched reason code as a bit in the returned mask.
+ */
+public final class MerchantWatchlist {
+    public static final int MAX_REASONS = Long.SIZE;
+
+    private static final MerchantWatchlist EMPTY = compile(List.of());
+
+    private final String[] reasons;
+    private final BigDecimal[] weights;
+    private final int keywordCount;
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final long[] output;
+
+    private MerchantWatchlist(
+            String[] reasons,
+            BigDecimal[] weights,
+            int keywordCount,
+            int[] edgeStart,
+            char[] edgeChars,
+            int[] edgeTargets,
+            int[] fail,
+            long[] output
+    ) {
+        this.reasons = reasons;
+        this.weights = weights;
+        this.keywordCount = keywordCount;
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.output = output;
+    }
+
+    public static MerchantWatchlist empty() {
+        return EMPTY;
+    }
+
+    public static MerchantWatchlist compile(List<WatchlistEntry> entries) {
+        Map<String, BigDecimal> reasonWeights = new LinkedHashMap<>();
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Long> outputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        outputs.add(0L);
+        int keywordCount = 0;
+
+        for (WatchlistEntry entry : entries) {
+            BigDecimal previous = reasonWeights.putIfAbsent(entry.reason(), entry.weight());
+            if (previous != null && previous.compareTo(entry.weight()) != 0) {
+                throw new IllegalArgumentException("Reason " + entry.reason() + " has conflicting weights "
+                        + previous + " and " + entry.weight());
+            }
+            if (reasonWeights.size() > MAX_REASONS) {
+                throw new IllegalArgumentException("Watchlist supports at most " + MAX_REASONS + " reason codes");
+            }
+            if (entry.keyword().isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < entry.keyword().length(); i++) {
+                char c = Character.toLowerCase(entry.keyword().charAt(i));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new TreeMap<>());
+                    outputs.add(0L);
+                }
+                state = next;
+            }
+            int reason = indexOf(reasonWeights, entry.reason());
+            outputs.set(state, outputs.get(state) | (1L << reason));
+            keywordCount++;
+        }
+
+        int states = trie.size();
+        int[] fail = new int[states];
+        long[] output = new long[states];
+        int[] edgeStart = new int[states + 1];
+        int edges = 0;
+        for (int state = 0; state < states; state++) {
+            output[state] = outputs.get(state);
+            edgeStart[state] = edges;
+            edges += trie.get(state).size();
+        }
+        edgeStart[states] = edges;
+        char[] edgeChars = new char[edges];
+        int[] edgeTargets = new int[edges];
+        for (int state = 0; state < states; state++) {
+            int edge = edgeStart[state];
+            for (Map.Entry<Character, Integer> transition : trie.get(state).entrySet()) {
+                edgeChars[edge] = transition.getKey();
+                edgeTargets[edge] = transition.getValue();
+                edge++;
+            }
+        }
+
+        MerchantWatchlist watchlist = new MerchantWatchlist(
+                reasonWeights.keySet().toArray(String[]::new),
+                reasonWeights.values().toArray(BigDecimal[]::new),
+                keywordCount,
+                edgeStart,
+                edgeChars,
+                edgeTargets,
+                fail,
+                output
+        );
+        watchlist.linkFailures();
+        return watchlist;
+    }
+
+    public long match(CharSequence text) {
+        long hits = 0;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next = next(state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = next(state, c);
+            }
+            state = next < 0 ? 0 : next;
+            hits |= output[state];
+        }
+        return hits;
+    }
+
+    public int reasonCount() {
+        return reasons.length;
+    }
+
+    public String reason(int index) {
+        return reasons[index];
+    }
+
+    public BigDecimal weight(int index) {
+        return weights[index];
+    }
+
+    public int keywordCount() {
+        return keywordCount;
+    }
+
+    private void linkFailures() {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int edge = edgeStart[0]; edge < edgeStart[1]; edge++) {
+            queue.add(edgeTargets[edge]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int edge = edgeStart[state]; edge < edgeStart[state + 1]; edge++) {
+                int child = edgeTargets[edge];
+                int fallback = fail[state];
+                int next = next(fallback, edgeChars[edge]);
+                while (next < 0 && fallback != 0) {
+                    fallback = fail[fallback];
+                    next = next(fallback, edgeChars[edge]);
+                }
+                fail[child] = next < 0 ? 0 : next;
+                output[child] |= output[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        int index = Arrays.binarySearch(edgeChars, edgeStart[state], edgeStart[state + 1], c);
+        return index < 0 ? -1 : edgeTargets[index];
+    }
+
+    private static int indexOf(Map<String, BigDecimal> reasonWeights, String reason) {
+        int index = 0;
+        for (String known : reasonWeights.keySet()) {
+            if (known.equals(reason)) {
+                return index;
+            }
+            index++;
+        }
+        throw new IllegalStateException("Unknown reason " + reason);
+    }
+}
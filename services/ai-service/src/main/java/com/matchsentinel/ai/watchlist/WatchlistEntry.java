@@ -0,0 +1,10 @@
+package com.matchsentinel.ai.watchlist;
+
+import java.math.BigDecimal;
+
+public record WatchlistEntry(
+        String keyword,
+        String reason,
+        BigDecimal weight
+) {
+}
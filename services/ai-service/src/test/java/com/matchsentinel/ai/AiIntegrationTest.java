@@ -139,7 +139,7 @@ class AiIntegrationTest {
                 Instant.now()
         );
 
-        rabbitTemplate.convertAndSend(inputExchange, inputRoutingKey, event);
+        rabbitTemplate.convertAndSend(inputExchange, inputRoutingKey + ".0", event);
 
         AiDecision saved = waitForDecision(transactionId);
         assertThat(saved).isNotNull();
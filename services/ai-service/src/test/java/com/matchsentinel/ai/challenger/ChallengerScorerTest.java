@@ -0,0 +1,62 @@
+package com.matchsentinel.ai.challenger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.matchsentinel.ai.dto.ModelComparisonResponse;
+import com.matchsentinel.ai.model.LinearModel;
+import com.matchsentinel.ai.model.Link;
+import com.matchsentinel.ai.model.ModelFeatures;
+import com.matchsentinel.ai.service.ChallengerModelRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+class ChallengerScorerTest {
+
+    private final ComparisonStore store = new ComparisonStore(0.85, 1.0, 2);
+    private final ChallengerScorer scorer = new ChallengerScorer(
+            new ChallengerModelRegistry("", new DefaultResourceLoader()), store, new SimpleMeterRegistry(), 1, 1);
+
+    @Test
+    void comparesChallengerAgainstChampionOnTheSameFeatures() {
+        LinearModel challenger = new LinearModel(
+                "challenger-v2", new int[]{ModelFeatures.HIGH_AMOUNT}, new double[]{0.9}, 0, Link.IDENTITY);
+        double[][] columns = new double[ModelFeatures.COUNT][3];
+        columns[ModelFeatures.HIGH_AMOUNT] = new double[]{1, 0, 1};
+
+        scorer.compare(challenger, ids(3), columns, new double[]{0.9, 0.9, 0.1}, "champion-v1", 3_000);
+
+        ModelComparisonResponse comparison = store.current().orElseThrow();
+        assertThat(comparison.challengerVersion()).isEqualTo("challenger-v2");
+        assertThat(comparison.compared()).isEqualTo(3);
+        assertThat(comparison.confusion())
+                .isEqualTo(new ModelComparisonResponse.Confusion(1, 1, 1, 0));
+        assertThat(comparison.meanScoreDifference()).isCloseTo(-0.1 / 3, within(1e-9));
+        assertThat(comparison.championMicrosPerTransaction()).isEqualTo(1.0);
+        assertThat(comparison.scoreDifference()).hasSize(ModelComparison.DIFFERENCE_BINS);
+        assertThat(comparison.challengerScores().get(18).count()).isEqualTo(2);
+        assertThat(comparison.samples()).hasSize(2);
+    }
+
+    @Test
+    void startsAFreshComparisonWhenEitherVersionChanges() {
+        LinearModel challenger = new LinearModel("challenger-v2", new int[0], new double[0], 0.5, Link.IDENTITY);
+        double[][] columns = new double[ModelFeatures.COUNT][1];
+
+        scorer.compare(challenger, ids(1), columns, new double[]{0.5}, "champion-v1", 0);
+        scorer.compare(challenger, ids(1), columns, new double[]{0.5}, "champion-v1", 0);
+        assertThat(store.current().orElseThrow().compared()).isEqualTo(2);
+
+        scorer.compare(challenger, ids(1), columns, new double[]{0.5}, "champion-v2", 0);
+        assertThat(store.current().orElseThrow().championVersion()).isEqualTo("champion-v2");
+        assertThat(store.current().orElseThrow().compared()).isEqualTo(1);
+    }
+
+    private static List<UUID> ids(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+}
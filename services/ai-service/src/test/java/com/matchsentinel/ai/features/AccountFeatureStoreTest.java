@@ -0,0 +1,79 @@
+package com.matchsentinel.ai.features;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.matchsentinel.ai.model.ModelFeatures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AccountFeatureStoreTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final AccountFeatureStore store = new AccountFeatureStore(new SimpleMeterRegistry(), 1_000, 72);
+    private final double[][] features = new double[ModelFeatures.COUNT][1];
+
+    @Test
+    void reportsHistoryBeforeFoldingInTheTransaction() {
+        UUID accountId = UUID.randomUUID();
+
+        observe(accountId, "100.00", "Coffee Shop", START);
+        assertThat(feature(ModelFeatures.ACCOUNT_TXN_COUNT)).isZero();
+        assertThat(feature(ModelFeatures.SECONDS_SINCE_LAST_TXN)).isEqualTo(-1);
+
+        observe(accountId, "300.00", "coffee shop ", START.plusSeconds(600));
+        observe(accountId, "1000.00", "Crypto Exchange", START.plusSeconds(1800));
+
+        assertThat(feature(ModelFeatures.ACCOUNT_TXN_COUNT)).isEqualTo(2);
+        assertThat(feature(ModelFeatures.ACCOUNT_MEAN_AMOUNT)).isCloseTo(200, within(1e-9));
+        assertThat(feature(ModelFeatures.ACCOUNT_AMOUNT_STDDEV)).isCloseTo(Math.sqrt(20_000), within(1e-9));
+        assertThat(feature(ModelFeatures.AMOUNT_ZSCORE)).isCloseTo(800 / Math.sqrt(20_000), within(1e-9));
+        assertThat(feature(ModelFeatures.SECONDS_SINCE_LAST_TXN)).isEqualTo(1200);
+        assertThat(feature(ModelFeatures.DISTINCT_MERCHANTS_24H)).isEqualTo(1);
+        assertThat(feature(ModelFeatures.TXN_COUNT_1H))
+                .isCloseTo((Math.exp(-600 / 3600.0) + 1) * Math.exp(-1200 / 3600.0), within(1e-9));
+    }
+
+    @Test
+    void agesOutMerchantsAndDecaysCounts() {
+        UUID accountId = UUID.randomUUID();
+        for (int i = 0; i < 20; i++) {
+            observe(accountId, "10.00", "Merchant " + i, START.plusSeconds(i));
+        }
+        observe(accountId, "10.00", "Merchant 0", START.plusSeconds(60));
+        assertThat(feature(ModelFeatures.DISTINCT_MERCHANTS_24H)).isEqualTo(AccountFeatures.MERCHANT_SLOTS);
+
+        observe(accountId, "10.00", "Merchant 0", START.plusSeconds(2 * 86_400));
+
+        assertThat(feature(ModelFeatures.DISTINCT_MERCHANTS_24H)).isZero();
+        assertThat(feature(ModelFeatures.TXN_COUNT_1H)).isLessThan(1e-6);
+        assertThat(feature(ModelFeatures.ACCOUNT_TXN_COUNT)).isEqualTo(21);
+    }
+
+    @Test
+    void peekLeavesTheAccountUntouched() {
+        UUID accountId = UUID.randomUUID();
+        observe(accountId, "100.00", "Coffee Shop", START);
+
+        store.peek(accountId, new BigDecimal("500.00"), START.plusSeconds(60), features, 0);
+        store.peek(accountId, new BigDecimal("500.00"), START.plusSeconds(60), features, 0);
+        assertThat(feature(ModelFeatures.ACCOUNT_TXN_COUNT)).isEqualTo(1);
+        assertThat(feature(ModelFeatures.SECONDS_SINCE_LAST_TXN)).isEqualTo(60);
+
+        store.peek(UUID.randomUUID(), new BigDecimal("500.00"), START, features, 0);
+        assertThat(feature(ModelFeatures.ACCOUNT_TXN_COUNT)).isZero();
+        assertThat(store.trackedAccounts()).isEqualTo(1);
+    }
+
+    private void observe(UUID accountId, String amount, String merchant, Instant occurredAt) {
+        store.observe(accountId, new BigDecimal(amount), merchant, occurredAt, features, 0);
+    }
+
+    private double feature(int index) {
+        return features[index][0];
+    }
+}
@@ -0,0 +1,46 @@
+package com.matchsentinel.ai.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.matchsentinel.ai.dto.TransactionScoredEvent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+class RabbitAiEventPublisherTest {
+
+    // Partitions are pinned to transaction-service's AccountPartitioner: both halves of a transaction must
+    // reach the same rule-engine partition or they can never be joined.
+    @Test
+    void routesScoredEventsToTheAccountsTransactionPartition() {
+        RabbitAiEventPublisher publisher = new RabbitAiEventPublisher(
+                mock(RabbitTemplate.class), "ai.events", "transaction.scored", 4);
+
+        assertThat(publisher.routingKeyFor(scored("7f3c9a52-1d4e-4b8a-9c61-2e5f0a7b3d94")))
+                .isEqualTo("transaction.scored.3");
+        assertThat(publisher.routingKeyFor(scored("c0ffee00-1234-4abc-8def-0123456789ab")))
+                .isEqualTo("transaction.scored.1");
+        assertThat(new AccountPartitioner(16).partitionFor(UUID.fromString("7f3c9a52-1d4e-4b8a-9c61-2e5f0a7b3d94")))
+                .isEqualTo(7);
+    }
+
+    private static TransactionScoredEvent scored(String accountId) {
+        return new TransactionScoredEvent(
+                UUID.randomUUID(),
+                UUID.fromString(accountId),
+                new BigDecimal("10.00"),
+                "USD",
+                "US",
+                "Shop",
+                Instant.now(),
+                Instant.now(),
+                new BigDecimal("0.20"),
+                List.of(),
+                "v1"
+        );
+    }
+}
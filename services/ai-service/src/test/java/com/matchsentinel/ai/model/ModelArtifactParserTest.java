@@ -0,0 +1,108 @@
+package com.matchsentinel.ai.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ModelArtifactParserTest {
+
+    @Test
+    void bundledHeuristicModelKeepsTheAdditiveWeights() throws IOException {
+        ScoringModel model;
+        try (InputStream input = getClass().getResourceAsStream("/models/heuristic-v1.json")) {
+            model = ModelArtifactParser.parse(input);
+        }
+        double[] features = new double[ModelFeatures.COUNT];
+        features[ModelFeatures.HIGH_AMOUNT] = 1;
+        features[ModelFeatures.WATCHLIST_WEIGHT] = 0.20;
+
+        assertThat(model.version()).isEqualTo("heuristic-v1");
+        assertThat(model.score(features)).isCloseTo(0.70, within(1e-9));
+    }
+
+    @Test
+    void evaluatesTreeEnsembleThroughFlattenedNodes() throws IOException {
+        ScoringModel model = parse("""
+                {"type": "tree_ensemble", "version": "gbdt-test", "link": "identity", "baseScore": 0.1,
+                 "trees": [
+                   {"nodes": [{"feature": "amount", "threshold": 10000, "left": 1, "right": 2},
+                              {"leaf": 0.0},
+                              {"feature": "high_risk_country", "threshold": 0.5, "left": 3, "right": 4},
+                              {"leaf": 0.2},
+                              {"leaf": 0.6}]},
+                   {"nodes": [{"feature": "watchlist_hits", "threshold": 1, "left": 1, "right": 2},
+                              {"leaf": 0.0},
+                              {"leaf": 0.25}]}
+                 ]}
+                """);
+        double[] features = new double[ModelFeatures.COUNT];
+        features[ModelFeatures.AMOUNT] = 15000;
+        features[ModelFeatures.HIGH_RISK_COUNTRY] = 1;
+
+        assertThat(model.version()).isEqualTo("gbdt-test");
+        assertThat(model.score(features)).isCloseTo(0.7, within(1e-9));
+        features[ModelFeatures.AMOUNT] = 50;
+        features[ModelFeatures.WATCHLIST_HITS] = 1;
+        assertThat(model.score(features)).isCloseTo(0.35, within(1e-9));
+    }
+
+    @Test
+    void scoresColumnsTheSameAsRows() throws IOException {
+        ScoringModel trees = parse("""
+                {"type": "tree_ensemble", "version": "gbdt-test", "link": "logistic", "baseScore": -1.0,
+                 "trees": [{"nodes": [{"feature": "amount", "threshold": 100, "left": 1, "right": 2},
+                                      {"leaf": -0.5}, {"leaf": 1.5}]}]}
+                """);
+        ScoringModel linear = parse("""
+                {"type": "linear", "version": "lr-test", "link": "logistic", "intercept": -1.0,
+                 "coefficients": {"amount": 0.01, "non_usd_currency": 0.8}}
+                """);
+        double[][] columns = new double[ModelFeatures.COUNT][3];
+        columns[ModelFeatures.AMOUNT] = new double[]{50, 150, 500};
+        columns[ModelFeatures.NON_USD_CURRENCY] = new double[]{1, 0, 1};
+
+        for (ScoringModel model : new ScoringModel[]{trees, linear}) {
+            double[] scores = new double[3];
+            model.score(columns, 3, scores);
+            for (int row = 0; row < 3; row++) {
+                double[] features = new double[ModelFeatures.COUNT];
+                features[ModelFeatures.AMOUNT] = columns[ModelFeatures.AMOUNT][row];
+                features[ModelFeatures.NON_USD_CURRENCY] = columns[ModelFeatures.NON_USD_CURRENCY][row];
+                assertThat(scores[row]).isCloseTo(model.score(features), within(1e-12));
+            }
+        }
+    }
+
+    @Test
+    void appliesLogisticLinkToLinearModels() throws IOException {
+        ScoringModel model = parse("""
+                {"type": "linear", "version": "lr-test", "link": "logistic", "intercept": -1.0,
+                 "coefficients": {"high_risk_country": 2.0}}
+                """);
+        double[] features = new double[ModelFeatures.COUNT];
+        features[ModelFeatures.HIGH_RISK_COUNTRY] = 1;
+
+        assertThat(model.score(features)).isCloseTo(1.0 / (1.0 + Math.exp(-1.0)), within(1e-9));
+    }
+
+    @Test
+    void rejectsUnknownFeaturesAndBackwardChildren() {
+        assertThatThrownBy(() -> parse("""
+                {"type": "linear", "version": "bad", "coefficients": {"merchant_age": 1.0}}
+                """)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parse("""
+                {"type": "tree_ensemble", "version": "bad",
+                 "trees": [{"nodes": [{"feature": "amount", "threshold": 1, "left": 0, "right": 1}, {"leaf": 0}]}]}
+                """)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ScoringModel parse(String json) throws IOException {
+        return ModelArtifactParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
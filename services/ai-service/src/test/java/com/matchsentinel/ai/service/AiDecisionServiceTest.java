@@ -0,0 +1,98 @@
+package com.matchsentinel.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.matchsentinel.ai.domain.AiDecision;
+import com.matchsentinel.ai.dto.TransactionCreatedEvent;
+import com.matchsentinel.ai.messaging.AiEventPublisher;
+import com.matchsentinel.ai.repository.AiDecisionRepository;
+import com.matchsentinel.ai.service.AiScoringService.AiScore;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class AiDecisionServiceTest {
+
+    private final AiDecisionRepository repository = mock(AiDecisionRepository.class);
+    private final AiScoringService scoringService = mock(AiScoringService.class);
+    private final AiEventPublisher eventPublisher = mock(AiEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AiDecisionService service = new AiDecisionService(
+            repository,
+            scoringService,
+            eventPublisher,
+            mock(TransactionIdFilter.class),
+            mock(ParallelScorer.class),
+            meterRegistry
+    );
+
+    @Test
+    void conflictingBatchFallsBackWithoutScoringAgain() {
+        List<TransactionCreatedEvent> events = List.of(event(), event());
+        AiScore score = new AiScore(new BigDecimal("0.40"), List.of("NON_USD_CURRENCY"), "v1", Instant.now());
+        when(scoringService.scoreBatch(anyList())).thenReturn(List.of(score, score));
+        when(repository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(repository.save(any(AiDecision.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.handleTransactionsCreated(events, System.nanoTime());
+
+        verify(scoringService, times(1)).scoreBatch(anyList());
+        verify(scoringService, never()).score(any());
+        ArgumentCaptor<AiDecision> saved = ArgumentCaptor.forClass(AiDecision.class);
+        verify(repository, times(2)).save(saved.capture());
+        assertThat(saved.getAllValues())
+                .extracting(AiDecision::getTransactionId)
+                .containsExactly(events.get(0).id(), events.get(1).id());
+        verify(eventPublisher, times(2)).publishTransactionScored(any());
+    }
+
+    @Test
+    void measuresQueueDelayFromReceiptNotFromTheUpstreamTimestamp() {
+        TransactionCreatedEvent stale = new TransactionCreatedEvent(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new BigDecimal("120.00"),
+                "EUR",
+                "DE",
+                "Coffee Shop",
+                Instant.now().minusSeconds(3_600),
+                Instant.now().minusSeconds(3_600)
+        );
+        AiScore score = new AiScore(new BigDecimal("0.40"), List.of(), "v1", Instant.now());
+        when(scoringService.scoreBatch(anyList())).thenReturn(List.of(score));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.handleTransactionsCreated(List.of(stale), System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(40));
+
+        Timer queueDelay = meterRegistry.get("ai.batch.queue.delay").timer();
+        assertThat(queueDelay.count()).isEqualTo(1);
+        assertThat(queueDelay.max(TimeUnit.MILLISECONDS)).isBetween(40.0, 60_000.0);
+    }
+
+    private static TransactionCreatedEvent event() {
+        return new TransactionCreatedEvent(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new BigDecimal("120.00"),
+                "EUR",
+                "DE",
+                "Coffee Shop",
+                Instant.now(),
+                Instant.now()
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.matchsentinel.ai.watchlist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MerchantWatchlistTest {
+
+    private static final MerchantWatchlist WATCHLIST = MerchantWatchlist.compile(List.of(
+            entry("crypto", "CRYPTO_MERCHANT", "0.20"),
+            entry("exchange", "CRYPTO_MERCHANT", "0.20"),
+            entry("he", "SHORT_ALIAS", "0.05"),
+            entry("casino", "GAMBLING", "0.30"),
+            entry("she", "OVERLAP", "0.01")
+    ));
+
+    @Test
+    void matchesEveryKeywordInOnePassIgnoringCase() {
+        long hits = WATCHLIST.match("Royal CASINO Crypto-Exchange");
+
+        assertThat(reasons(hits)).containsExactly("CRYPTO_MERCHANT", "GAMBLING");
+    }
+
+    @Test
+    void followsFailureLinksIntoOverlappingKeywords() {
+        assertThat(reasons(WATCHLIST.match("ushers"))).containsExactly("SHORT_ALIAS", "OVERLAP");
+        assertThat(reasons(WATCHLIST.match("casinocrypt"))).containsExactly("GAMBLING");
+        assertThat(WATCHLIST.match("Coffee Shop")).isZero();
+    }
+
+    @Test
+    void rejectsConflictingWeightsForAReason() {
+        assertThatThrownBy(() -> MerchantWatchlist.compile(List.of(
+                entry("crypto", "CRYPTO_MERCHANT", "0.20"),
+                entry("bitcoin", "CRYPTO_MERCHANT", "0.30")
+        ))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> reasons(long hits) {
+        return IntStream.range(0, WATCHLIST.reasonCount())
+                .filter(index -> (hits & (1L << index)) != 0)
+                .mapToObj(WATCHLIST::reason)
+                .toList();
+    }
+
+    private static WatchlistEntry entry(String keyword, String reason, String weight) {
+        return new WatchlistEntry(keyword, reason, new BigDecimal(weight));
+    }
+}
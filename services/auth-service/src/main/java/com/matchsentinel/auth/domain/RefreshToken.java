@@ -1,7 +1,9 @@
 package com.matchsentinel.auth.domain;
 
+import com.matchsentinel.auth.util.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -16,7 +18,7 @@ import java.util.UUID;
 public class RefreshToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
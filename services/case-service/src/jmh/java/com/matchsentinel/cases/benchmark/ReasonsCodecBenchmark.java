@@ -0,0 +1,44 @@
+package com.matchsentinel.cases.benchmark;
+
+import com.matchsentinel.cases.util.ReasonsCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReasonsCodecBenchmark {
+
+    private List<String> reasons;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        reasons = List.of("AMOUNT_THRESHOLD", "HIGH_RISK_COUNTRY", "CRYPTO_MERCHANT");
+        encoded = ReasonsCodec.encode(reasons);
+    }
+
+    @Benchmark
+    public String encode() {
+        return ReasonsCodec.encode(reasons);
+    }
+
+    @Benchmark
+    public List<String> decode() {
+        return ReasonsCodec.decode(encoded);
+    }
+}
@@ -1,5 +1,6 @@
 package com.matchsentinel.cases.domain;
 
+import com.matchsentinel.cases.util.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -46,7 +47,7 @@ public class Case {
     @PrePersist
     void onCreate() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = UuidV7.generate();
         }
         OffsetDateTime now = OffsetDateTime.now();
         createdAt = now;
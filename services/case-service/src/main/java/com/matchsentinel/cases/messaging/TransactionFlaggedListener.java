@@ -18,7 +18,7 @@ public class TransactionFlaggedListener {
         this.eventPublisher = eventPublisher;
     }
 
-    @RabbitListener(queues = "${case.rabbit.input.queue}")
+    @RabbitListener(id = "case-transaction-flagged", queues = "${case.rabbit.input.queue}")
     public void onTransactionFlagged(TransactionFlaggedEvent event) {
         CaseResponse created = caseService.createFromFlagged(event);
         eventPublisher.publishCaseCreated(new CaseCreatedEvent(
@@ -11,6 +11,8 @@ import com.matchsentinel.cases.repository.CaseRepository;
 import com.matchsentinel.cases.repository.CaseSpecifications;
 import com.matchsentinel.cases.util.ReasonsCodec;
 import java.util.UUID;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -55,6 +57,7 @@ public class CaseService {
                 });
     }
 
+    @Cacheable("cases")
     public CaseResponse get(UUID id) {
         Case entity = repository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Case not found"));
@@ -71,6 +74,7 @@ public class CaseService {
         return repository.findAll(spec, pageable).map(this::toResponse);
     }
 
+    @CacheEvict(cacheNames = "cases", key = "#id")
     public CaseResponse updateStatus(UUID id, UpdateCaseStatusRequest request) {
         Case entity = repository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Case not found"));
@@ -78,6 +82,7 @@ public class CaseService {
         return toResponse(repository.save(entity));
     }
 
+    @CacheEvict(cacheNames = "cases", key = "#id")
     public CaseResponse assign(UUID id, AssignCaseRequest request) {
         Case entity = repository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Case not found"));
@@ -0,0 +1,65 @@
+package com.matchsentinel.cases.service;
+
+import com.matchsentinel.cases.domain.Case;
+import com.matchsentinel.cases.domain.CaseStatus;
+import com.matchsentinel.cases.dto.UpdateCaseStatusRequest;
+import com.matchsentinel.cases.repository.CaseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(CaseServiceCacheTest.CacheConfig.class)
+class CaseServiceCacheTest {
+
+    @Autowired
+    private CaseService caseService;
+
+    @MockitoBean
+    private CaseRepository repository;
+
+    @Test
+    void get_servesRepeatedLookupsFromCacheUntilStatusChanges() {
+        UUID id = UUID.randomUUID();
+        Case entity = new Case();
+        entity.setId(id);
+        entity.setTransactionId(UUID.randomUUID());
+        entity.setAccountId(UUID.randomUUID());
+        entity.setStatus(CaseStatus.OPEN);
+        when(repository.findById(id)).thenReturn(Optional.of(entity));
+        when(repository.save(any(Case.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        caseService.get(id);
+        caseService.get(id);
+        caseService.updateStatus(id, new UpdateCaseStatusRequest(CaseStatus.UNDER_REVIEW));
+
+        assertEquals(CaseStatus.UNDER_REVIEW, caseService.get(id).status());
+        verify(repository, times(3)).findById(id);
+    }
+
+    @Configuration
+    @EnableCaching
+    @Import(CaseService.class)
+    static class CacheConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("cases");
+        }
+    }
+}
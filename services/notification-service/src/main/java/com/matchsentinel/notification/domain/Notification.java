@@ -1,5 +1,6 @@
 package com.matchsentinel.notification.domain;
 
+import com.matchsentinel.notification.util.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -46,7 +47,7 @@ public class Notification {
     @PrePersist
     void onCreate() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = UuidV7.generate();
         }
         OffsetDateTime now = OffsetDateTime.now();
         createdAt = now;
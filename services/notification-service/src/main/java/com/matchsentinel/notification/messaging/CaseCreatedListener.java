@@ -13,7 +13,7 @@ public class CaseCreatedListener {
         this.notificationService = notificationService;
     }
 
-    @RabbitListener(queues = "${notification.rabbit.input.queue}")
+    @RabbitListener(id = "notification-case-created", queues = "${notification.rabbit.input.queue}")
     public void onCaseCreated(CaseCreatedEvent event) {
         notificationService.createFromCaseCreated(event);
     }
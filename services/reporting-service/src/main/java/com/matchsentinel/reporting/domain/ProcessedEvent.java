@@ -1,5 +1,6 @@
 package com.matchsentinel.reporting.domain;
 
+import com.matchsentinel.reporting.util.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -23,7 +24,7 @@ public class ProcessedEvent {
     @PrePersist
     void onCreate() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = UuidV7.generate();
         }
         if (processedAt == null) {
             processedAt = OffsetDateTime.now();
@@ -2,6 +2,8 @@ package com.matchsentinel.reporting.messaging;
 
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
@@ -15,6 +17,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 public class RabbitMqConfig {
 
@@ -59,12 +64,17 @@ public class RabbitMqConfig {
     }
 
     @Bean
-    public Binding transactionBinding(
+    public Declarables transactionBindings(
             Queue transactionQueue,
             DirectExchange transactionExchange,
-            @Value("${reporting.rabbit.transaction.routing-key}") String routingKey
+            @Value("${reporting.rabbit.transaction.routing-key}") String routingKey,
+            @Value("${reporting.rabbit.transaction.partitions}") int partitions
     ) {
-        return BindingBuilder.bind(transactionQueue).to(transactionExchange).with(routingKey);
+        List<Declarable> bindings = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            bindings.add(BindingBuilder.bind(transactionQueue).to(transactionExchange).with(routingKey + "." + partition));
+        }
+        return new Declarables(bindings);
     }
 
     @Bean
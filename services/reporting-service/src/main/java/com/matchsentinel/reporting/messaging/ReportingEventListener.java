@@ -17,23 +17,23 @@ public class ReportingEventListener {
         this.updateService = updateService;
     }
 
-    @RabbitListener(queues = "${reporting.rabbit.transaction.queue}")
+    @RabbitListener(id = "reporting-transaction-created", queues = "${reporting.rabbit.transaction.queue}")
     public void onTransactionCreated(TransactionCreatedEvent event) {
         updateService.incrementTransactions(event.occurredAt(), "transaction.created:" + event.id());
     }
 
-    @RabbitListener(queues = "${reporting.rabbit.flagged.queue}")
+    @RabbitListener(id = "reporting-transaction-flagged", queues = "${reporting.rabbit.flagged.queue}")
     public void onTransactionFlagged(TransactionFlaggedEvent event) {
         updateService.incrementFlagged(event.flaggedAt(), "transaction.flagged:" + event.transactionId());
     }
 
-    @RabbitListener(queues = "${reporting.rabbit.case.queue}")
+    @RabbitListener(id = "reporting-case-created", queues = "${reporting.rabbit.case.queue}")
     public void onCaseCreated(CaseCreatedEvent event) {
         LocalDate date = event.createdAt().toLocalDate();
         updateService.incrementCasesCreated(date, "case.created:" + event.caseId());
     }
 
-    @RabbitListener(queues = "${reporting.rabbit.notification.queue}")
+    @RabbitListener(id = "reporting-notification-sent", queues = "${reporting.rabbit.notification.queue}")
     public void onNotificationSent(NotificationSentEvent event) {
         updateService.incrementNotificationsSent(event.sentAt(), "notification.sent:" + event.notificationId());
     }
@@ -3,10 +3,10 @@ package com.matchsentinel.reporting.service;
 import com.matchsentinel.reporting.domain.ProcessedEvent;
 import com.matchsentinel.reporting.repository.DailyStatRepository;
 import com.matchsentinel.reporting.repository.ProcessedEventRepository;
+import com.matchsentinel.reporting.util.UuidV7;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
-import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -31,7 +31,7 @@ public class ReportingUpdateService {
     public void incrementTransactions(Instant occurredAt, String eventKey) {
         runOnce(eventKey, () -> {
             LocalDate date = occurredAt.atZone(ZoneOffset.UTC).toLocalDate();
-            repository.incrementTotalTransactions(UUID.randomUUID(), date);
+            repository.incrementTotalTransactions(UuidV7.generate(), date);
         });
     }
 
@@ -39,14 +39,14 @@ public class ReportingUpdateService {
     public void incrementFlagged(Instant flaggedAt, String eventKey) {
         runOnce(eventKey, () -> {
             LocalDate date = flaggedAt.atZone(ZoneOffset.UTC).toLocalDate();
-            repository.incrementFlaggedTransactions(UUID.randomUUID(), date);
+            repository.incrementFlaggedTransactions(UuidV7.generate(), date);
         });
     }
 
     @Transactional
     public void incrementCasesCreated(LocalDate date, String eventKey) {
         runOnce(eventKey, () -> {
-            repository.incrementCasesCreated(UUID.randomUUID(), date);
+            repository.incrementCasesCreated(UuidV7.generate(), date);
         });
     }
 
@@ -54,7 +54,7 @@ public class ReportingUpdateService {
     public void incrementNotificationsSent(Instant sentAt, String eventKey) {
         runOnce(eventKey, () -> {
             LocalDate date = sentAt.atZone(ZoneOffset.UTC).toLocalDate();
-            repository.incrementNotificationsSent(UUID.randomUUID(), date);
+            repository.incrementNotificationsSent(UuidV7.generate(), date);
         });
     }
 
@@ -152,7 +152,7 @@ class ReportingIntegrationTest {
                 base.plusSeconds(30)
         );
 
-        rabbitTemplate.convertAndSend("transaction.events", "transaction.created", createdEvent);
+        rabbitTemplate.convertAndSend("transaction.events", "transaction.created.0", createdEvent);
         rabbitTemplate.convertAndSend("rule-engine.events", "transaction.flagged", flaggedEvent);
         rabbitTemplate.convertAndSend("case.events", "case.created", caseEvent);
         rabbitTemplate.convertAndSend("notification.events", "notification.sent", notificationEvent);
@@ -166,7 +166,7 @@ class ReportingIntegrationTest {
         assertThat(stat.getCasesCreated()).isEqualTo(1);
         assertThat(stat.getNotificationsSent()).isEqualTo(1);
 
-        rabbitTemplate.convertAndSend("transaction.events", "transaction.created", createdEvent);
+        rabbitTemplate.convertAndSend("transaction.events", "transaction.created.0", createdEvent);
         rabbitTemplate.convertAndSend("rule-engine.events", "transaction.flagged", flaggedEvent);
         rabbitTemplate.convertAndSend("case.events", "case.created", caseEvent);
         rabbitTemplate.convertAndSend("notification.events", "notification.sent", notificationEvent);
@@ -189,7 +189,7 @@ class ReportingIntegrationTest {
         Queue txQueue = new Queue(transactionQueue, true);
         amqpAdmin.declareExchange(txExchange);
         amqpAdmin.declareQueue(txQueue);
-        amqpAdmin.declareBinding(BindingBuilder.bind(txQueue).to(txExchange).with(transactionRoutingKey));
+        amqpAdmin.declareBinding(BindingBuilder.bind(txQueue).to(txExchange).with(transactionRoutingKey + ".0"));
 
         DirectExchange flagExchange = new DirectExchange(flaggedExchange);
         Queue flagQueue = new Queue(flaggedQueue, true);
@@ -0,0 +1,64 @@
+package com.matchsentinel.ruleengine.benchmark;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.rules.AccountActivity;
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+import com.matchsentinel.ruleengine.rules.RuleExpressionParser;
+import com.matchsentinel.ruleengine.rules.RulePredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompiledRuleSetBenchmark {
+
+    @Param({"10", "200"})
+    private int rules;
+
+    private CompiledRuleSet ruleSet;
+    private TransactionCreatedEvent event;
+
+    @Setup
+    public void setUp() {
+        List<String> codes = new ArrayList<>();
+        List<RulePredicate> predicates = new ArrayList<>();
+        for (int i = 0; i < rules; i++) {
+            codes.add("RULE_" + i);
+            predicates.add(RuleExpressionParser.parse(switch (i % 4) {
+                case 0 -> "amount >= " + (20000 + i);
+                case 1 -> "country in ('IR', 'KP', 'SY', 'C" + i + "') and currency != 'USD'";
+                case 2 -> "merchant contains 'casino " + i + "' or (hour < 5 and amount > " + (5000 + i) + ")";
+                default -> "not (currency = 'USD') and merchant startsWith 'm" + i + "'";
+            }));
+        }
+        ruleSet = new CompiledRuleSet(codes, predicates);
+        Instant now = Instant.parse("2026-01-26T12:00:00Z");
+        event = new TransactionCreatedEvent(
+                UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("42.50"), "USD", "US", "Coffee Shop", now, now);
+    }
+
+    @Benchmark
+    public List<String> evaluateClean() {
+        return ruleSet.evaluate(event, AccountActivity.NONE);
+    }
+}
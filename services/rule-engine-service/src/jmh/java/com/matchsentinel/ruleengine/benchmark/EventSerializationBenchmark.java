@@ -0,0 +1,80 @@
+package com.matchsentinel.ruleengine.benchmark;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionFlaggedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Goes through the same Jackson2JsonMessageConverter the listeners and publishers use.
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    private Jackson2JsonMessageConverter converter;
+    private TransactionCreatedEvent createdEvent;
+    private TransactionFlaggedEvent flaggedEvent;
+    private byte[] createdBody;
+    private byte[] flaggedBody;
+
+    @Setup
+    public void setUp() {
+        converter = new Jackson2JsonMessageConverter();
+        Instant now = Instant.now();
+        createdEvent = new TransactionCreatedEvent(
+                UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("15000.00"), "USD", "IR", "Test Merchant", now, now);
+        flaggedEvent = new TransactionFlaggedEvent(
+                createdEvent.id(), createdEvent.accountId(), createdEvent.amount(), createdEvent.currency(),
+                createdEvent.country(), createdEvent.merchant(), now, now, new BigDecimal("0.90"),
+                List.of("AMOUNT_THRESHOLD", "HIGH_RISK_COUNTRY"));
+        createdBody = serializeCreated().getBody();
+        flaggedBody = serializeFlagged().getBody();
+    }
+
+    @Benchmark
+    public Message serializeCreated() {
+        return converter.toMessage(createdEvent, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object deserializeCreated() {
+        return converter.fromMessage(inbound(createdBody, TransactionCreatedEvent.class));
+    }
+
+    @Benchmark
+    public Message serializeFlagged() {
+        return converter.toMessage(flaggedEvent, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object deserializeFlagged() {
+        return converter.fromMessage(inbound(flaggedBody, TransactionFlaggedEvent.class));
+    }
+
+    private static Message inbound(byte[] body, Class<?> type) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setInferredArgumentType(type);
+        return new Message(body, properties);
+    }
+}
@@ -0,0 +1,174 @@
+package com.matchsentinel.ruleengine.benchmark;
+
+import com.matchsentinel.ruleengine.correlation.CorrelationBuffer;
+import com.matchsentinel.ruleengine.correlation.PendingCorrelationStore;
+import com.matchsentinel.ruleengine.domain.RuleDefinition;
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionFlaggedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionScoredEvent;
+import com.matchsentinel.ruleengine.repository.FlaggedTransactionRepository;
+import com.matchsentinel.ruleengine.repository.RuleDefinitionRepository;
+import com.matchsentinel.ruleengine.repository.ShadowRuleDefinitionRepository;
+import com.matchsentinel.ruleengine.service.RuleEngineService;
+import com.matchsentinel.ruleengine.service.RuleEvaluator;
+import com.matchsentinel.ruleengine.service.RuleSetRegistry;
+import com.matchsentinel.ruleengine.service.TransactionIdFilter;
+import com.matchsentinel.ruleengine.shadow.ShadowEvaluator;
+import com.matchsentinel.ruleengine.velocity.AccountVelocityStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RuleEngineServiceBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private RuleEngineService service;
+    private CorrelationBuffer correlation;
+    private ShadowEvaluator shadow;
+    private TransactionCreatedEvent cleanEvent;
+    private TransactionScoredEvent cleanScore;
+    private TransactionCreatedEvent flaggedEvent;
+    private TransactionScoredEvent flaggedScore;
+    private List<TransactionCreatedEvent> batch;
+    private List<TransactionScoredEvent> batchScores;
+    private TransactionFlaggedEvent published;
+
+    @Setup
+    public void setUp() {
+        FlaggedTransactionRepository repository = (FlaggedTransactionRepository) Proxy.newProxyInstance(
+                FlaggedTransactionRepository.class.getClassLoader(),
+                new Class<?>[]{FlaggedTransactionRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByTransactionId" -> Optional.empty();
+                    case "findTransactionIdsIn" -> List.of();
+                    case "save" -> args[0];
+                    case "saveAll" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        RuleDefinitionRepository rules = (RuleDefinitionRepository) Proxy.newProxyInstance(
+                RuleDefinitionRepository.class.getClassLoader(),
+                new Class<?>[]{RuleDefinitionRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByEnabledTrueOrderByCodeAsc" -> List.of(
+                            rule("AMOUNT_THRESHOLD", "amount >= 10000"),
+                            rule("HIGH_RISK_COUNTRY", "country in ('IR', 'KP', 'SY')"));
+                    case "count" -> 2L;
+                    case "findLatestUpdate" -> Instant.EPOCH;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        ShadowRuleDefinitionRepository shadowRules = (ShadowRuleDefinitionRepository) Proxy.newProxyInstance(
+                ShadowRuleDefinitionRepository.class.getClassLoader(),
+                new Class<?>[]{ShadowRuleDefinitionRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllByOrderByCodeAsc" -> List.of();
+                    case "count" -> 0L;
+                    case "findLatestUpdate" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        AccountVelocityStore velocityStore = new AccountVelocityStore(10, 60, 1_000_000);
+        RuleSetRegistry registry = new RuleSetRegistry(rules, shadowRules, velocityStore);
+        registry.reload();
+        TransactionIdFilter transactionIds = new TransactionIdFilter(null, null, 1_000_000, 20_000_000, 0.01, 24);
+        correlation = new CorrelationBuffer(new SimpleMeterRegistry(), 60_000, 1_000_000, 10_000);
+        shadow = new ShadowEvaluator(registry, new SimpleMeterRegistry(), 1, 10_000, 0);
+        PendingCorrelationStore pendingStore = (PendingCorrelationStore) Proxy.newProxyInstance(
+                PendingCorrelationStore.class.getClassLoader(),
+                new Class<?>[]{PendingCorrelationStore.class},
+                (proxy, method, args) -> method.getReturnType() == List.class ? List.of() : null);
+        service = new RuleEngineService(
+                repository,
+                event -> published = event,
+                registry,
+                new RuleEvaluator(new SimpleMeterRegistry()),
+                velocityStore,
+                transactionIds,
+                correlation,
+                pendingStore,
+                shadow,
+                new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(service, "aiThreshold", new BigDecimal("0.85"));
+
+        Instant now = Instant.now();
+        cleanEvent = new TransactionCreatedEvent(
+                UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("42.50"), "USD", "US", "Coffee Shop", now, now);
+        flaggedEvent = new TransactionCreatedEvent(
+                UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("15000.00"), "USD", "IR", "Test Merchant", now, now);
+        cleanScore = scored(cleanEvent);
+        flaggedScore = scored(flaggedEvent);
+        batch = new ArrayList<>(BATCH_SIZE);
+        batchScores = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            BigDecimal amount = i % 50 == 0 ? new BigDecimal("15000.00") : new BigDecimal("42.50");
+            TransactionCreatedEvent event = new TransactionCreatedEvent(
+                    UUID.randomUUID(), UUID.randomUUID(), amount, "USD", "US", "Coffee Shop", now, now);
+            batch.add(event);
+            batchScores.add(scored(event));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        correlation.shutdown();
+        shadow.shutdown();
+    }
+
+    private static TransactionScoredEvent scored(TransactionCreatedEvent event) {
+        return new TransactionScoredEvent(event.id(), event.accountId(), event.amount(), event.currency(),
+                event.country(), event.merchant(), event.occurredAt(), event.createdAt(), new BigDecimal("0.12"),
+                List.of(), "benchmark");
+    }
+
+    private static RuleDefinition rule(String code, String expression) {
+        return RuleDefinition.builder().code(code).expression(expression).enabled(true).build();
+    }
+
+    @Benchmark
+    public void evaluateClean() {
+        service.evaluateAi(cleanScore);
+        service.evaluate(cleanEvent);
+    }
+
+    @Benchmark
+    public TransactionFlaggedEvent evaluateFlagged() {
+        service.evaluateAi(flaggedScore);
+        service.evaluate(flaggedEvent);
+        return published;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void evaluateBatch() {
+        for (TransactionScoredEvent score : batchScores) {
+            service.evaluateAi(score);
+        }
+        service.evaluateBatch(batch);
+    }
+}
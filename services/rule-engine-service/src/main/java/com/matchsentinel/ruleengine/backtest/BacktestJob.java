@@ -0,0 +1,67 @@
+package com.matchsentinel.ruleengine.backtest;
+
+import com.matchsentinel.ruleengine.dto.BacktestReport;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class BacktestJob {
+
+    private final UUID id;
+    private final Instant submittedAt;
+    private volatile BacktestStatus status = BacktestStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant completedAt;
+    private volatile String error;
+    private volatile BacktestReport report;
+
+    public BacktestJob(UUID id, Instant submittedAt) {
+        this.id = id;
+        this.submittedAt = submittedAt;
+    }
+
+    public void start() {
+        startedAt = Instant.now();
+        status = BacktestStatus.RUNNING;
+    }
+
+    public void complete(BacktestReport report) {
+        this.report = report;
+        completedAt = Instant.now();
+        status = BacktestStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        completedAt = Instant.now();
+        status = BacktestStatus.FAILED;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public BacktestStatus getStatus() {
+        return status;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public BacktestReport getReport() {
+        return report;
+    }
+}
@@ -0,0 +1,8 @@
+package com.matchsentinel.ruleengine.backtest;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+
+import java.math.BigDecimal;
+
+public record BacktestRecord(TransactionCreatedEvent event, BigDecimal aiRiskScore) {
+}
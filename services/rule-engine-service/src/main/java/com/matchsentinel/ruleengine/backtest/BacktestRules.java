@@ -0,0 +1,8 @@
+package com.matchsentinel.ruleengine.backtest;
+
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+
+import java.math.BigDecimal;
+
+public record BacktestRules(CompiledRuleSet rules, BigDecimal aiThreshold) {
+}
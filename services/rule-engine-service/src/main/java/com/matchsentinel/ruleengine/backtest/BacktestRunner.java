@@ -0,0 +1,169 @@
+package com.matchsentinel.ruleengine.backtest;
+
+import com.matchsentinel.ruleengine.dto.BacktestReport;
+import com.matchsentinel.ruleengine.velocity.AccountVelocityStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Shards rows by account so each worker owns its accounts' velocity windows and sees them in source order.
+public class BacktestRunner {
+
+    private static final int BATCH_SIZE = 1024;
+    private static final BacktestRecord[] END = new BacktestRecord[0];
+
+    private final long bucketSeconds;
+    private final long retentionMinutes;
+    private final long maxAccounts;
+    private final int parallelism;
+
+    public BacktestRunner(long bucketSeconds, long retentionMinutes, long maxAccounts, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Backtest parallelism must be positive");
+        }
+        this.bucketSeconds = bucketSeconds;
+        this.retentionMinutes = retentionMinutes;
+        this.maxAccounts = maxAccounts;
+        this.parallelism = parallelism;
+    }
+
+    public BacktestReport run(BacktestSource source, BacktestRules baseline, BacktestRules candidate) throws Exception {
+        long started = System.nanoTime();
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "backtest-worker-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Shard> shards = new ArrayList<>(parallelism);
+            List<Future<BacktestTally>> results = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                Shard shard = new Shard(baseline, candidate);
+                shards.add(shard);
+                results.add(workers.submit(shard));
+            }
+
+            BacktestRecord[][] buffers = new BacktestRecord[parallelism][BATCH_SIZE];
+            int[] filled = new int[parallelism];
+            try {
+                BacktestRecord record;
+                while ((record = source.next()) != null) {
+                    int index = Math.floorMod(record.event().accountId().hashCode(), parallelism);
+                    buffers[index][filled[index]++] = record;
+                    if (filled[index] == BATCH_SIZE) {
+                        handOff(shards.get(index), results.get(index), buffers[index]);
+                        buffers[index] = new BacktestRecord[BATCH_SIZE];
+                        filled[index] = 0;
+                    }
+                }
+                for (int i = 0; i < parallelism; i++) {
+                    if (filled[i] > 0) {
+                        handOff(shards.get(i), results.get(i), Arrays.copyOf(buffers[i], filled[i]));
+                    }
+                }
+            } finally {
+                for (int i = 0; i < parallelism; i++) {
+                    handOff(shards.get(i), results.get(i), END);
+                }
+            }
+
+            BacktestTally total = new BacktestTally(baseline, candidate);
+            for (Future<BacktestTally> result : results) {
+                total.merge(await(result));
+            }
+            return report(total, baseline, candidate, System.nanoTime() - started);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static void handOff(Shard shard, Future<BacktestTally> result, BacktestRecord[] batch) throws Exception {
+        while (!shard.queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            if (result.isDone()) {
+                await(result);
+                return;
+            }
+        }
+    }
+
+    private static BacktestTally await(Future<BacktestTally> result) throws Exception {
+        try {
+            return result.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Backtest worker failed", ex.getCause());
+        }
+    }
+
+    private static BacktestReport report(
+            BacktestTally total,
+            BacktestRules baseline,
+            BacktestRules candidate,
+            long elapsedNanos
+    ) {
+        return new BacktestReport(
+                total.transactions,
+                total.baselineFlags,
+                total.candidateFlags,
+                total.candidateFlags - total.baselineFlags,
+                total.newlyFlagged,
+                total.noLongerFlagged,
+                total.baselineAmount,
+                total.candidateAmount,
+                total.candidateAmount.subtract(total.baselineAmount),
+                total.baselineRates(baseline.rules()),
+                total.candidateRates(candidate.rules()),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                total.transactions * 1_000_000_000L / Math.max(elapsedNanos, 1)
+        );
+    }
+
+    private final class Shard implements Callable<BacktestTally> {
+
+        private final BlockingQueue<BacktestRecord[]> queue = new ArrayBlockingQueue<>(8);
+        private final BacktestRules baseline;
+        private final BacktestRules candidate;
+
+        private Shard(BacktestRules baseline, BacktestRules candidate) {
+            this.baseline = baseline;
+            this.candidate = candidate;
+        }
+
+        @Override
+        public BacktestTally call() throws InterruptedException {
+            AccountVelocityStore velocity = new AccountVelocityStore(bucketSeconds, retentionMinutes, maxAccounts);
+            BacktestTally tally = new BacktestTally(baseline, candidate);
+            RuntimeException failure = null;
+            BacktestRecord[] batch;
+            while ((batch = queue.take()) != END) {
+                if (failure != null) {
+                    continue;
+                }
+                try {
+                    for (BacktestRecord record : batch) {
+                        tally.record(record, velocity.record(record.event()), baseline, candidate);
+                    }
+                } catch (RuntimeException ex) {
+                    failure = ex;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return tally;
+        }
+    }
+}
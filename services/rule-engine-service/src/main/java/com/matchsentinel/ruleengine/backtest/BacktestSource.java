@@ -0,0 +1,7 @@
+package com.matchsentinel.ruleengine.backtest;
+
+public interface BacktestSource extends AutoCloseable {
+
+    // Returns null once the source is exhausted; rows of one account must arrive in occurrence order.
+    BacktestRecord next() throws Exception;
+}
@@ -0,0 +1,6 @@
+package com.matchsentinel.ruleengine.backtest;
+
+public enum BacktestSourceType {
+    FILE,
+    DATABASE
+}
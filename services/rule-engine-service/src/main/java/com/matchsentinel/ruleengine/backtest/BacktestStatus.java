@@ -0,0 +1,8 @@
+package com.matchsentinel.ruleengine.backtest;
+
+public enum BacktestStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,110 @@
+package com.matchsentinel.ruleengine.backtest;
+
+import com.matchsentinel.ruleengine.dto.RuleHitRate;
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.rules.AccountActivity;
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BacktestTally {
+
+    static final String AI_SCORE = "AI_SCORE";
+
+    private final long[] baselineHits;
+    private final long[] candidateHits;
+    long transactions;
+    long scoredTransactions;
+    long baselineFlags;
+    long candidateFlags;
+    long newlyFlagged;
+    long noLongerFlagged;
+    BigDecimal baselineAmount = BigDecimal.ZERO;
+    BigDecimal candidateAmount = BigDecimal.ZERO;
+
+    BacktestTally(BacktestRules baseline, BacktestRules candidate) {
+        this.baselineHits = new long[baseline.rules().size() + 1];
+        this.candidateHits = new long[candidate.rules().size() + 1];
+    }
+
+    void record(BacktestRecord record, AccountActivity activity, BacktestRules baseline, BacktestRules candidate) {
+        TransactionCreatedEvent event = record.event();
+        transactions++;
+        if (record.aiRiskScore() != null) {
+            scoredTransactions++;
+        }
+        boolean baselineFlagged = evaluate(baseline, record, activity, baselineHits);
+        boolean candidateFlagged = evaluate(candidate, record, activity, candidateHits);
+        if (baselineFlagged) {
+            baselineFlags++;
+            baselineAmount = baselineAmount.add(event.amount());
+        }
+        if (candidateFlagged) {
+            candidateFlags++;
+            candidateAmount = candidateAmount.add(event.amount());
+        }
+        if (candidateFlagged && !baselineFlagged) {
+            newlyFlagged++;
+        } else if (baselineFlagged && !candidateFlagged) {
+            noLongerFlagged++;
+        }
+    }
+
+    void merge(BacktestTally other) {
+        for (int i = 0; i < baselineHits.length; i++) {
+            baselineHits[i] += other.baselineHits[i];
+        }
+        for (int i = 0; i < candidateHits.length; i++) {
+            candidateHits[i] += other.candidateHits[i];
+        }
+        transactions += other.transactions;
+        scoredTransactions += other.scoredTransactions;
+        baselineFlags += other.baselineFlags;
+        candidateFlags += other.candidateFlags;
+        newlyFlagged += other.newlyFlagged;
+        noLongerFlagged += other.noLongerFlagged;
+        baselineAmount = baselineAmount.add(other.baselineAmount);
+        candidateAmount = candidateAmount.add(other.candidateAmount);
+    }
+
+    List<RuleHitRate> baselineRates(CompiledRuleSet rules) {
+        return rates(rules, baselineHits);
+    }
+
+    List<RuleHitRate> candidateRates(CompiledRuleSet rules) {
+        return rates(rules, candidateHits);
+    }
+
+    private List<RuleHitRate> rates(CompiledRuleSet rules, long[] hits) {
+        List<RuleHitRate> rates = new ArrayList<>(hits.length);
+        for (int i = 0; i < rules.size(); i++) {
+            rates.add(rate(rules.code(i), hits[i]));
+        }
+        if (scoredTransactions > 0) {
+            rates.add(rate(AI_SCORE, hits[rules.size()]));
+        }
+        return rates;
+    }
+
+    private RuleHitRate rate(String code, long hits) {
+        return new RuleHitRate(code, hits, transactions == 0 ? 0 : (double) hits / transactions);
+    }
+
+    private static boolean evaluate(BacktestRules variant, BacktestRecord record, AccountActivity activity, long[] hits) {
+        CompiledRuleSet rules = variant.rules();
+        boolean flagged = false;
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.matches(i, record.event(), activity)) {
+                hits[i]++;
+                flagged = true;
+            }
+        }
+        if (record.aiRiskScore() != null && record.aiRiskScore().compareTo(variant.aiThreshold()) >= 0) {
+            hits[rules.size()]++;
+            flagged = true;
+        }
+        return flagged;
+    }
+}
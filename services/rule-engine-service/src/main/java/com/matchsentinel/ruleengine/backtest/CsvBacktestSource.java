@@ -0,0 +1,104 @@
+package com.matchsentinel.ruleengine.backtest;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Columns: id,account_id,amount,currency,country,merchant,occurred_at[,ai_risk_score]
+// Rows must be sorted by occurred_at: velocity windows only move forward, so an earlier row is rejected.
+public final class CsvBacktestSource implements BacktestSource {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private Instant lastOccurredAt = Instant.MIN;
+
+    public CsvBacktestSource(Path path) throws IOException {
+        this.reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    @Override
+    public BacktestRecord next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && line.startsWith("id,"))) {
+                continue;
+            }
+            return parse(line);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private BacktestRecord parse(String line) {
+        List<String> fields = split(line);
+        if (fields.size() < 7) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": expected at least 7 columns");
+        }
+        try {
+            Instant occurredAt = Instant.parse(fields.get(6));
+            if (occurredAt.isBefore(lastOccurredAt)) {
+                throw new IllegalArgumentException("occurred_at " + occurredAt + " is before the previous row ("
+                        + lastOccurredAt + "); rows must be sorted by occurred_at");
+            }
+            lastOccurredAt = occurredAt;
+            TransactionCreatedEvent event = new TransactionCreatedEvent(
+                    UUID.fromString(fields.get(0)),
+                    UUID.fromString(fields.get(1)),
+                    new BigDecimal(fields.get(2)),
+                    fields.get(3),
+                    fields.get(4),
+                    fields.get(5),
+                    occurredAt,
+                    occurredAt
+            );
+            BigDecimal aiRiskScore = fields.size() > 7 && !fields.get(7).isBlank() ? new BigDecimal(fields.get(7)) : null;
+            return new BacktestRecord(event, aiRiskScore);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(8);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    current.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,68 @@
+package com.matchsentinel.ruleengine.backtest;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+public final class JdbcBacktestSource implements BacktestSource {
+
+    private static final String QUERY = "SELECT id, account_id, amount, currency, country, merchant, occurred_at "
+            + "FROM transactions WHERE occurred_at >= ? AND occurred_at < ? ORDER BY occurred_at";
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+
+    public JdbcBacktestSource(DataSource dataSource, Instant from, Instant to) throws SQLException {
+        this.connection = dataSource.getConnection();
+        try {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            this.statement = connection.prepareStatement(QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(10_000);
+            statement.setTimestamp(1, Timestamp.from(from));
+            statement.setTimestamp(2, Timestamp.from(to));
+            this.resultSet = statement.executeQuery();
+        } catch (SQLException ex) {
+            connection.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    public BacktestRecord next() throws SQLException {
+        if (!resultSet.next()) {
+            return null;
+        }
+        Instant occurredAt = resultSet.getTimestamp(7).toInstant();
+        return new BacktestRecord(new TransactionCreatedEvent(
+                resultSet.getObject(1, UUID.class),
+                resultSet.getObject(2, UUID.class),
+                resultSet.getBigDecimal(3),
+                resultSet.getString(4),
+                resultSet.getString(5),
+                resultSet.getString(6),
+                occurredAt,
+                occurredAt
+        ), null);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            resultSet.close();
+            statement.close();
+            connection.rollback();
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.matchsentinel.ruleengine.controller;
+
+import com.matchsentinel.ruleengine.dto.BacktestRequest;
+import com.matchsentinel.ruleengine.dto.BacktestResponse;
+import com.matchsentinel.ruleengine.service.BacktestService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/rules/backtests")
+@RequiredArgsConstructor
+public class BacktestController {
+
+    private final BacktestService backtestService;
+
+    @PostMapping
+    public ResponseEntity<BacktestResponse> submit(@Valid @RequestBody BacktestRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(backtestService.submit(request));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<BacktestResponse>> list() {
+        return ResponseEntity.ok(backtestService.list());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BacktestResponse> get(@PathVariable UUID id) {
+        return ResponseEntity.ok(backtestService.find(id));
+    }
+}
@@ -1,8 +1,7 @@
 package com.matchsentinel.ruleengine.controller;
 
-import com.matchsentinel.ruleengine.domain.FlaggedTransaction;
 import com.matchsentinel.ruleengine.dto.FlaggedTransactionResponse;
-import com.matchsentinel.ruleengine.repository.FlaggedTransactionRepository;
+import com.matchsentinel.ruleengine.service.FlaggedTransactionQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,8 +12,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -22,39 +19,19 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class FlaggedTransactionController {
 
-    private final FlaggedTransactionRepository repository;
+    private final FlaggedTransactionQueryService queryService;
 
     @GetMapping
     public ResponseEntity<Page<FlaggedTransactionResponse>> list(
             @PageableDefault(size = 50, sort = "createdAt") Pageable pageable
     ) {
-        return ResponseEntity.ok(repository.findAll(pageable).map(this::toResponse));
+        return ResponseEntity.ok(queryService.list(pageable));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<FlaggedTransactionResponse> getById(@PathVariable UUID id) {
-        return repository.findById(id)
-                .map(this::toResponse)
+        return queryService.findById(id)
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
-
-    private FlaggedTransactionResponse toResponse(FlaggedTransaction entity) {
-        List<String> reasons = entity.getReasons() == null || entity.getReasons().isBlank()
-                ? List.of()
-                : Arrays.asList(entity.getReasons().split(","));
-        return new FlaggedTransactionResponse(
-                entity.getId(),
-                entity.getTransactionId(),
-                entity.getAccountId(),
-                entity.getAmount(),
-                entity.getCurrency(),
-                entity.getCountry(),
-                entity.getMerchant(),
-                entity.getOccurredAt(),
-                entity.getCreatedAt(),
-                entity.getRiskScore(),
-                reasons
-        );
-    }
 }
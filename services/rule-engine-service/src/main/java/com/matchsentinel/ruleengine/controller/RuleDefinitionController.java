@@ -0,0 +1,46 @@
+package com.matchsentinel.ruleengine.controller;
+
+import com.matchsentinel.ruleengine.dto.CreateRuleRequest;
+import com.matchsentinel.ruleengine.dto.RuleDefinitionResponse;
+import com.matchsentinel.ruleengine.dto.UpdateRuleRequest;
+import com.matchsentinel.ruleengine.service.RuleDefinitionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/rules")
+@RequiredArgsConstructor
+public class RuleDefinitionController {
+
+    private final RuleDefinitionService ruleDefinitionService;
+
+    @GetMapping
+    public ResponseEntity<List<RuleDefinitionResponse>> list() {
+        return ResponseEntity.ok(ruleDefinitionService.list());
+    }
+
+    @PostMapping
+    public ResponseEntity<RuleDefinitionResponse> create(@Valid @RequestBody CreateRuleRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(ruleDefinitionService.create(request));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<RuleDefinitionResponse> update(
+            @PathVariable UUID id,
+            @Valid @RequestBody UpdateRuleRequest request
+    ) {
+        return ResponseEntity.ok(ruleDefinitionService.update(id, request));
+    }
+}
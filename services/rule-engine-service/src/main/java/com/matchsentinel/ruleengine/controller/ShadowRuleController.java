@@ -0,0 +1,42 @@
+package com.matchsentinel.ruleengine.controller;
+
+import com.matchsentinel.ruleengine.dto.CandidateRuleRequest;
+import com.matchsentinel.ruleengine.dto.ShadowRuleResponse;
+import com.matchsentinel.ruleengine.service.ShadowRuleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/rules/shadow")
+@RequiredArgsConstructor
+@Validated
+public class ShadowRuleController {
+
+    private final ShadowRuleService shadowRuleService;
+
+    @GetMapping
+    public ResponseEntity<List<ShadowRuleResponse>> list() {
+        return ResponseEntity.ok(shadowRuleService.list());
+    }
+
+    @PutMapping
+    public ResponseEntity<List<ShadowRuleResponse>> replace(@RequestBody List<@Valid CandidateRuleRequest> rules) {
+        return ResponseEntity.ok(shadowRuleService.replace(rules));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        shadowRuleService.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
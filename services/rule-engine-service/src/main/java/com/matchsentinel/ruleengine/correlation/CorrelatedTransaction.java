@@ -0,0 +1,46 @@
+package com.matchsentinel.ruleengine.correlation;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionScoredEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CorrelatedTransaction(
+        UUID transactionId,
+        TransactionCreatedEvent created,
+        List<String> ruleReasons,
+        TransactionScoredEvent scored,
+        long firstSeenNanos
+) {
+
+    public static CorrelatedTransaction ofRules(TransactionCreatedEvent created, List<String> ruleReasons) {
+        return new CorrelatedTransaction(created.id(), created, ruleReasons, null, System.nanoTime());
+    }
+
+    public static CorrelatedTransaction ofScore(TransactionScoredEvent scored) {
+        return new CorrelatedTransaction(scored.transactionId(), null, null, scored, System.nanoTime());
+    }
+
+    public boolean hasRules() {
+        return created != null;
+    }
+
+    public boolean hasScore() {
+        return scored != null;
+    }
+
+    public boolean complete() {
+        return hasRules() && hasScore();
+    }
+
+    CorrelatedTransaction merge(CorrelatedTransaction other) {
+        return new CorrelatedTransaction(
+                transactionId,
+                hasRules() ? created : other.created,
+                hasRules() ? ruleReasons : other.ruleReasons,
+                hasScore() ? scored : other.scored,
+                Math.min(firstSeenNanos, other.firstSeenNanos)
+        );
+    }
+}
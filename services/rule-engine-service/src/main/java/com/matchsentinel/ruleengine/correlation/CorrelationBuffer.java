@@ -0,0 +1,155 @@
+package com.matchsentinel.ruleengine.correlation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionScoredEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Component
+public class CorrelationBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CorrelationBuffer.class);
+
+    private final Cache<UUID, CorrelatedTransaction> pending;
+    private final ThreadPoolExecutor timeoutExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Timer joinLatency;
+    private volatile Consumer<CorrelatedTransaction> timeoutHandler = correlated -> { };
+
+    public CorrelationBuffer(
+            MeterRegistry meterRegistry,
+            @Value("${ruleengine.correlation.ttl-ms}") long ttlMs,
+            @Value("${ruleengine.correlation.max-pending}") long maxPending,
+            @Value("${ruleengine.correlation.timeout-queue-capacity}") int timeoutQueueCapacity
+    ) {
+        this.meterRegistry = meterRegistry;
+        // Every timeout is a synchronous decide against the database. When the AI service is down everything
+        // times out, so the queue is bounded and overflow runs on the evicting thread; that slows the cache
+        // writes and, through them, the listeners instead of moving the backlog from the cache into this queue.
+        this.timeoutExecutor = new ThreadPoolExecutor(
+                1,
+                1,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(timeoutQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "correlation-timeout");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.pending = Caffeine.newBuilder()
+                .maximumSize(maxPending)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .scheduler(Scheduler.systemScheduler())
+                .evictionListener((UUID transactionId, CorrelatedTransaction correlated, RemovalCause cause) -> {
+                    if (correlated != null && cause.wasEvicted() && !timeoutExecutor.isShutdown()) {
+                        timeoutExecutor.execute(() -> timeOut(correlated, cause));
+                    }
+                })
+                .build();
+        this.joinLatency = Timer.builder("ruleengine.correlation.join.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("ruleengine.correlation.pending", pending, Cache::estimatedSize)
+                .register(meterRegistry);
+        Gauge.builder("ruleengine.correlation.timeout.queue", timeoutExecutor, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public void onTimeout(Consumer<CorrelatedTransaction> handler) {
+        this.timeoutHandler = handler;
+    }
+
+    public CorrelatedTransaction offerRules(TransactionCreatedEvent event, List<String> ruleReasons) {
+        return offer(CorrelatedTransaction.ofRules(event, ruleReasons));
+    }
+
+    public CorrelatedTransaction offerScore(TransactionScoredEvent event) {
+        return offer(CorrelatedTransaction.ofScore(event));
+    }
+
+    // Re-parks a half reclaimed from the durable store; a row that already holds both halves is returned as joined.
+    public CorrelatedTransaction restore(CorrelatedTransaction recovered) {
+        return recovered.complete() ? recovered : offer(recovered);
+    }
+
+    // Drops a half whose transaction was joined from the durable store instead of in memory.
+    public void discard(UUID transactionId) {
+        pending.invalidate(transactionId);
+    }
+
+    public long pendingCount() {
+        return pending.estimatedSize();
+    }
+
+    private CorrelatedTransaction offer(CorrelatedTransaction arrival) {
+        CorrelatedTransaction[] joined = new CorrelatedTransaction[1];
+        pending.asMap().compute(arrival.transactionId(), (transactionId, existing) -> {
+            if (existing == null) {
+                return arrival;
+            }
+            CorrelatedTransaction merged = existing.merge(arrival);
+            if (merged.complete()) {
+                joined[0] = merged;
+                return null;
+            }
+            return merged;
+        });
+        if (joined[0] != null) {
+            joinLatency.record(System.nanoTime() - joined[0].firstSeenNanos(), TimeUnit.NANOSECONDS);
+        }
+        return joined[0];
+    }
+
+    private void timeOut(CorrelatedTransaction correlated, RemovalCause cause) {
+        meterRegistry.counter("ruleengine.correlation.timeouts",
+                "missing", correlated.hasScore() ? "rules" : "score",
+                "cause", switch (cause) {
+                    case SIZE -> "capacity";
+                    case EXPIRED -> "ttl";
+                    default -> "shutdown";
+                }).increment();
+        try {
+            timeoutHandler.accept(correlated);
+        } catch (RuntimeException ex) {
+            logger.error("Failed to decide timed out transaction {}", correlated.transactionId(), ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<CorrelatedTransaction> remaining = new ArrayList<>(pending.asMap().values());
+        pending.invalidateAll();
+        timeoutExecutor.shutdown();
+        try {
+            timeoutExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        for (CorrelatedTransaction correlated : remaining) {
+            timeOut(correlated, RemovalCause.EXPLICIT);
+        }
+        logger.info("Decided {} pending correlations on shutdown", remaining.size());
+    }
+}
@@ -0,0 +1,127 @@
+package com.matchsentinel.ruleengine.correlation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionScoredEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class JdbcPendingCorrelationStore implements PendingCorrelationStore {
+
+    // Halves of one transaction may be written by different instances; the upsert keeps whichever is present.
+    private static final String UPSERT = """
+            INSERT INTO correlation_pending (transaction_id, owner, created_event, rule_reasons, scored_event, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (transaction_id) DO UPDATE SET
+                owner = EXCLUDED.owner,
+                created_event = COALESCE(correlation_pending.created_event, EXCLUDED.created_event),
+                rule_reasons = COALESCE(correlation_pending.rule_reasons, EXCLUDED.rule_reasons),
+                scored_event = COALESCE(correlation_pending.scored_event, EXCLUDED.scored_event),
+                updated_at = EXCLUDED.updated_at
+            """;
+    private static final String COMPLETE = """
+            SELECT transaction_id, created_event, rule_reasons, scored_event FROM correlation_pending
+            WHERE created_event IS NOT NULL AND scored_event IS NOT NULL AND transaction_id IN (%s)
+            """;
+    private static final String CLAIM = """
+            UPDATE correlation_pending SET owner = ?, updated_at = ?
+            WHERE %s
+            RETURNING transaction_id, created_event, rule_reasons, scored_event
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String owner;
+
+    public JdbcPendingCorrelationStore(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${ruleengine.correlation.owner}") String owner
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.owner = owner;
+    }
+
+    @Override
+    public List<CorrelatedTransaction> save(List<CorrelatedTransaction> halves) {
+        if (halves.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(UPSERT, halves, halves.size(), (statement, half) -> {
+            statement.setObject(1, half.transactionId());
+            statement.setString(2, owner);
+            statement.setString(3, half.hasRules() ? write(half.created()) : null);
+            statement.setString(4, half.hasRules() ? String.join(",", half.ruleReasons()) : null);
+            statement.setString(5, half.hasScore() ? write(half.scored()) : null);
+            statement.setTimestamp(6, now);
+        });
+        String placeholders = String.join(",", Collections.nCopies(halves.size(), "?"));
+        return jdbcTemplate.query(COMPLETE.formatted(placeholders), this::read,
+                halves.stream().map(CorrelatedTransaction::transactionId).toArray());
+    }
+
+    @Override
+    public void remove(Collection<UUID> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM correlation_pending WHERE transaction_id = ?",
+                transactionIds, transactionIds.size(), (statement, transactionId) -> statement.setObject(1, transactionId));
+    }
+
+    @Override
+    public List<CorrelatedTransaction> claimOwnAndOrphaned(Instant orphanedBefore) {
+        return jdbcTemplate.query(CLAIM.formatted("owner = ? OR updated_at < ?"), this::read,
+                owner, Timestamp.from(Instant.now()), owner, Timestamp.from(orphanedBefore));
+    }
+
+    @Override
+    public List<CorrelatedTransaction> claimOrphaned(Instant orphanedBefore) {
+        return jdbcTemplate.query(CLAIM.formatted("owner <> ? AND updated_at < ?"), this::read,
+                owner, Timestamp.from(Instant.now()), owner, Timestamp.from(orphanedBefore));
+    }
+
+    private CorrelatedTransaction read(ResultSet resultSet, int row) throws SQLException {
+        String created = resultSet.getString("created_event");
+        String reasons = resultSet.getString("rule_reasons");
+        String scored = resultSet.getString("scored_event");
+        return new CorrelatedTransaction(
+                resultSet.getObject("transaction_id", UUID.class),
+                created == null ? null : read(created, TransactionCreatedEvent.class),
+                created == null ? null : reasons == null || reasons.isEmpty() ? List.of() : Arrays.asList(reasons.split(",")),
+                scored == null ? null : read(scored, TransactionScoredEvent.class),
+                System.nanoTime()
+        );
+    }
+
+    private String write(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize pending correlation", ex);
+        }
+    }
+
+    private <T> T read(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to read pending correlation", ex);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.matchsentinel.ruleengine.correlation;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Durable copy of correlation halves that could still produce a flag. A half is written before its
+ * message is acknowledged and removed once the decision for its transaction is persisted, so a crash
+ * between the two loses nothing: the survivor is reclaimed and decided on the next start.
+ */
+public interface PendingCorrelationStore {
+
+    // Returns the saved transactions whose other half was already parked, e.g. by the previous owner of a
+    // partition that has since moved; those are complete and must be decided by the caller.
+    List<CorrelatedTransaction> save(List<CorrelatedTransaction> halves);
+
+    void remove(Collection<UUID> transactionIds);
+
+    // Claims this instance's rows plus rows whose owner has not touched them since orphanedBefore.
+    List<CorrelatedTransaction> claimOwnAndOrphaned(Instant orphanedBefore);
+
+    // Claims only rows left behind by other instances.
+    List<CorrelatedTransaction> claimOrphaned(Instant orphanedBefore);
+}
@@ -1,7 +1,9 @@
 package com.matchsentinel.ruleengine.domain;
 
+import com.matchsentinel.ruleengine.util.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -17,7 +19,7 @@ import java.util.UUID;
 public class FlaggedTransaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @Column(name = "transaction_id", nullable = false)
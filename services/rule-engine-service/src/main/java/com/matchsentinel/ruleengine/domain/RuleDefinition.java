@@ -0,0 +1,41 @@
+package com.matchsentinel.ruleengine.domain;
+
+import com.matchsentinel.ruleengine.util.UuidV7Generator;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "rule_definitions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RuleDefinition {
+
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String code;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String expression;
+
+    @Column(nullable = false)
+    private boolean enabled;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void onWrite() {
+        updatedAt = Instant.now();
+    }
+}
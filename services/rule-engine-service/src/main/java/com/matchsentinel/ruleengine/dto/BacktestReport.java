@@ -0,0 +1,21 @@
+package com.matchsentinel.ruleengine.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record BacktestReport(
+        long transactions,
+        long baselineFlags,
+        long candidateFlags,
+        long flagDelta,
+        long newlyFlagged,
+        long noLongerFlagged,
+        BigDecimal baselineFlaggedAmount,
+        BigDecimal candidateFlaggedAmount,
+        BigDecimal flaggedAmountDelta,
+        List<RuleHitRate> baselineRules,
+        List<RuleHitRate> candidateRules,
+        long durationMs,
+        long transactionsPerSecond
+) {
+}
@@ -0,0 +1,36 @@
+package com.matchsentinel.ruleengine.dto;
+
+import com.matchsentinel.ruleengine.backtest.BacktestSourceType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestRequest {
+
+    @NotNull(message = "source is required")
+    private BacktestSourceType source;
+
+    private String file;
+
+    private Instant from;
+
+    private Instant to;
+
+    @Valid
+    private List<CandidateRuleRequest> rules;
+
+    @DecimalMin(value = "0.0", message = "aiThreshold must be between 0 and 1")
+    @DecimalMax(value = "1.0", message = "aiThreshold must be between 0 and 1")
+    private BigDecimal aiThreshold;
+}
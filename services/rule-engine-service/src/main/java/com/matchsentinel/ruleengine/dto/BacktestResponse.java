@@ -0,0 +1,15 @@
+package com.matchsentinel.ruleengine.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record BacktestResponse(
+        UUID id,
+        String status,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant completedAt,
+        String error,
+        BacktestReport report
+) {
+}
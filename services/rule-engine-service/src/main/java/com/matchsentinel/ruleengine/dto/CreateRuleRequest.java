@@ -0,0 +1,22 @@
+package com.matchsentinel.ruleengine.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateRuleRequest {
+
+    @NotBlank(message = "code is required")
+    @Pattern(regexp = "^[A-Z][A-Z0-9_]{0,63}$", message = "code must be upper snake case, at most 64 characters")
+    private String code;
+
+    @NotBlank(message = "expression is required")
+    private String expression;
+
+    private boolean enabled = true;
+}
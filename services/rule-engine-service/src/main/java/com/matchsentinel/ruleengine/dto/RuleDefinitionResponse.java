@@ -0,0 +1,13 @@
+package com.matchsentinel.ruleengine.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record RuleDefinitionResponse(
+        UUID id,
+        String code,
+        String expression,
+        boolean enabled,
+        Instant updatedAt
+) {
+}
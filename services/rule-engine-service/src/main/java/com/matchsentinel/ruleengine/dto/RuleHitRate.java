@@ -0,0 +1,8 @@
+package com.matchsentinel.ruleengine.dto;
+
+public record RuleHitRate(
+        String code,
+        long hits,
+        double hitRate
+) {
+}
@@ -0,0 +1,12 @@
+package com.matchsentinel.ruleengine.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ShadowRuleResponse(
+        UUID id,
+        String code,
+        String expression,
+        Instant updatedAt
+) {
+}
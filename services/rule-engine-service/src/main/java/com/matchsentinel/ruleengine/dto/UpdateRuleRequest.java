@@ -0,0 +1,19 @@
+package com.matchsentinel.ruleengine.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateRuleRequest {
+
+    @NotBlank(message = "expression is required")
+    private String expression;
+
+    @NotNull(message = "enabled is required")
+    private Boolean enabled;
+}
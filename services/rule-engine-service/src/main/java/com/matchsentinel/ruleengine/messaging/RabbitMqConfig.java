@@ -1,17 +1,23 @@
 package com.matchsentinel.ruleengine.messaging;
 
-import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 public class RabbitMqConfig {
 
@@ -37,31 +43,55 @@ public class RabbitMqConfig {
     }
 
     @Bean
-    public Queue inputQueue(@Value("${ruleengine.rabbit.input.queue}") String queueName) {
-        return QueueBuilder.durable(queueName).build();
+    public Declarables inputPartitions(
+            DirectExchange inputExchange,
+            @Value("${ruleengine.rabbit.input.queue}") String queuePrefix,
+            @Value("${ruleengine.rabbit.input.routing-key}") String routingKey,
+            @Value("${ruleengine.rabbit.input.partitions}") int partitions
+    ) {
+        return partitionQueues(inputExchange, queuePrefix, routingKey, partitions);
     }
 
+    // Scored events are partitioned by the same account hash as transaction.created, so both halves of a
+    // transaction reach the instance that owns its partition and join in memory.
     @Bean
-    public Queue aiInputQueue(@Value("${ruleengine.ai.input.queue}") String queueName) {
-        return QueueBuilder.durable(queueName).build();
+    public Declarables aiInputPartitions(
+            DirectExchange aiInputExchange,
+            @Value("${ruleengine.ai.input.queue}") String queuePrefix,
+            @Value("${ruleengine.ai.input.routing-key}") String routingKey,
+            @Value("${ruleengine.rabbit.input.partitions}") int partitions
+    ) {
+        return partitionQueues(aiInputExchange, queuePrefix, routingKey, partitions);
     }
 
     @Bean
-    public Binding inputBinding(
-            Queue inputQueue,
-            DirectExchange inputExchange,
-            @Value("${ruleengine.rabbit.input.routing-key}") String routingKey
+    public SimpleRabbitListenerContainerFactory transactionBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${ruleengine.rabbit.input.batch-size}") int batchSize,
+            @Value("${ruleengine.rabbit.input.batch-max-wait-ms}") long batchMaxWaitMs
     ) {
-        return BindingBuilder.bind(inputQueue).to(inputExchange).with(routingKey);
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(batchMaxWaitMs);
+        factory.setBatchReceiveTimeout(batchMaxWaitMs);
+        factory.setPrefetchCount(Math.max(batchSize * 2, 250));
+        return factory;
     }
 
-    @Bean
-    public Binding aiInputBinding(
-            Queue aiInputQueue,
-            DirectExchange aiInputExchange,
-            @Value("${ruleengine.ai.input.routing-key}") String routingKey
-    ) {
-        return BindingBuilder.bind(aiInputQueue).to(aiInputExchange).with(routingKey);
+    private static Declarables partitionQueues(DirectExchange exchange, String queuePrefix, String routingKey, int partitions) {
+        List<Declarable> declarables = new ArrayList<>(partitions * 2);
+        for (int partition = 0; partition < partitions; partition++) {
+            Queue queue = QueueBuilder.durable(queuePrefix + "." + partition)
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with(routingKey + "." + partition));
+        }
+        return new Declarables(declarables);
     }
 
     @Bean
@@ -5,6 +5,8 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class RabbitRuleEngineEventPublisher implements RuleEngineEventPublisher {
 
@@ -26,4 +28,14 @@ public class RabbitRuleEngineEventPublisher implements RuleEngineEventPublisher
     public void publishTransactionFlagged(TransactionFlaggedEvent event) {
         rabbitTemplate.convertAndSend(exchange, routingKey, event);
     }
+
+    @Override
+    public void publishTransactionsFlagged(List<TransactionFlaggedEvent> events) {
+        rabbitTemplate.invoke(operations -> {
+            for (TransactionFlaggedEvent event : events) {
+                operations.convertAndSend(exchange, routingKey, event);
+            }
+            return null;
+        });
+    }
 }
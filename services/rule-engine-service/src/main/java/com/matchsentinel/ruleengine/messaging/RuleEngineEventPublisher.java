@@ -2,6 +2,12 @@ package com.matchsentinel.ruleengine.messaging;
 
 import com.matchsentinel.ruleengine.dto.TransactionFlaggedEvent;
 
+import java.util.List;
+
 public interface RuleEngineEventPublisher {
     void publishTransactionFlagged(TransactionFlaggedEvent event);
+
+    default void publishTransactionsFlagged(List<TransactionFlaggedEvent> events) {
+        events.forEach(this::publishTransactionFlagged);
+    }
 }
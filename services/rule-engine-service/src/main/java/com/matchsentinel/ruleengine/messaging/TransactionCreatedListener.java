@@ -2,9 +2,10 @@ package com.matchsentinel.ruleengine.messaging;
 
 import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
 import com.matchsentinel.ruleengine.service.RuleEngineService;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class TransactionCreatedListener {
 
@@ -14,8 +15,11 @@ public class TransactionCreatedListener {
         this.ruleEngineService = ruleEngineService;
     }
 
-    @RabbitListener(queues = "${ruleengine.rabbit.input.queue}")
     public void onTransactionCreated(TransactionCreatedEvent event) {
         ruleEngineService.evaluate(event);
     }
+
+    public void onTransactionsCreated(List<TransactionCreatedEvent> events) {
+        ruleEngineService.evaluateBatch(events);
+    }
 }
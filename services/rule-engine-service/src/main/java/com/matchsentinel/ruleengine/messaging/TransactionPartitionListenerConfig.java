@@ -0,0 +1,105 @@
+package com.matchsentinel.ruleengine.messaging;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionScoredEvent;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class TransactionPartitionListenerConfig implements RabbitListenerConfigurer {
+
+    private final TransactionCreatedListener listener;
+    private final TransactionScoredListener scoredListener;
+    private final Jackson2JsonMessageConverter messageConverter;
+    private final SimpleRabbitListenerContainerFactory batchContainerFactory;
+    private final String queuePrefix;
+    private final String scoredQueuePrefix;
+    private final List<Integer> assignedPartitions;
+    private final int batchSize;
+
+    public TransactionPartitionListenerConfig(
+            TransactionCreatedListener listener,
+            TransactionScoredListener scoredListener,
+            Jackson2JsonMessageConverter messageConverter,
+            SimpleRabbitListenerContainerFactory transactionBatchContainerFactory,
+            @Value("${ruleengine.rabbit.input.queue}") String queuePrefix,
+            @Value("${ruleengine.ai.input.queue}") String scoredQueuePrefix,
+            @Value("${ruleengine.rabbit.input.partitions}") int partitions,
+            @Value("${ruleengine.rabbit.input.assigned-partitions}") String assignedPartitions,
+            @Value("${ruleengine.rabbit.input.batch-size}") int batchSize
+    ) {
+        this.listener = listener;
+        this.scoredListener = scoredListener;
+        this.messageConverter = messageConverter;
+        this.batchContainerFactory = transactionBatchContainerFactory;
+        this.queuePrefix = queuePrefix;
+        this.scoredQueuePrefix = scoredQueuePrefix;
+        this.assignedPartitions = parsePartitions(assignedPartitions, partitions);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        for (int partition : assignedPartitions) {
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId("transaction-created-" + partition);
+            endpoint.setQueueNames(queuePrefix + "." + partition);
+            endpoint.setConcurrency("1");
+            if (batchSize > 1) {
+                endpoint.setBatchListener(true);
+                endpoint.setMessageListener((BatchMessageListener) messages ->
+                        listener.onTransactionsCreated(messages.stream().map(this::toEvent).toList()));
+                registrar.registerEndpoint(endpoint, batchContainerFactory);
+            } else {
+                endpoint.setMessageListener(message -> listener.onTransactionCreated(toEvent(message)));
+                registrar.registerEndpoint(endpoint);
+            }
+
+            // The scored half of a transaction arrives on the same partition number, so it is consumed here too.
+            SimpleRabbitListenerEndpoint scored = new SimpleRabbitListenerEndpoint();
+            scored.setId("transaction-scored-" + partition);
+            scored.setQueueNames(scoredQueuePrefix + "." + partition);
+            scored.setConcurrency("1");
+            scored.setMessageListener(message -> scoredListener.onTransactionScored(toScoredEvent(message)));
+            registrar.registerEndpoint(scored);
+        }
+    }
+
+    private TransactionCreatedEvent toEvent(Message message) {
+        message.getMessageProperties().setInferredArgumentType(TransactionCreatedEvent.class);
+        return (TransactionCreatedEvent) messageConverter.fromMessage(message);
+    }
+
+    private TransactionScoredEvent toScoredEvent(Message message) {
+        message.getMessageProperties().setInferredArgumentType(TransactionScoredEvent.class);
+        return (TransactionScoredEvent) messageConverter.fromMessage(message);
+    }
+
+    static List<Integer> parsePartitions(String assigned, int partitions) {
+        List<Integer> result = new ArrayList<>();
+        if (assigned == null || assigned.isBlank()) {
+            for (int partition = 0; partition < partitions; partition++) {
+                result.add(partition);
+            }
+            return result;
+        }
+        for (String token : assigned.split(",")) {
+            int partition = Integer.parseInt(token.trim());
+            if (partition < 0 || partition >= partitions) {
+                throw new IllegalStateException("Assigned partition " + partition + " is outside 0.." + (partitions - 1));
+            }
+            result.add(partition);
+        }
+        return result;
+    }
+}
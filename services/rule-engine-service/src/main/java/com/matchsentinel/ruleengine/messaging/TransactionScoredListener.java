@@ -2,7 +2,6 @@ package com.matchsentinel.ruleengine.messaging;
 
 import com.matchsentinel.ruleengine.dto.TransactionScoredEvent;
 import com.matchsentinel.ruleengine.service.RuleEngineService;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,7 +12,6 @@ public class TransactionScoredListener {
         this.ruleEngineService = ruleEngineService;
     }
 
-    @RabbitListener(queues = "${ruleengine.ai.input.queue}")
     public void onTransactionScored(TransactionScoredEvent event) {
         ruleEngineService.evaluateAi(event);
     }
@@ -3,9 +3,16 @@ package com.matchsentinel.ruleengine.repository;
 import com.matchsentinel.ruleengine.domain.FlaggedTransaction;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface FlaggedTransactionRepository extends JpaRepository<FlaggedTransaction, UUID> {
     Optional<FlaggedTransaction> findByTransactionId(UUID transactionId);
+
+    @Query("select f.transactionId from FlaggedTransaction f where f.transactionId in :transactionIds")
+    List<UUID> findTransactionIdsIn(@Param("transactionIds") Collection<UUID> transactionIds);
 }
@@ -0,0 +1,18 @@
+package com.matchsentinel.ruleengine.repository;
+
+import com.matchsentinel.ruleengine.domain.RuleDefinition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface RuleDefinitionRepository extends JpaRepository<RuleDefinition, UUID> {
+    List<RuleDefinition> findByEnabledTrueOrderByCodeAsc();
+
+    boolean existsByCode(String code);
+
+    @Query("select max(r.updatedAt) from RuleDefinition r")
+    Instant findLatestUpdate();
+}
@@ -0,0 +1,16 @@
+package com.matchsentinel.ruleengine.repository;
+
+import com.matchsentinel.ruleengine.domain.ShadowRuleDefinition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface ShadowRuleDefinitionRepository extends JpaRepository<ShadowRuleDefinition, UUID> {
+    List<ShadowRuleDefinition> findAllByOrderByCodeAsc();
+
+    @Query("select max(r.updatedAt) from ShadowRuleDefinition r")
+    Instant findLatestUpdate();
+}
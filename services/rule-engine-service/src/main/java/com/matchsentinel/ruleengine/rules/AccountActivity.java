@@ -0,0 +1,25 @@
+package com.matchsentinel.ruleengine.rules;
+
+public interface AccountActivity {
+
+    AccountActivity NONE = new AccountActivity() {
+        @Override
+        public long count(long windowSeconds) {
+            return 0;
+        }
+
+        @Override
+        public long amountCents(long windowSeconds) {
+            return 0;
+        }
+    };
+
+    long count(long windowSeconds);
+
+    long amountCents(long windowSeconds);
+
+    // Copy that later events cannot change, for readers that run after the next event has been recorded.
+    default AccountActivity snapshot() {
+        return this;
+    }
+}
@@ -0,0 +1,51 @@
+package com.matchsentinel.ruleengine.rules;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CompiledRuleSet {
+
+    private static final CompiledRuleSet EMPTY = new CompiledRuleSet(List.of(), List.of());
+
+    private final String[] codes;
+    private final RulePredicate[] predicates;
+
+    public CompiledRuleSet(List<String> codes, List<RulePredicate> predicates) {
+        if (codes.size() != predicates.size()) {
+            throw new IllegalArgumentException("Every rule needs a code");
+        }
+        this.codes = codes.toArray(String[]::new);
+        this.predicates = predicates.toArray(RulePredicate[]::new);
+    }
+
+    public static CompiledRuleSet empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    public String code(int index) {
+        return codes[index];
+    }
+
+    public boolean matches(int index, TransactionCreatedEvent event, AccountActivity activity) {
+        return predicates[index].test(event, activity);
+    }
+
+    public List<String> evaluate(TransactionCreatedEvent event, AccountActivity activity) {
+        List<String> matched = null;
+        for (int i = 0; i < predicates.length; i++) {
+            if (predicates[i].test(event, activity)) {
+                if (matched == null) {
+                    matched = new ArrayList<>();
+                }
+                matched.add(codes[i]);
+            }
+        }
+        return matched == null ? List.of() : matched;
+    }
+}
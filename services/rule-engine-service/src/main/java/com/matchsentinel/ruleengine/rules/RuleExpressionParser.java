@@ -0,0 +1,320 @@
+package com.matchsentinel.ruleengine.rules;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.rules.RulePredicates.Comparison;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles rule expressions over {@link TransactionCreatedEvent} into a predicate tree.
+ *
+ * <pre>
+ * expression := or
+ * or         := and ("or" and)*
+ * and        := unary ("and" unary)*
+ * unary      := "not" unary | "(" or ")" | comparison
+ * comparison := field ("=" | "!=" | "<" | "<=" | ">" | ">=") literal
+ *             | field "in" "(" literal ("," literal)* ")"
+ *             | field ("contains" | "startsWith") string
+ * </pre>
+ *
+ * Fields are {@code amount}, {@code hour} (UTC hour of {@code occurredAt}), {@code currency}, {@code country}
+ * and {@code merchant}. Per-account velocity over a trailing window is available as {@code count_<window>} and
+ * {@code amount_<window>}, where the window is a number followed by {@code s}, {@code m} or {@code h}, e.g.
+ * {@code count_5m > 10 or amount_1h >= 20000}. String comparisons ignore case. Invalid expressions fail with
+ * {@link IllegalArgumentException}.
+ */
+public final class RuleExpressionParser {
+
+    private static final Map<String, Function<TransactionCreatedEvent, BigDecimal>> DECIMAL_FIELDS = Map.of(
+            "amount", TransactionCreatedEvent::amount
+    );
+    private static final Map<String, ToLongFunction<TransactionCreatedEvent>> LONG_FIELDS = Map.of(
+            "hour", RuleExpressionParser::hourOfDay
+    );
+    private static final Map<String, Function<TransactionCreatedEvent, String>> STRING_FIELDS = Map.of(
+            "currency", TransactionCreatedEvent::currency,
+            "country", TransactionCreatedEvent::country,
+            "merchant", TransactionCreatedEvent::merchant
+    );
+    private static final Pattern VELOCITY_FIELD = Pattern.compile("(count|amount)_(\\d{1,6})([smh])");
+    private static final Map<String, Comparison> COMPARISONS = Map.of(
+            "=", Comparison.EQ,
+            "!=", Comparison.NE,
+            "<", Comparison.LT,
+            "<=", Comparison.LE,
+            ">", Comparison.GT,
+            ">=", Comparison.GE
+    );
+
+    private final String source;
+    private final long maxWindowSeconds;
+    private final List<Token> tokens;
+    private int position;
+
+    private RuleExpressionParser(String source, long maxWindowSeconds) {
+        this.source = source;
+        this.maxWindowSeconds = maxWindowSeconds;
+        this.tokens = tokenize(source);
+    }
+
+    public static RulePredicate parse(String expression) {
+        return parse(expression, Long.MAX_VALUE);
+    }
+
+    public static RulePredicate parse(String expression, long maxWindowSeconds) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Rule expression must not be blank");
+        }
+        RuleExpressionParser parser = new RuleExpressionParser(expression, maxWindowSeconds);
+        RulePredicate predicate = parser.parseOr();
+        parser.expect(TokenType.END, "end of expression");
+        return predicate;
+    }
+
+    private RulePredicate parseOr() {
+        List<RulePredicate> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (acceptKeyword("or")) {
+            operands.add(parseAnd());
+        }
+        return RulePredicates.or(operands);
+    }
+
+    private RulePredicate parseAnd() {
+        List<RulePredicate> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (acceptKeyword("and")) {
+            operands.add(parseUnary());
+        }
+        return RulePredicates.and(operands);
+    }
+
+    private RulePredicate parseUnary() {
+        if (acceptKeyword("not")) {
+            return RulePredicates.not(parseUnary());
+        }
+        if (acceptSymbol("(")) {
+            RulePredicate inner = parseOr();
+            expectSymbol(")");
+            return inner;
+        }
+        return parseComparison();
+    }
+
+    private RulePredicate parseComparison() {
+        Token fieldToken = expect(TokenType.IDENTIFIER, "field name");
+        String field = fieldToken.text().toLowerCase(Locale.ROOT);
+
+        Matcher velocity = VELOCITY_FIELD.matcher(field);
+        if (velocity.matches()) {
+            return parseVelocity(fieldToken, velocity);
+        }
+        if (DECIMAL_FIELDS.containsKey(field)) {
+            Comparison comparison = expectComparison();
+            return RulePredicates.compareDecimal(DECIMAL_FIELDS.get(field), comparison, expectNumber());
+        }
+        if (LONG_FIELDS.containsKey(field)) {
+            Comparison comparison = expectComparison();
+            BigDecimal literal = expectNumber();
+            try {
+                return RulePredicates.compareLong(LONG_FIELDS.get(field), comparison, literal.longValueExact());
+            } catch (ArithmeticException ex) {
+                throw error("Expected a whole number for " + field, fieldToken);
+            }
+        }
+        Function<TransactionCreatedEvent, String> accessor = STRING_FIELDS.get(field);
+        if (accessor == null) {
+            throw error("Unknown field '" + fieldToken.text() + "'", fieldToken);
+        }
+        if (acceptKeyword("in")) {
+            expectSymbol("(");
+            List<String> literals = new ArrayList<>();
+            do {
+                literals.add(expect(TokenType.STRING, "string literal").text());
+            } while (acceptSymbol(","));
+            expectSymbol(")");
+            return RulePredicates.in(accessor, literals);
+        }
+        if (acceptKeyword("contains")) {
+            return RulePredicates.contains(accessor, expect(TokenType.STRING, "string literal").text());
+        }
+        if (acceptKeyword("startswith")) {
+            return RulePredicates.startsWith(accessor, expect(TokenType.STRING, "string literal").text());
+        }
+        Token operator = peek();
+        Comparison comparison = expectComparison();
+        if (comparison != Comparison.EQ && comparison != Comparison.NE) {
+            throw error("Operator '" + operator.text() + "' is not supported for " + field, operator);
+        }
+        RulePredicate equals = RulePredicates.equalsIgnoreCase(accessor, expect(TokenType.STRING, "string literal").text());
+        return comparison == Comparison.EQ ? equals : RulePredicates.not(equals);
+    }
+
+    private RulePredicate parseVelocity(Token fieldToken, Matcher velocity) {
+        long windowSeconds = Long.parseLong(velocity.group(2)) * switch (velocity.group(3)) {
+            case "h" -> 3_600L;
+            case "m" -> 60L;
+            default -> 1L;
+        };
+        if (windowSeconds <= 0 || windowSeconds > maxWindowSeconds) {
+            throw error("Window of " + fieldToken.text() + " must be between 1s and " + maxWindowSeconds + "s", fieldToken);
+        }
+        Comparison comparison = expectComparison();
+        BigDecimal literal = expectNumber();
+        try {
+            if (velocity.group(1).equals("count")) {
+                return RulePredicates.compareCount(windowSeconds, comparison, literal.longValueExact());
+            }
+            return RulePredicates.compareAmountCents(
+                    windowSeconds, comparison, literal.movePointRight(2).setScale(0, RoundingMode.UNNECESSARY).longValueExact());
+        } catch (ArithmeticException ex) {
+            throw error("Literal " + literal + " is not valid for " + fieldToken.text(), fieldToken);
+        }
+    }
+
+    private Comparison expectComparison() {
+        Token token = peek();
+        Comparison comparison = token.type() == TokenType.SYMBOL ? COMPARISONS.get(token.text()) : null;
+        if (comparison == null) {
+            throw error("Expected comparison operator", token);
+        }
+        position++;
+        return comparison;
+    }
+
+    private BigDecimal expectNumber() {
+        return new BigDecimal(expect(TokenType.NUMBER, "number").text());
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        Token token = peek();
+        if (token.type() == TokenType.IDENTIFIER && token.text().equalsIgnoreCase(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptSymbol(String symbol) {
+        Token token = peek();
+        if (token.type() == TokenType.SYMBOL && token.text().equals(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectSymbol(String symbol) {
+        if (!acceptSymbol(symbol)) {
+            throw error("Expected '" + symbol + "'", peek());
+        }
+    }
+
+    private Token expect(TokenType type, String description) {
+        Token token = peek();
+        if (token.type() != type) {
+            throw error("Expected " + description, token);
+        }
+        position++;
+        return token;
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private IllegalArgumentException error(String message, Token token) {
+        return new IllegalArgumentException(message + " at position " + token.offset() + " in '" + source + "'");
+    }
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isLetter(c)) {
+                int start = i;
+                while (i < source.length() && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_')) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.IDENTIFIER, source.substring(start, i), start));
+            } else if (Character.isDigit(c) || (c == '-' && i + 1 < source.length() && Character.isDigit(source.charAt(i + 1)))) {
+                int start = i++;
+                while (i < source.length() && (Character.isDigit(source.charAt(i)) || source.charAt(i) == '.')) {
+                    i++;
+                }
+                String text = source.substring(start, i);
+                try {
+                    new BigDecimal(text);
+                } catch (NumberFormatException ex) {
+                    throw new IllegalArgumentException("Invalid number '" + text + "' at position " + start);
+                }
+                tokens.add(new Token(TokenType.NUMBER, text, start));
+            } else if (c == '\'') {
+                int start = i++;
+                StringBuilder value = new StringBuilder();
+                while (true) {
+                    if (i >= source.length()) {
+                        throw new IllegalArgumentException("Unterminated string at position " + start);
+                    }
+                    char next = source.charAt(i++);
+                    if (next == '\'') {
+                        if (i < source.length() && source.charAt(i) == '\'') {
+                            value.append('\'');
+                            i++;
+                            continue;
+                        }
+                        break;
+                    }
+                    value.append(next);
+                }
+                tokens.add(new Token(TokenType.STRING, value.toString(), start));
+            } else if ("<>!=".indexOf(c) >= 0) {
+                int start = i++;
+                if (i < source.length() && source.charAt(i) == '=') {
+                    i++;
+                }
+                String symbol = source.substring(start, i);
+                if (!COMPARISONS.containsKey(symbol)) {
+                    throw new IllegalArgumentException("Unknown operator '" + symbol + "' at position " + start);
+                }
+                tokens.add(new Token(TokenType.SYMBOL, symbol, start));
+            } else if ("(),".indexOf(c) >= 0) {
+                tokens.add(new Token(TokenType.SYMBOL, String.valueOf(c), i++));
+            } else {
+                throw new IllegalArgumentException("Unexpected character '" + c + "' at position " + i);
+            }
+        }
+        tokens.add(new Token(TokenType.END, "", source.length()));
+        return tokens;
+    }
+
+    private static long hourOfDay(TransactionCreatedEvent event) {
+        Instant occurredAt = event.occurredAt();
+        return occurredAt == null ? -1 : Math.floorMod(occurredAt.getEpochSecond(), 86_400L) / 3_600L;
+    }
+
+    private enum TokenType {
+        IDENTIFIER,
+        NUMBER,
+        STRING,
+        SYMBOL,
+        END
+    }
+
+    private record Token(TokenType type, String text, int offset) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.matchsentinel.ruleengine.rules;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+
+@FunctionalInterface
+public interface RulePredicate {
+    boolean test(TransactionCreatedEvent event, AccountActivity activity);
+}
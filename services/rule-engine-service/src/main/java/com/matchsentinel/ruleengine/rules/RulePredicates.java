@@ -0,0 +1,166 @@
+package com.matchsentinel.ruleengine.rules;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// Node types of a compiled rule. None of them allocate in test(), so a rule set can run per event at ingest rate.
+final class RulePredicates {
+
+    private RulePredicates() {
+    }
+
+    enum Comparison {
+        EQ, NE, LT, LE, GT, GE;
+
+        boolean matches(int compared) {
+            return switch (this) {
+                case EQ -> compared == 0;
+                case NE -> compared != 0;
+                case LT -> compared < 0;
+                case LE -> compared <= 0;
+                case GT -> compared > 0;
+                case GE -> compared >= 0;
+            };
+        }
+    }
+
+    static RulePredicate and(List<RulePredicate> operands) {
+        if (operands.size() == 1) {
+            return operands.get(0);
+        }
+        RulePredicate[] all = operands.toArray(RulePredicate[]::new);
+        return (event, activity) -> {
+            for (RulePredicate operand : all) {
+                if (!operand.test(event, activity)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    static RulePredicate or(List<RulePredicate> operands) {
+        if (operands.size() == 1) {
+            return operands.get(0);
+        }
+        RulePredicate[] any = operands.toArray(RulePredicate[]::new);
+        return (event, activity) -> {
+            for (RulePredicate operand : any) {
+                if (operand.test(event, activity)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    static RulePredicate not(RulePredicate operand) {
+        return (event, activity) -> !operand.test(event, activity);
+    }
+
+    static RulePredicate compareDecimal(
+            Function<TransactionCreatedEvent, BigDecimal> field,
+            Comparison comparison,
+            BigDecimal literal
+    ) {
+        return (event, activity) -> {
+            BigDecimal value = field.apply(event);
+            return value != null && comparison.matches(value.compareTo(literal));
+        };
+    }
+
+    static RulePredicate compareLong(
+            ToLongFunction<TransactionCreatedEvent> field,
+            Comparison comparison,
+            long literal
+    ) {
+        return (event, activity) -> comparison.matches(Long.compare(field.applyAsLong(event), literal));
+    }
+
+    static RulePredicate compareCount(long windowSeconds, Comparison comparison, long literal) {
+        return (event, activity) -> comparison.matches(Long.compare(activity.count(windowSeconds), literal));
+    }
+
+    static RulePredicate compareAmountCents(long windowSeconds, Comparison comparison, long literalCents) {
+        return (event, activity) -> comparison.matches(Long.compare(activity.amountCents(windowSeconds), literalCents));
+    }
+
+    static RulePredicate equalsIgnoreCase(Function<TransactionCreatedEvent, String> field, String literal) {
+        return (event, activity) -> literal.equalsIgnoreCase(field.apply(event));
+    }
+
+    static RulePredicate in(Function<TransactionCreatedEvent, String> field, List<String> literals) {
+        IgnoreCaseSet set = new IgnoreCaseSet(literals);
+        return (event, activity) -> set.contains(field.apply(event));
+    }
+
+    static RulePredicate contains(Function<TransactionCreatedEvent, String> field, String literal) {
+        return (event, activity) -> {
+            String value = field.apply(event);
+            if (value == null) {
+                return false;
+            }
+            for (int offset = 0; offset + literal.length() <= value.length(); offset++) {
+                if (value.regionMatches(true, offset, literal, 0, literal.length())) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    static RulePredicate startsWith(Function<TransactionCreatedEvent, String> field, String literal) {
+        return (event, activity) -> {
+            String value = field.apply(event);
+            return value != null && value.regionMatches(true, 0, literal, 0, literal.length());
+        };
+    }
+
+    // Open-addressing set keyed by upper-cased characters, so lookups never build a normalized copy of the value.
+    static final class IgnoreCaseSet {
+
+        private final String[] slots;
+        private final int mask;
+
+        IgnoreCaseSet(List<String> values) {
+            int capacity = Integer.highestOneBit(Math.max(values.size(), 1) * 4 - 1) << 1;
+            slots = new String[capacity];
+            mask = capacity - 1;
+            for (String value : values) {
+                if (!contains(value)) {
+                    int index = hash(value) & mask;
+                    while (slots[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    slots[index] = value;
+                }
+            }
+        }
+
+        boolean contains(String value) {
+            if (value == null) {
+                return false;
+            }
+            int index = hash(value) & mask;
+            while (slots[index] != null) {
+                if (slots[index].equalsIgnoreCase(value)) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        private static int hash(String value) {
+            int hash = 0;
+            for (int i = 0; i < value.length(); i++) {
+                hash = 31 * hash + Character.toUpperCase(value.charAt(i));
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
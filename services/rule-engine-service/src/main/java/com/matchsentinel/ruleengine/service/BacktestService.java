@@ -0,0 +1,208 @@
+package com.matchsentinel.ruleengine.service;
+
+import com.matchsentinel.ruleengine.backtest.BacktestJob;
+import com.matchsentinel.ruleengine.backtest.BacktestRules;
+import com.matchsentinel.ruleengine.backtest.BacktestRunner;
+import com.matchsentinel.ruleengine.backtest.BacktestSource;
+import com.matchsentinel.ruleengine.backtest.CsvBacktestSource;
+import com.matchsentinel.ruleengine.backtest.JdbcBacktestSource;
+import com.matchsentinel.ruleengine.dto.BacktestRequest;
+import com.matchsentinel.ruleengine.dto.BacktestResponse;
+import com.matchsentinel.ruleengine.dto.CandidateRuleRequest;
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+import com.matchsentinel.ruleengine.rules.RulePredicate;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+@Service
+public class BacktestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BacktestService.class);
+    private static final int RETAINED_JOBS = 50;
+
+    private final RuleSetRegistry registry;
+    private final BacktestRunner runner;
+    private final BigDecimal aiThreshold;
+    private final Path importDirectory;
+    private final DataSource transactionsDataSource;
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, BacktestJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, BacktestJob> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    });
+
+    public BacktestService(
+            RuleSetRegistry registry,
+            @Value("${ruleengine.velocity.bucket-seconds}") long bucketSeconds,
+            @Value("${ruleengine.velocity.retention-minutes}") long retentionMinutes,
+            @Value("${ruleengine.velocity.max-accounts}") long maxAccounts,
+            @Value("${ruleengine.ai.threshold}") BigDecimal aiThreshold,
+            @Value("${ruleengine.backtest.import-directory}") String importDirectory,
+            @Value("${ruleengine.backtest.parallelism}") int parallelism,
+            @Value("${ruleengine.backtest.transactions-db.url}") String transactionsDbUrl,
+            @Value("${ruleengine.backtest.transactions-db.username}") String transactionsDbUser,
+            @Value("${ruleengine.backtest.transactions-db.password}") String transactionsDbPassword
+    ) {
+        int workers = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.registry = registry;
+        this.runner = new BacktestRunner(bucketSeconds, retentionMinutes, maxAccounts, workers);
+        this.aiThreshold = aiThreshold;
+        this.importDirectory = Path.of(importDirectory).toAbsolutePath().normalize();
+        this.transactionsDataSource = transactionsDbUrl == null || transactionsDbUrl.isBlank()
+                ? null
+                : new DriverManagerDataSource(transactionsDbUrl, transactionsDbUser, transactionsDbPassword);
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(4), runnable -> {
+            Thread thread = new Thread(runnable, "backtest");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public BacktestResponse submit(BacktestRequest request) {
+        Callable<BacktestSource> source = openSource(request);
+        BacktestRules baseline = new BacktestRules(registry.current(), aiThreshold);
+        BacktestRules candidate = new BacktestRules(
+                request.getRules() == null ? baseline.rules() : compile(request.getRules()),
+                request.getAiThreshold() == null ? aiThreshold : request.getAiThreshold()
+        );
+
+        BacktestJob job = new BacktestJob(UUID.randomUUID(), Instant.now());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, source, baseline, candidate));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.getId());
+            throw new ResponseStatusException(TOO_MANY_REQUESTS, "Too many backtests queued");
+        }
+        return toResponse(job);
+    }
+
+    public BacktestResponse find(UUID id) {
+        BacktestJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResponseStatusException(NOT_FOUND, "Backtest not found");
+        }
+        return toResponse(job);
+    }
+
+    public List<BacktestResponse> list() {
+        List<BacktestJob> snapshot;
+        synchronized (jobs) {
+            snapshot = new ArrayList<>(jobs.values());
+        }
+        Collections.reverse(snapshot);
+        return snapshot.stream().map(this::toResponse).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(BacktestJob job, Callable<BacktestSource> source, BacktestRules baseline, BacktestRules candidate) {
+        job.start();
+        try (BacktestSource rows = source.call()) {
+            job.complete(runner.run(rows, baseline, candidate));
+            logger.info("Backtest {} replayed {} transactions in {} ms", job.getId(),
+                    job.getReport().transactions(), job.getReport().durationMs());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.fail("Interrupted");
+        } catch (Exception ex) {
+            logger.warn("Backtest {} failed", job.getId(), ex);
+            job.fail(ex.getMessage());
+        }
+    }
+
+    private Callable<BacktestSource> openSource(BacktestRequest request) {
+        return switch (request.getSource()) {
+            case FILE -> {
+                if (request.getFile() == null || request.getFile().isBlank()) {
+                    throw new ResponseStatusException(BAD_REQUEST, "file is required for FILE backtests");
+                }
+                Path file = importDirectory.resolve(request.getFile()).normalize();
+                if (!file.startsWith(importDirectory) || !Files.isRegularFile(file)) {
+                    throw new ResponseStatusException(BAD_REQUEST, "Backtest file not found in import directory");
+                }
+                yield () -> new CsvBacktestSource(file);
+            }
+            case DATABASE -> {
+                if (transactionsDataSource == null) {
+                    throw new ResponseStatusException(BAD_REQUEST, "Transactions database is not configured");
+                }
+                if (request.getFrom() == null || request.getTo() == null || !request.getFrom().isBefore(request.getTo())) {
+                    throw new ResponseStatusException(BAD_REQUEST, "from must be before to");
+                }
+                if (request.getAiThreshold() != null) {
+                    // Stored transactions carry no AI score, so a threshold change would be silently ignored.
+                    throw new ResponseStatusException(BAD_REQUEST,
+                            "aiThreshold can only be evaluated on CSV backtests that include ai_risk_score");
+                }
+                Instant from = request.getFrom();
+                Instant to = request.getTo();
+                yield () -> new JdbcBacktestSource(transactionsDataSource, from, to);
+            }
+        };
+    }
+
+    private CompiledRuleSet compile(List<CandidateRuleRequest> rules) {
+        List<String> codes = new ArrayList<>(rules.size());
+        List<RulePredicate> predicates = new ArrayList<>(rules.size());
+        Set<String> seen = new HashSet<>();
+        for (CandidateRuleRequest rule : rules) {
+            if (!seen.add(rule.getCode())) {
+                throw new ResponseStatusException(BAD_REQUEST, "Duplicate rule code " + rule.getCode());
+            }
+            try {
+                predicates.add(registry.compile(rule.getExpression()));
+            } catch (IllegalArgumentException ex) {
+                throw new ResponseStatusException(BAD_REQUEST, rule.getCode() + ": " + ex.getMessage());
+            }
+            codes.add(rule.getCode());
+        }
+        return new CompiledRuleSet(codes, predicates);
+    }
+
+    private BacktestResponse toResponse(BacktestJob job) {
+        return new BacktestResponse(
+                job.getId(),
+                job.getStatus().name(),
+                job.getSubmittedAt(),
+                job.getStartedAt(),
+                job.getCompletedAt(),
+                job.getError(),
+                job.getReport()
+        );
+    }
+}
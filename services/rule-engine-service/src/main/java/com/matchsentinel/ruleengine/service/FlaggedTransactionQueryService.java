@@ -0,0 +1,50 @@
+package com.matchsentinel.ruleengine.service;
+
+import com.matchsentinel.ruleengine.domain.FlaggedTransaction;
+import com.matchsentinel.ruleengine.dto.FlaggedTransactionResponse;
+import com.matchsentinel.ruleengine.repository.FlaggedTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class FlaggedTransactionQueryService {
+
+    private final FlaggedTransactionRepository repository;
+
+    public Page<FlaggedTransactionResponse> list(Pageable pageable) {
+        return repository.findAll(pageable).map(this::toResponse);
+    }
+
+    @Cacheable(cacheNames = "flags", unless = "#result == null")
+    public Optional<FlaggedTransactionResponse> findById(UUID id) {
+        return repository.findById(id).map(this::toResponse);
+    }
+
+    private FlaggedTransactionResponse toResponse(FlaggedTransaction entity) {
+        List<String> reasons = entity.getReasons() == null || entity.getReasons().isBlank()
+                ? List.of()
+                : Arrays.asList(entity.getReasons().split(","));
+        return new FlaggedTransactionResponse(
+                entity.getId(),
+                entity.getTransactionId(),
+                entity.getAccountId(),
+                entity.getAmount(),
+                entity.getCurrency(),
+                entity.getCountry(),
+                entity.getMerchant(),
+                entity.getOccurredAt(),
+                entity.getCreatedAt(),
+                entity.getRiskScore(),
+                reasons
+        );
+    }
+}
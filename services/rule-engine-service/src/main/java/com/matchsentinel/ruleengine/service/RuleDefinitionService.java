@@ -0,0 +1,75 @@
+package com.matchsentinel.ruleengine.service;
+
+import com.matchsentinel.ruleengine.domain.RuleDefinition;
+import com.matchsentinel.ruleengine.dto.CreateRuleRequest;
+import com.matchsentinel.ruleengine.dto.RuleDefinitionResponse;
+import com.matchsentinel.ruleengine.dto.UpdateRuleRequest;
+import com.matchsentinel.ruleengine.repository.RuleDefinitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+public class RuleDefinitionService {
+
+    private final RuleDefinitionRepository repository;
+    private final RuleSetRegistry registry;
+
+    public List<RuleDefinitionResponse> list() {
+        return repository.findAll(Sort.by("code")).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    public RuleDefinitionResponse create(CreateRuleRequest request) {
+        validate(request.getExpression());
+        if (repository.existsByCode(request.getCode())) {
+            throw new ResponseStatusException(CONFLICT, "Rule already exists for code");
+        }
+        RuleDefinition saved = repository.save(RuleDefinition.builder()
+                .code(request.getCode())
+                .expression(request.getExpression().trim())
+                .enabled(request.isEnabled())
+                .build());
+        registry.reload();
+        return toResponse(saved);
+    }
+
+    public RuleDefinitionResponse update(UUID id, UpdateRuleRequest request) {
+        RuleDefinition definition = repository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Rule not found"));
+        validate(request.getExpression());
+        definition.setExpression(request.getExpression().trim());
+        definition.setEnabled(request.getEnabled());
+        RuleDefinition saved = repository.save(definition);
+        registry.reload();
+        return toResponse(saved);
+    }
+
+    private void validate(String expression) {
+        try {
+            registry.compile(expression);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    private RuleDefinitionResponse toResponse(RuleDefinition definition) {
+        return new RuleDefinitionResponse(
+                definition.getId(),
+                definition.getCode(),
+                definition.getExpression(),
+                definition.isEnabled(),
+                definition.getUpdatedAt()
+        );
+    }
+}
@@ -1,116 +1,273 @@
 package com.matchsentinel.ruleengine.service;
 
+import com.matchsentinel.ruleengine.correlation.CorrelatedTransaction;
+import com.matchsentinel.ruleengine.correlation.CorrelationBuffer;
+import com.matchsentinel.ruleengine.correlation.PendingCorrelationStore;
 import com.matchsentinel.ruleengine.domain.FlaggedTransaction;
 import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
 import com.matchsentinel.ruleengine.dto.TransactionFlaggedEvent;
 import com.matchsentinel.ruleengine.dto.TransactionScoredEvent;
 import com.matchsentinel.ruleengine.messaging.RuleEngineEventPublisher;
 import com.matchsentinel.ruleengine.repository.FlaggedTransactionRepository;
+import com.matchsentinel.ruleengine.rules.AccountActivity;
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+import com.matchsentinel.ruleengine.shadow.ShadowEvaluator;
+import com.matchsentinel.ruleengine.velocity.AccountVelocityStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class RuleEngineService {
 
+    private static final Logger logger = LoggerFactory.getLogger(RuleEngineService.class);
+
     private final FlaggedTransactionRepository repository;
     private final RuleEngineEventPublisher eventPublisher;
-
-    @Value("${ruleengine.rules.amount-threshold}")
-    private BigDecimal amountThreshold;
-
-    @Value("${ruleengine.rules.high-risk-countries}")
-    private String highRiskCountries;
+    private final RuleSetRegistry ruleSets;
+    private final RuleEvaluator ruleEvaluator;
+    private final AccountVelocityStore velocityStore;
+    private final TransactionIdFilter transactionIds;
+    private final CorrelationBuffer correlation;
+    private final PendingCorrelationStore pendingStore;
+    private final ShadowEvaluator shadow;
+    private final MeterRegistry meterRegistry;
 
     @Value("${ruleengine.ai.threshold}")
     private BigDecimal aiThreshold;
 
+    @Value("${ruleengine.correlation.orphan-after-ms}")
+    private long orphanAfterMs;
+
+    @PostConstruct
+    public void registerTimeoutHandler() {
+        correlation.onTimeout(correlated -> decide(List.of(correlated)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPending() {
+        restore(pendingStore.claimOwnAndOrphaned(Instant.now().minus(Duration.ofMillis(orphanAfterMs))));
+    }
+
+    @Scheduled(fixedDelayString = "${ruleengine.correlation.orphan-after-ms}")
+    public void adoptOrphans() {
+        try {
+            restore(pendingStore.claimOrphaned(Instant.now().minus(Duration.ofMillis(orphanAfterMs))));
+        } catch (DataAccessException ex) {
+            logger.warn("Failed to adopt orphaned correlations, retrying on the next sweep", ex);
+        }
+    }
+
+    // Each listener method returns, and so acks, only after an unjoined half that carries flag evidence is stored.
     public void evaluate(TransactionCreatedEvent event) {
-        if (repository.findByTransactionId(event.id()).isPresent()) {
-            return;
+        AccountActivity activity = velocityStore.record(event);
+        List<String> reasons = ruleEvaluator.evaluate(ruleSets.current(), event, activity);
+        shadow.submit(event, activity);
+        CorrelatedTransaction joined = correlation.offerRules(event, reasons);
+        if (joined != null) {
+            decide(List.of(joined));
+        } else if (!reasons.isEmpty()) {
+            park(List.of(CorrelatedTransaction.ofRules(event, reasons)));
         }
-        List<String> reasons = new ArrayList<>();
+    }
 
-        if (event.amount().compareTo(amountThreshold) >= 0) {
-            reasons.add("AMOUNT_THRESHOLD");
+    public void evaluateBatch(List<TransactionCreatedEvent> events) {
+        CompiledRuleSet rules = ruleSets.current();
+        List<CorrelatedTransaction> joined = new ArrayList<>();
+        List<CorrelatedTransaction> parked = new ArrayList<>();
+        for (TransactionCreatedEvent event : events) {
+            AccountActivity activity = velocityStore.record(event);
+            List<String> reasons = ruleEvaluator.evaluate(rules, event, activity);
+            shadow.submit(event, activity);
+            CorrelatedTransaction correlated = correlation.offerRules(event, reasons);
+            if (correlated != null) {
+                joined.add(correlated);
+            } else if (!reasons.isEmpty()) {
+                parked.add(CorrelatedTransaction.ofRules(event, reasons));
+            }
         }
+        park(parked);
+        decide(joined);
+    }
 
-        Set<String> risky = parseCountries(highRiskCountries);
-        if (risky.contains(event.country().toUpperCase(Locale.ROOT))) {
-            reasons.add("HIGH_RISK_COUNTRY");
+    public void evaluateAi(TransactionScoredEvent event) {
+        CorrelatedTransaction joined = correlation.offerScore(event);
+        if (joined != null) {
+            decide(List.of(joined));
+        } else if (event.riskScore().compareTo(aiThreshold) >= 0) {
+            park(List.of(CorrelatedTransaction.ofScore(event)));
         }
+    }
 
-        if (reasons.isEmpty()) {
+    // Halves without evidence are never stored: losing one cannot turn a flag into a pass. A lost sub-threshold
+    // score can only lower the recorded risk score of a transaction the rules flag on their own.
+    public void decide(List<CorrelatedTransaction> correlated) {
+        Map<UUID, FlaggedTransaction> flagged = new LinkedHashMap<>();
+        Map<UUID, List<String>> reasonsByTransaction = new HashMap<>();
+        List<UUID> possiblyFlagged = new ArrayList<>();
+        for (CorrelatedTransaction transaction : correlated) {
+            List<String> reasons = combinedReasons(transaction);
+            if (reasons.isEmpty() || flagged.containsKey(transaction.transactionId())) {
+                continue;
+            }
+            flagged.put(transaction.transactionId(), toFlagged(transaction, reasons));
+            reasonsByTransaction.put(transaction.transactionId(), reasons);
+            if (transactionIds.mightContain(transaction.transactionId())) {
+                possiblyFlagged.add(transaction.transactionId());
+            }
+        }
+        List<UUID> decided = new ArrayList<>(flagged.keySet());
+        if (!possiblyFlagged.isEmpty()) {
+            repository.findTransactionIdsIn(possiblyFlagged).forEach(flagged::remove);
+        }
+        if (flagged.isEmpty()) {
+            pendingStore.remove(decided);
             return;
         }
 
-        BigDecimal riskScore = computeRiskScore(reasons.size());
-        FlaggedTransaction saved = repository.save(FlaggedTransaction.builder()
-                .transactionId(event.id())
-                .accountId(event.accountId())
-                .amount(event.amount())
-                .currency(event.currency())
-                .country(event.country())
-                .merchant(event.merchant())
-                .occurredAt(event.occurredAt())
-                .createdAt(Instant.now())
-                .reasons(String.join(",", reasons))
-                .riskScore(riskScore)
-                .build());
+        List<FlaggedTransaction> saved;
+        try {
+            saved = repository.saveAll(flagged.values());
+        } catch (DataIntegrityViolationException ex) {
+            for (FlaggedTransaction transaction : flagged.values()) {
+                transaction.setId(null);
+                saveAndPublish(transaction, reasonsByTransaction.get(transaction.getTransactionId()));
+            }
+            pendingStore.remove(decided);
+            return;
+        }
 
-        eventPublisher.publishTransactionFlagged(new TransactionFlaggedEvent(
-                saved.getTransactionId(),
-                saved.getAccountId(),
-                saved.getAmount(),
-                saved.getCurrency(),
-                saved.getCountry(),
-                saved.getMerchant(),
-                saved.getOccurredAt(),
-                saved.getCreatedAt(),
-                saved.getRiskScore(),
-                reasons
-        ));
+        List<TransactionFlaggedEvent> published = new ArrayList<>(saved.size());
+        for (FlaggedTransaction transaction : saved) {
+            transactionIds.add(transaction.getTransactionId());
+            published.add(toEvent(transaction, reasonsByTransaction.get(transaction.getTransactionId())));
+        }
+        eventPublisher.publishTransactionsFlagged(published);
+        pendingStore.remove(decided);
     }
 
-    public void evaluateAi(TransactionScoredEvent event) {
-        if (repository.findByTransactionId(event.transactionId()).isPresent()) {
+    // Partitions keep both halves on one instance, but a half parked before a partition moved is only in the
+    // store; joining against it here keeps such a transaction from being decided twice, once per half.
+    private void park(List<CorrelatedTransaction> halves) {
+        List<CorrelatedTransaction> joined = pendingStore.save(halves);
+        if (joined.isEmpty()) {
             return;
         }
-        if (event.riskScore().compareTo(aiThreshold) < 0) {
+        joined.forEach(correlated -> correlation.discard(correlated.transactionId()));
+        meterRegistry.counter("ruleengine.correlation.joined.durable").increment(joined.size());
+        decide(joined);
+    }
+
+    private void restore(List<CorrelatedTransaction> recovered) {
+        List<CorrelatedTransaction> joined = new ArrayList<>();
+        for (CorrelatedTransaction half : recovered) {
+            CorrelatedTransaction correlated = correlation.restore(half);
+            if (correlated != null) {
+                joined.add(correlated);
+            }
+        }
+        if (!recovered.isEmpty()) {
+            meterRegistry.counter("ruleengine.correlation.recovered").increment(recovered.size());
+            logger.info("Reclaimed {} pending correlations", recovered.size());
+        }
+        decide(joined);
+    }
+
+    private void saveAndPublish(FlaggedTransaction flagged, List<String> reasons) {
+        FlaggedTransaction saved;
+        try {
+            saved = repository.save(flagged);
+        } catch (DataIntegrityViolationException ex) {
+            transactionIds.add(flagged.getTransactionId());
             return;
         }
+        transactionIds.add(saved.getTransactionId());
+        eventPublisher.publishTransactionFlagged(toEvent(saved, reasons));
+    }
+
+    private List<String> combinedReasons(CorrelatedTransaction correlated) {
+        boolean rulesHit = correlated.hasRules() && !correlated.ruleReasons().isEmpty();
+        boolean aiHit = correlated.hasScore() && correlated.scored().riskScore().compareTo(aiThreshold) >= 0;
+        if (!aiHit) {
+            return rulesHit ? correlated.ruleReasons() : List.of();
+        }
 
         List<String> reasons = new ArrayList<>();
-        if (event.reasons() != null) {
-            reasons.addAll(event.reasons());
+        if (rulesHit) {
+            reasons.addAll(correlated.ruleReasons());
         }
-        if (reasons.isEmpty()) {
+        List<String> aiReasons = correlated.scored().reasons();
+        if (aiReasons == null || aiReasons.isEmpty()) {
             reasons.add("AI_SCORE");
+        } else {
+            for (String reason : aiReasons) {
+                if (!reasons.contains(reason)) {
+                    reasons.add(reason);
+                }
+            }
         }
+        return reasons;
+    }
 
-        FlaggedTransaction saved = repository.save(FlaggedTransaction.builder()
-                .transactionId(event.transactionId())
-                .accountId(event.accountId())
-                .amount(event.amount())
-                .currency(event.currency())
-                .country(event.country())
-                .merchant(event.merchant())
-                .occurredAt(event.occurredAt())
-                .createdAt(event.scoredAt())
+    private BigDecimal combinedRiskScore(CorrelatedTransaction correlated) {
+        BigDecimal riskScore = BigDecimal.ZERO;
+        if (correlated.hasRules() && !correlated.ruleReasons().isEmpty()) {
+            riskScore = computeRiskScore(correlated.ruleReasons().size());
+        }
+        if (correlated.hasScore() && correlated.scored().riskScore().compareTo(riskScore) > 0) {
+            riskScore = correlated.scored().riskScore();
+        }
+        return riskScore;
+    }
+
+    private FlaggedTransaction toFlagged(CorrelatedTransaction correlated, List<String> reasons) {
+        FlaggedTransaction.FlaggedTransactionBuilder builder = FlaggedTransaction.builder()
+                .transactionId(correlated.transactionId())
+                .createdAt(Instant.now())
                 .reasons(String.join(",", reasons))
-                .riskScore(event.riskScore())
-                .build());
+                .riskScore(combinedRiskScore(correlated));
+        if (correlated.hasRules()) {
+            TransactionCreatedEvent event = correlated.created();
+            builder.accountId(event.accountId())
+                    .amount(event.amount())
+                    .currency(event.currency())
+                    .country(event.country())
+                    .merchant(event.merchant())
+                    .occurredAt(event.occurredAt());
+        } else {
+            TransactionScoredEvent event = correlated.scored();
+            builder.accountId(event.accountId())
+                    .amount(event.amount())
+                    .currency(event.currency())
+                    .country(event.country())
+                    .merchant(event.merchant())
+                    .occurredAt(event.occurredAt());
+        }
+        return builder.build();
+    }
 
-        eventPublisher.publishTransactionFlagged(new TransactionFlaggedEvent(
+    private TransactionFlaggedEvent toEvent(FlaggedTransaction saved, List<String> reasons) {
+        return new TransactionFlaggedEvent(
                 saved.getTransactionId(),
                 saved.getAccountId(),
                 saved.getAmount(),
@@ -121,16 +278,7 @@ public class RuleEngineService {
                 saved.getCreatedAt(),
                 saved.getRiskScore(),
                 reasons
-        ));
-    }
-
-    private Set<String> parseCountries(String value) {
-        return List.of(value.split(","))
-                .stream()
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .map(s -> s.toUpperCase(Locale.ROOT))
-                .collect(Collectors.toSet());
+        );
     }
 
     private BigDecimal computeRiskScore(int reasonCount) {
@@ -0,0 +1,62 @@
+package com.matchsentinel.ruleengine.service;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.rules.AccountActivity;
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RuleEvaluator {
+
+    private final MeterRegistry meterRegistry;
+    private volatile Instruments instruments;
+
+    public RuleEvaluator(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public List<String> evaluate(CompiledRuleSet rules, TransactionCreatedEvent event, AccountActivity activity) {
+        Instruments current = instrumentsFor(rules);
+        List<String> matched = null;
+        for (int i = 0; i < rules.size(); i++) {
+            long started = System.nanoTime();
+            boolean hit = rules.matches(i, event, activity);
+            current.latency()[i].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            if (hit) {
+                current.hits()[i].increment();
+                if (matched == null) {
+                    matched = new ArrayList<>();
+                }
+                matched.add(rules.code(i));
+            }
+        }
+        return matched == null ? List.of() : matched;
+    }
+
+    // Meters are resolved once per compiled rule set so the hot path never builds meter ids.
+    private Instruments instrumentsFor(CompiledRuleSet rules) {
+        Instruments current = instruments;
+        if (current != null && current.rules() == rules) {
+            return current;
+        }
+        Timer[] latency = new Timer[rules.size()];
+        Counter[] hits = new Counter[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            latency[i] = meterRegistry.timer("ruleengine.rule.evaluation", "rule", rules.code(i));
+            hits[i] = meterRegistry.counter("ruleengine.rule.hits", "rule", rules.code(i));
+        }
+        current = new Instruments(rules, latency, hits);
+        instruments = current;
+        return current;
+    }
+
+    private record Instruments(CompiledRuleSet rules, Timer[] latency, Counter[] hits) {
+    }
+}
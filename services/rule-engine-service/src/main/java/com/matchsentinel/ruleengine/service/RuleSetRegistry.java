@@ -0,0 +1,99 @@
+package com.matchsentinel.ruleengine.service;
+
+import com.matchsentinel.ruleengine.repository.RuleDefinitionRepository;
+import com.matchsentinel.ruleengine.repository.ShadowRuleDefinitionRepository;
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+import com.matchsentinel.ruleengine.rules.RuleExpressionParser;
+import com.matchsentinel.ruleengine.rules.RulePredicate;
+import com.matchsentinel.ruleengine.velocity.AccountVelocityStore;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class RuleSetRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(RuleSetRegistry.class);
+
+    private final RuleDefinitionRepository repository;
+    private final ShadowRuleDefinitionRepository shadowRepository;
+    private final AccountVelocityStore velocityStore;
+    private volatile CompiledRuleSet current = CompiledRuleSet.empty();
+    private volatile CompiledRuleSet shadow = CompiledRuleSet.empty();
+    private volatile String loadedVersion;
+
+    public RuleSetRegistry(
+            RuleDefinitionRepository repository,
+            ShadowRuleDefinitionRepository shadowRepository,
+            AccountVelocityStore velocityStore
+    ) {
+        this.repository = repository;
+        this.shadowRepository = shadowRepository;
+        this.velocityStore = velocityStore;
+    }
+
+    public CompiledRuleSet current() {
+        return current;
+    }
+
+    public CompiledRuleSet shadow() {
+        return shadow;
+    }
+
+    public RulePredicate compile(String expression) {
+        return RuleExpressionParser.parse(expression, velocityStore.retentionSeconds());
+    }
+
+    @PostConstruct
+    public void initialize() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${ruleengine.rules.refresh-interval-ms}")
+    public void refreshIfChanged() {
+        try {
+            if (!version().equals(loadedVersion)) {
+                reload();
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Rule refresh failed, keeping {} loaded rules", current.size(), ex);
+        }
+    }
+
+    public synchronized void reload() {
+        String version = version();
+        current = compileAll(repository.findByEnabledTrueOrderByCodeAsc().stream()
+                .map(definition -> Map.entry(definition.getCode(), definition.getExpression()))
+                .toList());
+        shadow = compileAll(shadowRepository.findAllByOrderByCodeAsc().stream()
+                .map(definition -> Map.entry(definition.getCode(), definition.getExpression()))
+                .toList());
+        loadedVersion = version;
+        logger.info("Loaded {} rules and {} shadow rules", current.size(), shadow.size());
+    }
+
+    private CompiledRuleSet compileAll(List<Map.Entry<String, String>> definitions) {
+        List<String> codes = new ArrayList<>();
+        List<RulePredicate> predicates = new ArrayList<>();
+        for (Map.Entry<String, String> definition : definitions) {
+            try {
+                predicates.add(compile(definition.getValue()));
+                codes.add(definition.getKey());
+            } catch (IllegalArgumentException ex) {
+                logger.warn("Skipping rule {}: {}", definition.getKey(), ex.getMessage());
+            }
+        }
+        return new CompiledRuleSet(codes, predicates);
+    }
+
+    private String version() {
+        return repository.count() + "@" + repository.findLatestUpdate()
+                + "/" + shadowRepository.count() + "@" + shadowRepository.findLatestUpdate();
+    }
+}
@@ -0,0 +1,72 @@
+package com.matchsentinel.ruleengine.service;
+
+import com.matchsentinel.ruleengine.domain.ShadowRuleDefinition;
+import com.matchsentinel.ruleengine.dto.CandidateRuleRequest;
+import com.matchsentinel.ruleengine.dto.ShadowRuleResponse;
+import com.matchsentinel.ruleengine.repository.ShadowRuleDefinitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+@Service
+@RequiredArgsConstructor
+public class ShadowRuleService {
+
+    private final ShadowRuleDefinitionRepository repository;
+    private final RuleSetRegistry registry;
+
+    public List<ShadowRuleResponse> list() {
+        return repository.findAllByOrderByCodeAsc().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public List<ShadowRuleResponse> replace(List<CandidateRuleRequest> rules) {
+        Set<String> codes = new HashSet<>();
+        List<ShadowRuleDefinition> definitions = new ArrayList<>(rules.size());
+        for (CandidateRuleRequest rule : rules) {
+            if (!codes.add(rule.getCode())) {
+                throw new ResponseStatusException(BAD_REQUEST, "Duplicate rule code " + rule.getCode());
+            }
+            try {
+                registry.compile(rule.getExpression());
+            } catch (IllegalArgumentException ex) {
+                throw new ResponseStatusException(BAD_REQUEST, rule.getCode() + ": " + ex.getMessage());
+            }
+            definitions.add(ShadowRuleDefinition.builder()
+                    .code(rule.getCode())
+                    .expression(rule.getExpression().trim())
+                    .build());
+        }
+        repository.deleteAllInBatch();
+        List<ShadowRuleResponse> saved = repository.saveAll(definitions).stream()
+                .map(this::toResponse)
+                .toList();
+        registry.reload();
+        return saved;
+    }
+
+    @Transactional
+    public void clear() {
+        repository.deleteAllInBatch();
+        registry.reload();
+    }
+
+    private ShadowRuleResponse toResponse(ShadowRuleDefinition definition) {
+        return new ShadowRuleResponse(
+                definition.getId(),
+                definition.getCode(),
+                definition.getExpression(),
+                definition.getUpdatedAt()
+        );
+    }
+}
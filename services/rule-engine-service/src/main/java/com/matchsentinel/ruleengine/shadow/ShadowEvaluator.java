@@ -0,0 +1,158 @@
+package com.matchsentinel.ruleengine.shadow;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.rules.AccountActivity;
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+import com.matchsentinel.ruleengine.service.RuleSetRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class ShadowEvaluator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShadowEvaluator.class);
+
+    private final RuleSetRegistry ruleSets;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final double logSampleRate;
+    private final Timer activeLatency;
+    private final Timer candidateLatency;
+    private final Counter shed;
+    private final Counter bothFlagged;
+    private final Counter activeOnly;
+    private final Counter candidateOnly;
+    private final Counter neitherFlagged;
+    private volatile HitCounters activeCounters;
+    private volatile HitCounters candidateCounters;
+
+    public ShadowEvaluator(
+            RuleSetRegistry ruleSets,
+            MeterRegistry meterRegistry,
+            @Value("${ruleengine.shadow.threads}") int threads,
+            @Value("${ruleengine.shadow.queue-capacity}") int queueCapacity,
+            @Value("${ruleengine.shadow.log-sample-rate}") double logSampleRate
+    ) {
+        this.ruleSets = ruleSets;
+        this.meterRegistry = meterRegistry;
+        this.logSampleRate = logSampleRate;
+        this.activeLatency = latency(meterRegistry, "active");
+        this.candidateLatency = latency(meterRegistry, "candidate");
+        this.shed = meterRegistry.counter("ruleengine.shadow.shed");
+        this.bothFlagged = meterRegistry.counter("ruleengine.shadow.decisions", "outcome", "both");
+        this.activeOnly = meterRegistry.counter("ruleengine.shadow.decisions", "outcome", "active_only");
+        this.candidateOnly = meterRegistry.counter("ruleengine.shadow.decisions", "outcome", "candidate_only");
+        this.neitherFlagged = meterRegistry.counter("ruleengine.shadow.decisions", "outcome", "neither");
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "shadow-rules-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> shed.increment()
+        );
+        Gauge.builder("ruleengine.shadow.queue", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public void submit(TransactionCreatedEvent event, AccountActivity activity) {
+        CompiledRuleSet candidate = ruleSets.shadow();
+        if (candidate.size() == 0) {
+            return;
+        }
+        CompiledRuleSet active = ruleSets.current();
+        // The live window keeps changing as later events are recorded; freeze it as the primary path saw it.
+        AccountActivity frozen = activity.snapshot();
+        executor.execute(() -> evaluate(event, frozen, active, candidate));
+    }
+
+    // Both sets run here against the same frozen activity, so hit counts and latencies are directly comparable.
+    void evaluate(TransactionCreatedEvent event, AccountActivity activity, CompiledRuleSet active, CompiledRuleSet candidate) {
+        HitCounters activeHitCounters = activeCounters = countersFor(activeCounters, active, "active");
+        HitCounters candidateHitCounters = candidateCounters = countersFor(candidateCounters, candidate, "candidate");
+        long started = System.nanoTime();
+        List<String> activeHits = evaluate(activeHitCounters, event, activity);
+        long activeDone = System.nanoTime();
+        List<String> candidateHits = evaluate(candidateHitCounters, event, activity);
+        candidateLatency.record(System.nanoTime() - activeDone, TimeUnit.NANOSECONDS);
+        activeLatency.record(activeDone - started, TimeUnit.NANOSECONDS);
+
+        if (activeHits.isEmpty() && candidateHits.isEmpty()) {
+            neitherFlagged.increment();
+            return;
+        }
+        if (activeHits.isEmpty()) {
+            candidateOnly.increment();
+        } else if (candidateHits.isEmpty()) {
+            activeOnly.increment();
+        } else {
+            bothFlagged.increment();
+        }
+        if (ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            logger.info("Shadow rules for transaction {}: active={} candidate={}", event.id(), activeHits, candidateHits);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static List<String> evaluate(HitCounters counters, TransactionCreatedEvent event, AccountActivity activity) {
+        CompiledRuleSet rules = counters.rules();
+        List<String> matched = null;
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.matches(i, event, activity)) {
+                counters.hits()[i].increment();
+                if (matched == null) {
+                    matched = new ArrayList<>();
+                }
+                matched.add(rules.code(i));
+            }
+        }
+        return matched == null ? List.of() : matched;
+    }
+
+    // Counters are resolved once per installed rule set so evaluation never builds meter ids.
+    private HitCounters countersFor(HitCounters cached, CompiledRuleSet rules, String set) {
+        if (cached != null && cached.rules() == rules) {
+            return cached;
+        }
+        Counter[] hits = new Counter[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            hits[i] = meterRegistry.counter("ruleengine.shadow.hits", "set", set, "rule", rules.code(i));
+        }
+        return new HitCounters(rules, hits);
+    }
+
+    private static Timer latency(MeterRegistry meterRegistry, String set) {
+        return Timer.builder("ruleengine.shadow.evaluation")
+                .tag("set", set)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record HitCounters(CompiledRuleSet rules, Counter[] hits) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.matchsentinel.ruleengine.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Thread-safe Bloom filter made of slices that double in capacity as they fill. Once the slices together hold
+// more than maxEntries, the oldest slice is dropped, so memory stays bounded and only the oldest ids are forgotten.
+public final class ScalableBloomFilter {
+
+    private static final double TIGHTENING_RATIO = 0.8;
+
+    private final long initialCapacity;
+    private final long maxEntries;
+    private final double minSliceFalsePositiveRate;
+    private volatile Slice[] slices;
+
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate, long maxEntries) {
+        if (initialCapacity < 1 || maxEntries < initialCapacity || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing");
+        }
+        this.initialCapacity = initialCapacity;
+        this.maxEntries = maxEntries;
+        this.minSliceFalsePositiveRate = falsePositiveRate * (1 - TIGHTENING_RATIO) / 8;
+        this.slices = new Slice[]{new Slice(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO))};
+    }
+
+    public boolean mightContain(UUID id) {
+        long h1 = mix(id.getMostSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits() ^ h1) | 1;
+        for (Slice slice : slices) {
+            if (slice.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void add(UUID id) {
+        long h1 = mix(id.getMostSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits() ^ h1) | 1;
+        Slice[] current = slices;
+        Slice last = current[current.length - 1];
+        if (last.count.get() >= last.capacity) {
+            last = grow(last);
+        }
+        last.add(h1, h2);
+    }
+
+    public long approximateSize() {
+        long size = 0;
+        for (Slice slice : slices) {
+            size += slice.count.get();
+        }
+        return size;
+    }
+
+    public long bitCount() {
+        long bits = 0;
+        for (Slice slice : slices) {
+            bits += slice.bits;
+        }
+        return bits;
+    }
+
+    private synchronized Slice grow(Slice full) {
+        Slice[] current = slices;
+        Slice last = current[current.length - 1];
+        if (last != full) {
+            return last;
+        }
+        long capacity = Math.min(full.capacity * 2, Math.max(maxEntries / 4, initialCapacity));
+        double falsePositiveRate = Math.max(full.falsePositiveRate * TIGHTENING_RATIO, minSliceFalsePositiveRate);
+        Slice next = new Slice(capacity, falsePositiveRate);
+
+        int first = 0;
+        long total = capacity;
+        for (int i = current.length - 1; i >= 0; i--) {
+            if (total + current[i].capacity > maxEntries) {
+                first = i + 1;
+                break;
+            }
+            total += current[i].capacity;
+        }
+        Slice[] updated = Arrays.copyOfRange(current, first, current.length + 1);
+        updated[updated.length - 1] = next;
+        slices = updated;
+        return next;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static final class Slice {
+
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final long bits;
+        private final int hashes;
+        private final AtomicLongArray words;
+        private final AtomicLong count = new AtomicLong();
+
+        Slice(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            long wordCount = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)) / 64);
+            this.words = new AtomicLongArray(Math.toIntExact(Math.max(wordCount, 1)));
+            this.bits = words.length() * 64L;
+            this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * Math.log(2)));
+        }
+
+        boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bits;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void add(long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bits;
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = words.get(index);
+                while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+            }
+            count.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.matchsentinel.ruleengine.velocity;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.rules.AccountActivity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class AccountVelocityStore {
+
+    private final long bucketSeconds;
+    private final long retentionBuckets;
+    private final long retentionSeconds;
+    private final Cache<UUID, AccountWindow> windows;
+    private final Function<UUID, AccountWindow> newWindow;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile VelocityChangelog changelog;
+
+    public AccountVelocityStore(
+            @Value("${ruleengine.velocity.bucket-seconds}") long bucketSeconds,
+            @Value("${ruleengine.velocity.retention-minutes}") long retentionMinutes,
+            @Value("${ruleengine.velocity.max-accounts}") long maxAccounts
+    ) {
+        if (bucketSeconds < 1 || retentionMinutes * 60 < bucketSeconds) {
+            throw new IllegalStateException("Velocity retention must cover at least one bucket");
+        }
+        this.bucketSeconds = bucketSeconds;
+        this.retentionBuckets = retentionMinutes * 60 / bucketSeconds;
+        this.retentionSeconds = retentionBuckets * bucketSeconds;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxAccounts)
+                .expireAfterAccess(Duration.ofSeconds(retentionSeconds))
+                .build();
+        this.newWindow = accountId -> new AccountWindow(bucketSeconds, retentionBuckets);
+    }
+
+    public AccountActivity record(TransactionCreatedEvent event) {
+        AccountWindow window = windows.get(event.accountId(), newWindow);
+        Instant occurredAt = event.occurredAt() == null ? Instant.now() : event.occurredAt();
+        long epochSecond = occurredAt.getEpochSecond();
+        long amountCents = toCents(event.amount());
+        synchronized (window) {
+            VelocityChangelog log = changelog;
+            long next = sequence.incrementAndGet();
+            window.record(epochSecond, amountCents, next);
+            if (log != null) {
+                log.append(next, event.accountId(), epochSecond, amountCents);
+            }
+        }
+        return window;
+    }
+
+    public long retentionSeconds() {
+        return retentionSeconds;
+    }
+
+    public long trackedAccounts() {
+        return windows.estimatedSize();
+    }
+
+    long bucketSeconds() {
+        return bucketSeconds;
+    }
+
+    long retentionBuckets() {
+        return retentionBuckets;
+    }
+
+    long sequence() {
+        return sequence.get();
+    }
+
+    Map<UUID, AccountWindow> windows() {
+        return windows.asMap();
+    }
+
+    void attach(VelocityChangelog changelog) {
+        this.changelog = changelog;
+    }
+
+    AccountWindow restore(UUID accountId) {
+        return windows.get(accountId, newWindow);
+    }
+
+    void replay(long entrySequence, UUID accountId, long epochSecond, long amountCents) {
+        AccountWindow window = windows.get(accountId, newWindow);
+        if (entrySequence > window.lastSequence()) {
+            window.record(epochSecond, amountCents, entrySequence);
+        }
+        advanceSequence(entrySequence);
+    }
+
+    void advanceSequence(long restored) {
+        sequence.accumulateAndGet(restored, Math::max);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).longValue();
+    }
+}
@@ -0,0 +1,211 @@
+package com.matchsentinel.ruleengine.velocity;
+
+import com.matchsentinel.ruleengine.rules.AccountActivity;
+
+import java.nio.ByteBuffer;
+
+// Ring of non-empty time buckets for one account, oldest first. Quiet accounts hold a handful of buckets;
+// capacity never grows past the number of buckets in the retention period.
+final class AccountWindow implements AccountActivity {
+
+    private final long bucketSeconds;
+    private final long retentionBuckets;
+    private long[] bucketIds = new long[2];
+    private int[] counts = new int[2];
+    private long[] cents = new long[2];
+    private int head;
+    private int size;
+    private long lastSequence;
+
+    AccountWindow(long bucketSeconds, long retentionBuckets) {
+        this.bucketSeconds = bucketSeconds;
+        this.retentionBuckets = retentionBuckets;
+    }
+
+    synchronized void record(long epochSecond, long amountCents, long sequence) {
+        lastSequence = Math.max(lastSequence, sequence);
+        long bucket = Math.floorDiv(epochSecond, bucketSeconds);
+        if (size > 0) {
+            long newest = bucketIds[slot(size - 1)];
+            if (bucket <= newest - retentionBuckets) {
+                return;
+            }
+            expireBefore(Math.max(newest, bucket) - retentionBuckets + 1);
+        }
+        int position = size;
+        while (position > 0) {
+            int previous = slot(position - 1);
+            if (bucketIds[previous] == bucket) {
+                counts[previous]++;
+                cents[previous] += amountCents;
+                return;
+            }
+            if (bucketIds[previous] < bucket) {
+                break;
+            }
+            position--;
+        }
+        insert(position, bucket, amountCents);
+    }
+
+    @Override
+    public synchronized long count(long windowSeconds) {
+        long total = 0;
+        long from = firstBucketOf(windowSeconds);
+        for (int i = size - 1; i >= 0 && bucketIds[slot(i)] >= from; i--) {
+            total += counts[slot(i)];
+        }
+        return total;
+    }
+
+    @Override
+    public synchronized long amountCents(long windowSeconds) {
+        long total = 0;
+        long from = firstBucketOf(windowSeconds);
+        for (int i = size - 1; i >= 0 && bucketIds[slot(i)] >= from; i--) {
+            total += cents[slot(i)];
+        }
+        return total;
+    }
+
+    @Override
+    public synchronized AccountActivity snapshot() {
+        long[] snapshotBucketIds = new long[size];
+        int[] snapshotCounts = new int[size];
+        long[] snapshotCents = new long[size];
+        for (int i = 0; i < size; i++) {
+            snapshotBucketIds[i] = bucketIds[slot(i)];
+            snapshotCounts[i] = counts[slot(i)];
+            snapshotCents[i] = cents[slot(i)];
+        }
+        return new Snapshot(bucketSeconds, snapshotBucketIds, snapshotCounts, snapshotCents);
+    }
+
+    synchronized int bucketCount() {
+        return size;
+    }
+
+    synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    static int maxSerializedBytes(long retentionBuckets) {
+        return 12 + (int) retentionBuckets * 20;
+    }
+
+    synchronized void writeTo(ByteBuffer buffer) {
+        buffer.putLong(lastSequence);
+        buffer.putInt(size);
+        for (int i = 0; i < size; i++) {
+            int slot = slot(i);
+            buffer.putLong(bucketIds[slot]);
+            buffer.putInt(counts[slot]);
+            buffer.putLong(cents[slot]);
+        }
+    }
+
+    synchronized void readFrom(ByteBuffer buffer) {
+        lastSequence = buffer.getLong();
+        int restored = buffer.getInt();
+        int capacity = Math.max(2, Integer.highestOneBit(Math.max(restored, 1) * 2 - 1));
+        bucketIds = new long[capacity];
+        counts = new int[capacity];
+        cents = new long[capacity];
+        head = 0;
+        size = restored;
+        for (int i = 0; i < restored; i++) {
+            bucketIds[i] = buffer.getLong();
+            counts[i] = buffer.getInt();
+            cents[i] = buffer.getLong();
+        }
+    }
+
+    private long firstBucketOf(long windowSeconds) {
+        if (size == 0) {
+            return Long.MAX_VALUE;
+        }
+        long windowBuckets = Math.max(1, (windowSeconds + bucketSeconds - 1) / bucketSeconds);
+        return bucketIds[slot(size - 1)] - windowBuckets + 1;
+    }
+
+    private void expireBefore(long oldestKept) {
+        while (size > 0 && bucketIds[head] < oldestKept) {
+            head = (head + 1) & (bucketIds.length - 1);
+            size--;
+        }
+    }
+
+    private void insert(int position, long bucket, long amountCents) {
+        if (size == bucketIds.length) {
+            grow();
+        }
+        for (int i = size; i > position; i--) {
+            int to = slot(i);
+            int from = slot(i - 1);
+            bucketIds[to] = bucketIds[from];
+            counts[to] = counts[from];
+            cents[to] = cents[from];
+        }
+        int target = slot(position);
+        bucketIds[target] = bucket;
+        counts[target] = 1;
+        cents[target] = amountCents;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = bucketIds.length * 2;
+        long[] newBucketIds = new long[capacity];
+        int[] newCounts = new int[capacity];
+        long[] newCents = new long[capacity];
+        for (int i = 0; i < size; i++) {
+            newBucketIds[i] = bucketIds[slot(i)];
+            newCounts[i] = counts[slot(i)];
+            newCents[i] = cents[slot(i)];
+        }
+        bucketIds = newBucketIds;
+        counts = newCounts;
+        cents = newCents;
+        head = 0;
+    }
+
+    private int slot(int index) {
+        return (head + index) & (bucketIds.length - 1);
+    }
+
+    private record Snapshot(long bucketSeconds, long[] bucketIds, int[] counts, long[] cents) implements AccountActivity {
+
+        @Override
+        public long count(long windowSeconds) {
+            long total = 0;
+            long from = firstBucketOf(windowSeconds);
+            for (int i = bucketIds.length - 1; i >= 0 && bucketIds[i] >= from; i--) {
+                total += counts[i];
+            }
+            return total;
+        }
+
+        @Override
+        public long amountCents(long windowSeconds) {
+            long total = 0;
+            long from = firstBucketOf(windowSeconds);
+            for (int i = bucketIds.length - 1; i >= 0 && bucketIds[i] >= from; i--) {
+                total += cents[i];
+            }
+            return total;
+        }
+
+        @Override
+        public AccountActivity snapshot() {
+            return this;
+        }
+
+        private long firstBucketOf(long windowSeconds) {
+            if (bucketIds.length == 0) {
+                return Long.MAX_VALUE;
+            }
+            long windowBuckets = Math.max(1, (windowSeconds + bucketSeconds - 1) / bucketSeconds);
+            return bucketIds[bucketIds.length - 1] - windowBuckets + 1;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.matchsentinel.ruleengine.velocity;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+// Append-only segment of fixed-size records: sequence, account id, epoch second, amount in cents.
+final class VelocityChangelog implements AutoCloseable {
+
+    static final int RECORD_BYTES = 40;
+    private static final long MAP_CHUNK_BYTES = RECORD_BYTES * (1L << 24);
+    private static final Logger logger = LoggerFactory.getLogger(VelocityChangelog.class);
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private boolean closed;
+
+    VelocityChangelog(Path path, int bufferBytes) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.buffer = ByteBuffer.allocateDirect(Math.max(bufferBytes, RECORD_BYTES));
+    }
+
+    synchronized void append(long sequence, UUID accountId, long epochSecond, long amountCents) {
+        if (closed) {
+            return;
+        }
+        if (buffer.remaining() < RECORD_BYTES) {
+            flushQuietly();
+        }
+        buffer.putLong(sequence);
+        buffer.putLong(accountId.getMostSignificantBits());
+        buffer.putLong(accountId.getLeastSignificantBits());
+        buffer.putLong(epochSecond);
+        buffer.putLong(amountCents);
+    }
+
+    synchronized void flush() throws IOException {
+        if (closed) {
+            return;
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } finally {
+            buffer.clear();
+        }
+        channel.force(false);
+    }
+
+    synchronized long size() throws IOException {
+        return closed ? 0 : channel.size() + buffer.position();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    static void replay(Path path, AccountVelocityStore store, long oldestEpochSecond) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long complete = channel.size() - channel.size() % RECORD_BYTES;
+            for (long position = 0; position < complete; position += MAP_CHUNK_BYTES) {
+                ByteBuffer records = channel.map(
+                        FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_CHUNK_BYTES, complete - position));
+                while (records.remaining() >= RECORD_BYTES) {
+                    long sequence = records.getLong();
+                    UUID accountId = new UUID(records.getLong(), records.getLong());
+                    long epochSecond = records.getLong();
+                    long amountCents = records.getLong();
+                    if (epochSecond >= oldestEpochSecond) {
+                        store.replay(sequence, accountId, epochSecond, amountCents);
+                    } else {
+                        store.advanceSequence(sequence);
+                    }
+                }
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException ex) {
+            logger.error("Failed to write velocity changelog, buffered records dropped", ex);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.matchsentinel.ruleengine.velocity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@link AccountVelocityStore} across restarts. Every recorded event is appended to the current changelog
+ * segment; a checkpoint rotates to a new segment and then writes a snapshot of all windows. Recovery maps the
+ * newest snapshot and replays the segments written since, skipping entries a window already contains.
+ */
+@Component
+@ConditionalOnProperty(name = "ruleengine.velocity.checkpoint.enabled", havingValue = "true")
+public class VelocityCheckpointer {
+
+    private static final Logger logger = LoggerFactory.getLogger(VelocityCheckpointer.class);
+    private static final int MAGIC = 0x56454C4F;
+    private static final int VERSION = 1;
+    private static final int CHANGELOG_BUFFER_BYTES = 64 * 1024;
+    private static final int HEADER_BYTES = 24;
+    private static final int ENTRY_HEADER_BYTES = 28;
+    private static final int BUCKET_BYTES = 20;
+    private static final long SNAPSHOT_CHUNK_BYTES = 64L << 20;
+    private static final Pattern FILE_NAME = Pattern.compile("(snapshot|changelog)-(\\d+)\\.(bin|log)");
+
+    private final AccountVelocityStore store;
+    private final Path directory;
+    private final AtomicLong recoveryMillis = new AtomicLong();
+    private final AtomicLong snapshotBytes = new AtomicLong();
+    private final Counter corruptSnapshots;
+    private final long snapshotChunkBytes;
+    private long generation;
+    private volatile VelocityChangelog changelog;
+
+    @Autowired
+    public VelocityCheckpointer(
+            AccountVelocityStore store,
+            @Value("${ruleengine.velocity.checkpoint.directory}") String directory,
+            MeterRegistry meterRegistry
+    ) {
+        this(store, directory, meterRegistry, SNAPSHOT_CHUNK_BYTES);
+    }
+
+    VelocityCheckpointer(AccountVelocityStore store, String directory, MeterRegistry meterRegistry, long snapshotChunkBytes) {
+        this.store = store;
+        this.directory = Path.of(directory);
+        this.snapshotChunkBytes = snapshotChunkBytes;
+        this.corruptSnapshots = Counter.builder("ruleengine.velocity.snapshot.corrupt")
+                .description("Velocity snapshots set aside because they could not be parsed")
+                .register(meterRegistry);
+        TimeGauge.builder("ruleengine.velocity.recovery.duration", recoveryMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Time taken to restore velocity windows at startup")
+                .register(meterRegistry);
+        Gauge.builder("ruleengine.velocity.snapshot.size", snapshotBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("ruleengine.velocity.changelog.size", this, VelocityCheckpointer::changelogBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("ruleengine.velocity.accounts", store, AccountVelocityStore::trackedAccounts)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void restore() throws IOException {
+        long started = System.nanoTime();
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.toString().endsWith(".tmp")).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        List<Segment> snapshots = list("snapshot");
+        List<Segment> changelogs = list("changelog");
+
+        long restoredFrom = 0;
+        if (!snapshots.isEmpty()) {
+            Segment newest = snapshots.get(snapshots.size() - 1);
+            if (readSnapshot(newest.path())) {
+                restoredFrom = newest.generation();
+            }
+        }
+        long oldestEpochSecond = Instant.now().getEpochSecond() - store.retentionSeconds();
+        for (Segment segment : changelogs) {
+            if (segment.generation() >= restoredFrom) {
+                VelocityChangelog.replay(segment.path(), store, oldestEpochSecond);
+            }
+        }
+
+        generation = Stream.concat(snapshots.stream(), changelogs.stream())
+                .mapToLong(Segment::generation)
+                .max()
+                .orElse(0) + 1;
+        changelog = new VelocityChangelog(changelogPath(generation), CHANGELOG_BUFFER_BYTES);
+        store.attach(changelog);
+        recoveryMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        logger.info("Restored velocity windows for {} accounts in {} ms",
+                store.trackedAccounts(), recoveryMillis.get());
+    }
+
+    @Scheduled(fixedDelayString = "${ruleengine.velocity.checkpoint.flush-interval-ms}")
+    public void flush() {
+        try {
+            changelog.flush();
+        } catch (IOException ex) {
+            logger.warn("Failed to flush velocity changelog", ex);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${ruleengine.velocity.checkpoint.snapshot-interval-ms}",
+            initialDelayString = "${ruleengine.velocity.checkpoint.snapshot-interval-ms}"
+    )
+    public synchronized void checkpoint() {
+        try {
+            long next = generation + 1;
+            VelocityChangelog previous = changelog;
+            changelog = new VelocityChangelog(changelogPath(next), CHANGELOG_BUFFER_BYTES);
+            store.attach(changelog);
+            generation = next;
+            previous.close();
+
+            snapshotBytes.set(writeSnapshot(next));
+            for (Segment segment : Stream.concat(list("snapshot").stream(), list("changelog").stream()).toList()) {
+                if (segment.generation() < next) {
+                    Files.deleteIfExists(segment.path());
+                }
+            }
+        } catch (IOException ex) {
+            logger.warn("Velocity checkpoint failed", ex);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() throws IOException {
+        checkpoint();
+        changelog.close();
+    }
+
+    private long writeSnapshot(long snapshotGeneration) throws IOException {
+        Path target = directory.resolve("snapshot-" + snapshotGeneration + ".bin");
+        Path temporary = directory.resolve("snapshot-" + snapshotGeneration + ".tmp");
+        int entryBytes = 16 + AccountWindow.maxSerializedBytes(store.retentionBuckets());
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(1 << 20, entryBytes));
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(store.bucketSeconds()).putLong(store.sequence());
+            for (Map.Entry<UUID, AccountWindow> entry : store.windows().entrySet()) {
+                if (buffer.remaining() < entryBytes) {
+                    drain(buffer, channel);
+                }
+                buffer.putLong(entry.getKey().getMostSignificantBits());
+                buffer.putLong(entry.getKey().getLeastSignificantBits());
+                entry.getValue().writeTo(buffer);
+            }
+            drain(buffer, channel);
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return Files.size(target);
+    }
+
+    /**
+     * Snapshots can outgrow a single mapping, so entries are read through chunked mappings that are re-based on
+     * the entry that would cross a chunk boundary. I/O failures propagate and fail startup: the changelogs older
+     * than the snapshot are gone, so starting empty would silently lose every window. Only a file whose contents
+     * do not parse is treated as corrupt; it is renamed aside for inspection instead of being overwritten later.
+     */
+    private boolean readSnapshot(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new CorruptSnapshotException("truncated header");
+            }
+            ByteBuffer header = map(channel, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                logger.warn("Ignoring unreadable velocity snapshot {}", path);
+                return false;
+            }
+            if (header.getLong() != store.bucketSeconds()) {
+                logger.warn("Ignoring velocity snapshot {} taken with a different bucket size", path);
+                return false;
+            }
+            store.advanceSequence(header.getLong());
+
+            ByteBuffer chunk = ByteBuffer.allocate(0);
+            long chunkStart = HEADER_BYTES;
+            long position = HEADER_BYTES;
+            while (position < size) {
+                long left = size - position;
+                if (left < ENTRY_HEADER_BYTES) {
+                    throw new CorruptSnapshotException("truncated entry at offset " + position);
+                }
+                if (position + ENTRY_HEADER_BYTES > chunkStart + chunk.limit()) {
+                    chunkStart = position;
+                    chunk = map(channel, position, Math.min(snapshotChunkBytes, left));
+                }
+                int buckets = chunk.getInt((int) (position - chunkStart) + ENTRY_HEADER_BYTES - 4);
+                if (buckets < 0 || buckets > (left - ENTRY_HEADER_BYTES) / BUCKET_BYTES) {
+                    throw new CorruptSnapshotException("bucket count " + buckets + " at offset " + position);
+                }
+                long entryBytes = ENTRY_HEADER_BYTES + (long) buckets * BUCKET_BYTES;
+                if (position + entryBytes > chunkStart + chunk.limit()) {
+                    chunkStart = position;
+                    chunk = map(channel, position, Math.min(Math.max(snapshotChunkBytes, entryBytes), left));
+                }
+                chunk.position((int) (position - chunkStart));
+                UUID accountId = new UUID(chunk.getLong(), chunk.getLong());
+                store.restore(accountId).readFrom(chunk);
+                position += entryBytes;
+            }
+            snapshotBytes.set(size);
+            return true;
+        } catch (CorruptSnapshotException | BufferUnderflowException ex) {
+            Path quarantined = path.resolveSibling(path.getFileName() + ".corrupt");
+            logger.error("Velocity snapshot {} is corrupt, moved to {}; windows restart from the newer changelogs only",
+                    path, quarantined, ex);
+            corruptSnapshots.increment();
+            store.windows().clear();
+            Files.move(path, quarantined, StandardCopyOption.REPLACE_EXISTING);
+            return false;
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new CorruptSnapshotException(length + " byte entry at offset " + position);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    private List<Segment> list(String kind) throws IOException {
+        List<Segment> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches() && matcher.group(1).equals(kind)) {
+                    segments.add(new Segment(Long.parseLong(matcher.group(2)), file));
+                }
+            }
+        }
+        segments.sort(Comparator.comparingLong(Segment::generation));
+        return segments;
+    }
+
+    private Path changelogPath(long segmentGeneration) {
+        return directory.resolve("changelog-" + segmentGeneration + ".log");
+    }
+
+    private double changelogBytes() {
+        try {
+            VelocityChangelog current = changelog;
+            return current == null ? 0 : current.size();
+        } catch (IOException ex) {
+            return Double.NaN;
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private record Segment(long generation, Path path) {
+    }
+
+    private static class CorruptSnapshotException extends RuntimeException {
+
+        CorruptSnapshotException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.matchsentinel.ruleengine.backtest;
+
+import com.matchsentinel.ruleengine.dto.BacktestReport;
+import com.matchsentinel.ruleengine.dto.RuleHitRate;
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+import com.matchsentinel.ruleengine.rules.RuleExpressionParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BacktestRunnerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reportsFlagAndAmountDifferencesWithPerRuleHitRates() throws Exception {
+        Path file = directory.resolve("export.csv");
+        List<String> lines = new ArrayList<>();
+        lines.add("id,account_id,amount,currency,country,merchant,occurred_at,ai_risk_score");
+        Instant start = Instant.parse("2026-01-25T10:00:00Z");
+        UUID busyAccount = UUID.randomUUID();
+        for (int i = 0; i < 5_000; i++) {
+            UUID account = i % 10 == 0 ? busyAccount : UUID.randomUUID();
+            String amount = i % 100 == 0 ? "12000.00" : i % 100 == 1 ? "6000.00" : "25.00";
+            String score = i % 500 == 250 ? "0.90" : "0.10";
+            lines.add("%s,%s,%s,USD,US,\"Shop, \"\"Main\"\" St\",%s,%s".formatted(
+                    UUID.randomUUID(), account, amount, start.plusSeconds(i), score));
+        }
+        Files.write(file, lines);
+
+        BacktestRules baseline = new BacktestRules(rules("amount >= 10000"), new BigDecimal("0.85"));
+        BacktestRules candidate = new BacktestRules(rules("amount >= 5000"), new BigDecimal("0.95"));
+        BacktestReport report;
+        try (BacktestSource source = new CsvBacktestSource(file)) {
+            report = new BacktestRunner(10, 60, 100_000, 4).run(source, baseline, candidate);
+        }
+
+        assertEquals(5_000, report.transactions());
+        assertEquals(60, report.baselineFlags());
+        assertEquals(100, report.candidateFlags());
+        assertEquals(40, report.flagDelta());
+        assertEquals(50, report.newlyFlagged());
+        assertEquals(10, report.noLongerFlagged());
+        assertEquals(new BigDecimal("600250.00"), report.baselineFlaggedAmount());
+        assertEquals(new BigDecimal("900000.00"), report.candidateFlaggedAmount());
+        assertEquals(new RuleHitRate("AMOUNT", 50, 0.01), report.baselineRules().get(0));
+        assertEquals(new RuleHitRate(BacktestTally.AI_SCORE, 10, 0.002), report.baselineRules().get(1));
+        assertEquals(100, report.candidateRules().get(0).hits());
+    }
+
+    @Test
+    void evaluatesVelocityRulesPerAccountAcrossShards() throws Exception {
+        Path file = directory.resolve("velocity.csv");
+        List<String> lines = new ArrayList<>();
+        Instant start = Instant.parse("2026-01-25T10:00:00Z");
+        List<UUID> accounts = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        for (int i = 0; i < 30; i++) {
+            lines.add("%s,%s,10.00,USD,US,Shop,%s".formatted(UUID.randomUUID(), accounts.get(i % 3), start.plusSeconds(i)));
+        }
+        Files.write(file, lines);
+
+        BacktestRules baseline = new BacktestRules(rules("count_1h > 5"), new BigDecimal("0.85"));
+        BacktestReport report;
+        try (BacktestSource source = new CsvBacktestSource(file)) {
+            report = new BacktestRunner(10, 60, 1_000, 3).run(source, baseline, baseline);
+        }
+
+        assertEquals(3 * 5, report.baselineFlags());
+        assertEquals(0, report.flagDelta());
+    }
+
+    @Test
+    void failsOnMalformedRows() throws Exception {
+        Path file = directory.resolve("broken.csv");
+        Files.write(file, List.of("not,a,valid,row"));
+        BacktestRules rules = new BacktestRules(rules("amount >= 10000"), new BigDecimal("0.85"));
+
+        try (BacktestSource source = new CsvBacktestSource(file)) {
+            assertThrows(IllegalArgumentException.class, () -> new BacktestRunner(10, 60, 1_000, 2).run(source, rules, rules));
+        }
+    }
+
+    @Test
+    void rejectsRowsThatGoBackInTime() throws Exception {
+        Path file = directory.resolve("unsorted.csv");
+        UUID account = UUID.randomUUID();
+        Files.write(file, List.of(
+                "%s,%s,10.00,USD,US,Shop,2026-01-25T10:00:05Z".formatted(UUID.randomUUID(), account),
+                "%s,%s,10.00,USD,US,Shop,2026-01-25T10:00:00Z".formatted(UUID.randomUUID(), account)));
+
+        try (BacktestSource source = new CsvBacktestSource(file)) {
+            source.next();
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, source::next);
+            assertTrue(ex.getMessage().startsWith("Line 2: "), ex.getMessage());
+        }
+    }
+
+    private static CompiledRuleSet rules(String expression) {
+        return new CompiledRuleSet(List.of("AMOUNT"), List.of(RuleExpressionParser.parse(expression)));
+    }
+}
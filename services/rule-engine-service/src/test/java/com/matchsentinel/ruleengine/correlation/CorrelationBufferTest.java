@@ -0,0 +1,124 @@
+package com.matchsentinel.ruleengine.correlation;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionScoredEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CorrelationBufferTest {
+
+    @Test
+    void joinsRuleOutcomeAndScoreInEitherOrder() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CorrelationBuffer buffer = new CorrelationBuffer(registry, 60_000, 100, 100);
+        TransactionCreatedEvent first = created();
+        TransactionCreatedEvent second = created();
+
+        assertNull(buffer.offerRules(first, List.of("AMOUNT_THRESHOLD")));
+        CorrelatedTransaction joined = buffer.offerScore(scored(first));
+        assertNull(buffer.offerScore(scored(second)));
+        CorrelatedTransaction joinedReversed = buffer.offerRules(second, List.of());
+
+        assertNotNull(joined);
+        assertEquals(List.of("AMOUNT_THRESHOLD"), joined.ruleReasons());
+        assertTrue(joined.complete());
+        assertNotNull(joinedReversed);
+        assertEquals(second, joinedReversed.created());
+        assertEquals(0, buffer.pendingCount());
+        assertEquals(2, registry.get("ruleengine.correlation.join.latency").timer().count());
+        buffer.shutdown();
+    }
+
+    @Test
+    void handsIncompleteEntriesToTimeoutHandlerAfterTtl() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CorrelationBuffer buffer = new CorrelationBuffer(registry, 50, 100, 100);
+        List<CorrelatedTransaction> timedOut = new CopyOnWriteArrayList<>();
+        buffer.onTimeout(timedOut::add);
+        TransactionCreatedEvent event = created();
+
+        buffer.offerRules(event, List.of("AMOUNT_THRESHOLD"));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (timedOut.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            buffer.pendingCount();
+        }
+
+        assertEquals(1, timedOut.size());
+        assertFalse(timedOut.get(0).hasScore());
+        assertEquals(1.0, registry.get("ruleengine.correlation.timeouts").tag("missing", "score").counter().count());
+        buffer.shutdown();
+    }
+
+    @Test
+    void runsTimeoutsOnTheEvictingThreadOnceTheQueueIsFull() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CorrelationBuffer buffer = new CorrelationBuffer(registry, 50, 100, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        buffer.onTimeout(correlated -> {
+            threads.add(Thread.currentThread().getName());
+            if (Thread.currentThread().getName().equals("correlation-timeout")) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        for (int i = 0; i < 3; i++) {
+            buffer.offerRules(created(), List.of("AMOUNT_THRESHOLD"));
+        }
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (threads.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            buffer.pendingCount();
+        }
+
+        assertTrue(threads.stream().anyMatch(name -> !name.equals("correlation-timeout")), threads.toString());
+        assertTrue(registry.get("ruleengine.correlation.timeout.queue").gauge().value() <= 1);
+        release.countDown();
+        buffer.shutdown();
+        assertEquals(3, threads.size());
+    }
+
+    @Test
+    void decidesPendingEntriesOnShutdown() {
+        CorrelationBuffer buffer = new CorrelationBuffer(new SimpleMeterRegistry(), 60_000, 100, 100);
+        List<CorrelatedTransaction> timedOut = new CopyOnWriteArrayList<>();
+        buffer.onTimeout(timedOut::add);
+
+        buffer.offerScore(scored(created()));
+        buffer.shutdown();
+
+        assertEquals(1, timedOut.size());
+        assertTrue(timedOut.get(0).hasScore());
+    }
+
+    private static TransactionCreatedEvent created() {
+        return new TransactionCreatedEvent(
+                UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("15000"), "USD", "US", "Shop",
+                Instant.now(), Instant.now());
+    }
+
+    private static TransactionScoredEvent scored(TransactionCreatedEvent event) {
+        return new TransactionScoredEvent(
+                event.id(), event.accountId(), event.amount(), event.currency(), event.country(), event.merchant(),
+                event.occurredAt(), Instant.now(), new BigDecimal("0.50"), List.of(), "test");
+    }
+}
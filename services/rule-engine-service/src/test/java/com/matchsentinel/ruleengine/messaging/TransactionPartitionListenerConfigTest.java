@@ -0,0 +1,147 @@
+package com.matchsentinel.ruleengine.messaging;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionScoredEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionPartitionListenerConfigTest {
+
+    @Mock
+    private TransactionCreatedListener listener;
+
+    @Mock
+    private TransactionScoredListener scoredListener;
+
+    @Mock
+    private RabbitListenerEndpointRegistrar registrar;
+
+    private final SimpleRabbitListenerContainerFactory batchFactory = new SimpleRabbitListenerContainerFactory();
+
+    @Test
+    void registersOneSingleThreadedContainerPerAssignedPartition() {
+        TransactionPartitionListenerConfig config = new TransactionPartitionListenerConfig(
+                listener, scoredListener, new Jackson2JsonMessageConverter(), batchFactory,
+                "rule-engine.transaction.created", "rule-engine.transaction.scored", 4, "1,3", 1);
+        ArgumentCaptor<RabbitListenerEndpoint> endpoints = ArgumentCaptor.forClass(RabbitListenerEndpoint.class);
+
+        config.configureRabbitListeners(registrar);
+
+        verify(registrar, times(4)).registerEndpoint(endpoints.capture());
+        SimpleRabbitListenerEndpoint first = (SimpleRabbitListenerEndpoint) endpoints.getAllValues().get(0);
+        assertArrayEquals(new String[]{"rule-engine.transaction.created.1"}, first.getQueueNames().toArray());
+        assertEquals("1", first.getConcurrency());
+
+        UUID transactionId = UUID.randomUUID();
+        first.getMessageListener().onMessage(message(transactionId));
+
+        ArgumentCaptor<TransactionCreatedEvent> event = ArgumentCaptor.forClass(TransactionCreatedEvent.class);
+        verify(listener).onTransactionCreated(event.capture());
+        assertEquals(transactionId, event.getValue().id());
+        assertEquals(new BigDecimal("12.50"), event.getValue().amount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void registersBatchListenersWithBatchFactoryWhenBatchSizeAboveOne() {
+        TransactionPartitionListenerConfig config = new TransactionPartitionListenerConfig(
+                listener, scoredListener, new Jackson2JsonMessageConverter(), batchFactory,
+                "rule-engine.transaction.created", "rule-engine.transaction.scored", 2, "", 100);
+        ArgumentCaptor<RabbitListenerEndpoint> endpoints = ArgumentCaptor.forClass(RabbitListenerEndpoint.class);
+
+        config.configureRabbitListeners(registrar);
+
+        verify(registrar, times(2)).registerEndpoint(endpoints.capture(), eq(batchFactory));
+        SimpleRabbitListenerEndpoint first = (SimpleRabbitListenerEndpoint) endpoints.getAllValues().get(0);
+        assertTrue(first.getBatchListener());
+
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        first.getMessageListener().onMessageBatch(List.of(message(firstId), message(secondId)));
+
+        ArgumentCaptor<List<TransactionCreatedEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(listener).onTransactionsCreated(events.capture());
+        assertEquals(List.of(firstId, secondId), events.getValue().stream().map(TransactionCreatedEvent::id).toList());
+    }
+
+    @Test
+    void consumesScoredEventsFromTheSamePartitionsAsTheRuleHalf() {
+        TransactionPartitionListenerConfig config = new TransactionPartitionListenerConfig(
+                listener, scoredListener, new Jackson2JsonMessageConverter(), batchFactory,
+                "rule-engine.transaction.created", "rule-engine.transaction.scored", 4, "1,3", 100);
+        ArgumentCaptor<RabbitListenerEndpoint> created = ArgumentCaptor.forClass(RabbitListenerEndpoint.class);
+        ArgumentCaptor<RabbitListenerEndpoint> scored = ArgumentCaptor.forClass(RabbitListenerEndpoint.class);
+
+        config.configureRabbitListeners(registrar);
+
+        verify(registrar, times(2)).registerEndpoint(created.capture(), eq(batchFactory));
+        verify(registrar, times(2)).registerEndpoint(scored.capture());
+        assertEquals(
+                List.of(List.of("rule-engine.transaction.created.1"), List.of("rule-engine.transaction.created.3")),
+                created.getAllValues().stream().map(e -> ((SimpleRabbitListenerEndpoint) e).getQueueNames()).toList());
+        assertEquals(
+                List.of(List.of("rule-engine.transaction.scored.1"), List.of("rule-engine.transaction.scored.3")),
+                scored.getAllValues().stream().map(e -> ((SimpleRabbitListenerEndpoint) e).getQueueNames()).toList());
+
+        UUID transactionId = UUID.randomUUID();
+        ((SimpleRabbitListenerEndpoint) scored.getAllValues().get(0)).getMessageListener().onMessage(scoredMessage(transactionId));
+
+        ArgumentCaptor<TransactionScoredEvent> event = ArgumentCaptor.forClass(TransactionScoredEvent.class);
+        verify(scoredListener).onTransactionScored(event.capture());
+        assertEquals(transactionId, event.getValue().transactionId());
+        assertEquals(new BigDecimal("0.91"), event.getValue().riskScore());
+    }
+
+    @Test
+    void parsePartitions_defaultsToAllAndRejectsOutOfRange() {
+        assertEquals(List.of(0, 1, 2), TransactionPartitionListenerConfig.parsePartitions("", 3));
+        assertThrows(IllegalStateException.class, () -> TransactionPartitionListenerConfig.parsePartitions("3", 3));
+    }
+
+    private static Message message(UUID transactionId) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setHeader("__TypeId__", "com.matchsentinel.transaction.messaging.TransactionCreatedEvent");
+        String body = """
+                {"id":"%s","accountId":"%s","amount":12.50,"currency":"USD","country":"US",
+                 "merchant":"Shop","occurredAt":"2026-01-25T10:15:30Z","createdAt":"2026-01-25T10:15:31Z"}
+                """.formatted(transactionId, UUID.randomUUID());
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    private static Message scoredMessage(UUID transactionId) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setHeader("__TypeId__", "com.matchsentinel.ai.dto.TransactionScoredEvent");
+        String body = """
+                {"transactionId":"%s","accountId":"%s","amount":12.50,"currency":"USD","country":"US",
+                 "merchant":"Shop","occurredAt":"2026-01-25T10:15:30Z","scoredAt":"2026-01-25T10:15:32Z",
+                 "riskScore":0.91,"reasons":["AMOUNT_OUTLIER"],"modelVersion":"v1"}
+                """.formatted(transactionId, UUID.randomUUID());
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,94 @@
+package com.matchsentinel.ruleengine.rules;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuleExpressionParserTest {
+
+    private final TransactionCreatedEvent event = new TransactionCreatedEvent(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            new BigDecimal("15000.00"),
+            "EUR",
+            "ir",
+            "Global Crypto Exchange",
+            Instant.parse("2026-01-26T03:15:30Z"),
+            Instant.parse("2026-01-26T03:15:31Z")
+    );
+
+    @Test
+    void evaluatesComparisonsAndBooleanOperators() {
+        assertTrue(matches("amount >= 10000"));
+        assertFalse(matches("amount < 15000.00"));
+        assertTrue(matches("country in ('IR', 'KP', 'SY') and currency != 'USD'"));
+        assertTrue(matches("merchant contains 'crypto' or amount > 50000"));
+        assertTrue(matches("merchant startsWith 'GLOBAL'"));
+        assertFalse(matches("not (country = 'IR')"));
+        assertTrue(matches("hour >= 0 AND hour < 6"));
+        assertTrue(matches("country = 'US' or country = 'DE' or (amount > 100 and not merchant contains 'coffee')"));
+    }
+
+    @Test
+    void rejectsInvalidExpressions() {
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse("balance > 10"));
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse("amount > 'ten'"));
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse("country > 'IR'"));
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse("country in ('IR'"));
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse("merchant contains 'x"));
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse("amount > 10 amount"));
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse("hour = 1.5"));
+    }
+
+    @Test
+    void ruleSetReturnsCodesOfMatchingRules() {
+        CompiledRuleSet ruleSet = new CompiledRuleSet(
+                List.of("AMOUNT_THRESHOLD", "US_ONLY", "HIGH_RISK_COUNTRY"),
+                List.of(
+                        RuleExpressionParser.parse("amount >= 10000"),
+                        RuleExpressionParser.parse("country = 'US'"),
+                        RuleExpressionParser.parse("country in ('IR', 'KP', 'SY')")
+                )
+        );
+
+        assertEquals(List.of("AMOUNT_THRESHOLD", "HIGH_RISK_COUNTRY"), ruleSet.evaluate(event, AccountActivity.NONE));
+        assertTrue(CompiledRuleSet.empty().evaluate(event, AccountActivity.NONE).isEmpty());
+    }
+
+    @Test
+    void velocityFieldsReadAccountActivityInCents() {
+        AccountActivity activity = new AccountActivity() {
+            @Override
+            public long count(long windowSeconds) {
+                return windowSeconds == 300 ? 11 : 3;
+            }
+
+            @Override
+            public long amountCents(long windowSeconds) {
+                return windowSeconds == 3_600 ? 2_000_001 : 0;
+            }
+        };
+
+        assertTrue(RuleExpressionParser.parse("count_5m > 10").test(event, activity));
+        assertFalse(RuleExpressionParser.parse("count_30s > 10").test(event, activity));
+        assertTrue(RuleExpressionParser.parse("amount_1h > 20000").test(event, activity));
+        assertFalse(RuleExpressionParser.parse("amount_1h > 20000.01").test(event, activity));
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse("count_2h > 1", 3_600));
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse("amount_5m > 1.001"));
+        assertThrows(IllegalArgumentException.class, () -> RuleExpressionParser.parse("count_5m > 1.5"));
+    }
+
+    private boolean matches(String expression) {
+        return RuleExpressionParser.parse(expression).test(event, AccountActivity.NONE);
+    }
+}
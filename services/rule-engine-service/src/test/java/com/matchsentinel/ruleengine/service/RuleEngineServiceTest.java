@@ -1,26 +1,46 @@
 package com.matchsentinel.ruleengine.service;
 
+import com.matchsentinel.ruleengine.correlation.CorrelatedTransaction;
+import com.matchsentinel.ruleengine.correlation.CorrelationBuffer;
+import com.matchsentinel.ruleengine.correlation.PendingCorrelationStore;
 import com.matchsentinel.ruleengine.domain.FlaggedTransaction;
 import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionFlaggedEvent;
+import com.matchsentinel.ruleengine.dto.TransactionScoredEvent;
 import com.matchsentinel.ruleengine.messaging.RuleEngineEventPublisher;
 import com.matchsentinel.ruleengine.repository.FlaggedTransactionRepository;
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+import com.matchsentinel.ruleengine.rules.RuleExpressionParser;
+import com.matchsentinel.ruleengine.shadow.ShadowEvaluator;
+import com.matchsentinel.ruleengine.velocity.AccountVelocityStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class RuleEngineServiceTest {
 
     @Mock
@@ -29,33 +49,223 @@ class RuleEngineServiceTest {
     @Mock
     private RuleEngineEventPublisher eventPublisher;
 
-    @InjectMocks
+    @Mock
+    private RuleSetRegistry ruleSets;
+
+    @Mock
+    private AccountVelocityStore velocityStore;
+
+    @Mock
+    private TransactionIdFilter transactionIds;
+
+    @Mock
+    private ShadowEvaluator shadow;
+
+    @Mock
+    private PendingCorrelationStore pendingStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CorrelationBuffer correlation;
     private RuleEngineService service;
 
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        correlation = new CorrelationBuffer(meterRegistry, 60_000, 1_000, 1_000);
+        service = new RuleEngineService(
+                repository,
+                eventPublisher,
+                ruleSets,
+                new RuleEvaluator(meterRegistry),
+                velocityStore,
+                transactionIds,
+                correlation,
+                pendingStore,
+                shadow,
+                meterRegistry
+        );
+        ReflectionTestUtils.setField(service, "aiThreshold", new BigDecimal("0.85"));
+        when(ruleSets.current()).thenReturn(new CompiledRuleSet(
+                List.of("AMOUNT_THRESHOLD", "HIGH_RISK_COUNTRY"),
+                List.of(
+                        RuleExpressionParser.parse("amount >= 10000"),
+                        RuleExpressionParser.parse("country in ('IR', 'KP', 'SY')")
+                )
+        ));
+        when(repository.saveAll(any())).thenAnswer(invocation -> {
+            List<FlaggedTransaction> result = new ArrayList<>();
+            ((Iterable<FlaggedTransaction>) invocation.getArgument(0)).forEach(result::add);
+            return result;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        correlation.shutdown();
+    }
+
+    @Test
+    void flagsWhenRulesMatchOnceScoreArrives() {
+        TransactionCreatedEvent event = transaction(new BigDecimal("15000"), "IR");
+
+        service.evaluate(event);
+        verifyNoInteractions(repository, eventPublisher);
+        service.evaluateAi(scored(event, new BigDecimal("0.20"), List.of()));
+
+        TransactionFlaggedEvent flagged = singlePublished();
+        assertEquals(List.of("AMOUNT_THRESHOLD", "HIGH_RISK_COUNTRY"), flagged.reasons());
+        assertEquals(new BigDecimal("0.90"), flagged.riskScore());
+        verify(transactionIds).add(event.id());
+        assertEquals(1.0, meterRegistry.get("ruleengine.rule.hits").tag("rule", "HIGH_RISK_COUNTRY").counter().count());
+        assertEquals(1, meterRegistry.get("ruleengine.rule.evaluation").tag("rule", "AMOUNT_THRESHOLD").timer().count());
+    }
+
+    @Test
+    void combinesRuleHitsWithAiScore() {
+        TransactionCreatedEvent event = transaction(new BigDecimal("15000"), "US");
+
+        service.evaluateAi(scored(event, new BigDecimal("0.93"), List.of("AMOUNT_OUTLIER", "AMOUNT_THRESHOLD")));
+        service.evaluate(event);
+
+        TransactionFlaggedEvent flagged = singlePublished();
+        assertEquals(List.of("AMOUNT_THRESHOLD", "AMOUNT_OUTLIER"), flagged.reasons());
+        assertEquals(new BigDecimal("0.93"), flagged.riskScore());
+    }
+
+    @Test
+    void flagsOnAiScoreAloneAfterTimeout() {
+        TransactionCreatedEvent event = transaction(new BigDecimal("25.00"), "US");
+
+        service.decide(List.of(CorrelatedTransaction.ofScore(scored(event, new BigDecimal("0.90"), List.of()))));
+
+        TransactionFlaggedEvent flagged = singlePublished();
+        assertEquals(List.of("AI_SCORE"), flagged.reasons());
+        assertEquals(event.accountId(), flagged.accountId());
+    }
+
+    @Test
+    void skipsAlreadyFlaggedTransactionsInBatch() {
+        TransactionCreatedEvent seen = transaction(new BigDecimal("15000"), "US");
+        TransactionCreatedEvent fresh = transaction(new BigDecimal("15000"), "US");
+        TransactionCreatedEvent small = transaction(new BigDecimal("25.00"), "US");
+        for (TransactionCreatedEvent event : List.of(seen, fresh, small)) {
+            service.evaluateAi(scored(event, new BigDecimal("0.10"), List.of()));
+        }
+        when(transactionIds.mightContain(seen.id())).thenReturn(true);
+        when(repository.findTransactionIdsIn(List.of(seen.id()))).thenReturn(List.of(seen.id()));
+
+        service.evaluateBatch(List.of(seen, small, fresh));
+
+        assertEquals(fresh.id(), singlePublished().transactionId());
+        assertEquals(0, correlation.pendingCount());
+    }
+
     @Test
-    void flagsWhenRulesMatch() {
-        ReflectionTestUtils.setField(service, "amountThreshold", new BigDecimal("10000"));
-        ReflectionTestUtils.setField(service, "highRiskCountries", "IR,KP,SY");
+    void skipsPersistenceWhenNothingMatches() {
+        TransactionCreatedEvent event = transaction(new BigDecimal("25.00"), "US");
 
-        TransactionCreatedEvent event = new TransactionCreatedEvent(
+        service.evaluate(event);
+        service.evaluateAi(scored(event, new BigDecimal("0.40"), List.of()));
+
+        verifyNoInteractions(repository, eventPublisher);
+        verify(transactionIds, never()).mightContain(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void parksRuleHitsDurablyUntilTheirDecisionIsPersisted() {
+        TransactionCreatedEvent event = transaction(new BigDecimal("15000"), "US");
+
+        service.evaluate(event);
+
+        ArgumentCaptor<List<CorrelatedTransaction>> parked = ArgumentCaptor.forClass(List.class);
+        verify(pendingStore).save(parked.capture());
+        assertEquals(event, parked.getValue().get(0).created());
+        verify(pendingStore, never()).remove(anyList());
+
+        service.evaluateAi(scored(event, new BigDecimal("0.10"), List.of()));
+
+        singlePublished();
+        verify(pendingStore).remove(List.of(event.id()));
+    }
+
+    @Test
+    void doesNotParkHalvesThatCannotFlag() {
+        TransactionCreatedEvent event = transaction(new BigDecimal("25.00"), "US");
+
+        service.evaluate(event);
+        service.evaluateAi(scored(transaction(new BigDecimal("25.00"), "US"), new BigDecimal("0.40"), List.of()));
+
+        verify(pendingStore, never()).save(anyList());
+    }
+
+    @Test
+    void decidesReclaimedCorrelationsOnStartup() {
+        TransactionCreatedEvent parked = transaction(new BigDecimal("15000"), "US");
+        TransactionCreatedEvent complete = transaction(new BigDecimal("25.00"), "US");
+        CorrelatedTransaction both = new CorrelatedTransaction(
+                complete.id(), complete, List.of(), scored(complete, new BigDecimal("0.95"), List.of()), System.nanoTime());
+        when(pendingStore.claimOwnAndOrphaned(any()))
+                .thenReturn(List.of(CorrelatedTransaction.ofRules(parked, List.of("AMOUNT_THRESHOLD")), both));
+
+        service.recoverPending();
+
+        assertEquals(complete.id(), singlePublished().transactionId());
+        assertEquals(1, correlation.pendingCount());
+        assertEquals(2.0, meterRegistry.get("ruleengine.correlation.recovered").counter().count());
+    }
+
+    @Test
+    void joinsAHalfParkedByThePreviousOwnerOfThePartition() {
+        TransactionCreatedEvent event = transaction(new BigDecimal("15000"), "US");
+        TransactionScoredEvent score = scored(event, new BigDecimal("0.95"), List.of());
+        when(pendingStore.save(anyList())).thenReturn(List.of(new CorrelatedTransaction(
+                event.id(), event, List.of("AMOUNT_THRESHOLD"), score, System.nanoTime())));
+
+        service.evaluateAi(score);
+
+        TransactionFlaggedEvent flagged = singlePublished();
+        assertEquals(List.of("AMOUNT_THRESHOLD", "AI_SCORE"), flagged.reasons());
+        assertEquals(new BigDecimal("0.95"), flagged.riskScore());
+        assertEquals(0, correlation.pendingCount());
+        verify(pendingStore).remove(List.of(event.id()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private TransactionFlaggedEvent singlePublished() {
+        ArgumentCaptor<List<TransactionFlaggedEvent>> published = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishTransactionsFlagged(published.capture());
+        assertEquals(1, published.getValue().size());
+        return published.getValue().get(0);
+    }
+
+    private static TransactionCreatedEvent transaction(BigDecimal amount, String country) {
+        return new TransactionCreatedEvent(
                 UUID.randomUUID(),
                 UUID.randomUUID(),
-                new BigDecimal("15000"),
+                amount,
                 "USD",
-                "IR",
+                country,
                 "Test Merchant",
                 Instant.now(),
                 Instant.now()
         );
+    }
 
-        ArgumentCaptor<FlaggedTransaction> captor = ArgumentCaptor.forClass(FlaggedTransaction.class);
-        when(repository.save(captor.capture())).thenAnswer(invocation -> captor.getValue());
-
-        service.evaluate(event);
-
-        FlaggedTransaction saved = captor.getValue();
-        assertTrue(saved.getReasons().contains("AMOUNT_THRESHOLD"));
-        assertTrue(saved.getReasons().contains("HIGH_RISK_COUNTRY"));
-        verify(eventPublisher).publishTransactionFlagged(org.mockito.ArgumentMatchers.any());
+    private static TransactionScoredEvent scored(TransactionCreatedEvent event, BigDecimal riskScore, List<String> reasons) {
+        return new TransactionScoredEvent(
+                event.id(),
+                event.accountId(),
+                event.amount(),
+                event.currency(),
+                event.country(),
+                event.merchant(),
+                event.occurredAt(),
+                Instant.now(),
+                riskScore,
+                reasons,
+                "test"
+        );
     }
 }
@@ -0,0 +1,156 @@
+package com.matchsentinel.ruleengine.shadow;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.rules.AccountActivity;
+import com.matchsentinel.ruleengine.rules.CompiledRuleSet;
+import com.matchsentinel.ruleengine.rules.RuleExpressionParser;
+import com.matchsentinel.ruleengine.service.RuleSetRegistry;
+import com.matchsentinel.ruleengine.velocity.AccountVelocityStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShadowEvaluatorTest {
+
+    @Test
+    void recordsHitsAndDecisionsForBothSets() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ShadowEvaluator evaluator = new ShadowEvaluator(mock(RuleSetRegistry.class), meterRegistry, 1, 10, 0);
+        CompiledRuleSet active = new CompiledRuleSet(
+                List.of("AMOUNT_THRESHOLD"),
+                List.of(RuleExpressionParser.parse("amount >= 10000"))
+        );
+        CompiledRuleSet candidate = new CompiledRuleSet(
+                List.of("AMOUNT_THRESHOLD_V2"),
+                List.of(RuleExpressionParser.parse("amount >= 5000"))
+        );
+
+        evaluator.evaluate(transaction("15000"), AccountActivity.NONE, active, candidate);
+        evaluator.evaluate(transaction("7500"), AccountActivity.NONE, active, candidate);
+        evaluator.evaluate(transaction("25.00"), AccountActivity.NONE, active, candidate);
+        evaluator.shutdown();
+
+        assertEquals(1.0, meterRegistry.get("ruleengine.shadow.hits")
+                .tags("set", "active", "rule", "AMOUNT_THRESHOLD").counter().count());
+        assertEquals(2.0, meterRegistry.get("ruleengine.shadow.hits")
+                .tags("set", "candidate", "rule", "AMOUNT_THRESHOLD_V2").counter().count());
+        assertEquals(1.0, meterRegistry.get("ruleengine.shadow.decisions").tag("outcome", "both").counter().count());
+        assertEquals(1.0, meterRegistry.get("ruleengine.shadow.decisions")
+                .tag("outcome", "candidate_only").counter().count());
+        assertEquals(1.0, meterRegistry.get("ruleengine.shadow.decisions").tag("outcome", "neither").counter().count());
+        assertEquals(3, meterRegistry.get("ruleengine.shadow.evaluation").tag("set", "active").timer().count());
+        assertEquals(3, meterRegistry.get("ruleengine.shadow.evaluation").tag("set", "candidate").timer().count());
+    }
+
+    @Test
+    void shedsWhenQueueIsFull() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RuleSetRegistry ruleSets = mock(RuleSetRegistry.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ruleSets.current()).thenReturn(CompiledRuleSet.empty());
+        when(ruleSets.shadow()).thenReturn(new CompiledRuleSet(
+                List.of("BLOCKING"),
+                List.of((event, activity) -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return false;
+                })
+        ));
+        ShadowEvaluator evaluator = new ShadowEvaluator(ruleSets, meterRegistry, 1, 1, 0);
+
+        evaluator.submit(transaction("10"), AccountActivity.NONE);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        evaluator.submit(transaction("10"), AccountActivity.NONE);
+        evaluator.submit(transaction("10"), AccountActivity.NONE);
+        evaluator.submit(transaction("10"), AccountActivity.NONE);
+        release.countDown();
+        evaluator.shutdown();
+
+        assertEquals(2.0, meterRegistry.get("ruleengine.shadow.shed").counter().count());
+    }
+
+    @Test
+    void evaluatesTheActivityAsItWasWhenSubmitted() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RuleSetRegistry ruleSets = mock(RuleSetRegistry.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ruleSets.current()).thenReturn(CompiledRuleSet.empty());
+        when(ruleSets.shadow()).thenReturn(new CompiledRuleSet(
+                List.of("BLOCKING"),
+                List.of((event, activity) -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return false;
+                })
+        ));
+        ShadowEvaluator evaluator = new ShadowEvaluator(ruleSets, meterRegistry, 1, 10, 0);
+        evaluator.submit(transaction("10"), AccountActivity.NONE);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        when(ruleSets.current()).thenReturn(new CompiledRuleSet(
+                List.of("VELOCITY"), List.of(RuleExpressionParser.parse("count_10m >= 2"))));
+        when(ruleSets.shadow()).thenReturn(new CompiledRuleSet(
+                List.of("VELOCITY_V2"), List.of(RuleExpressionParser.parse("count_10m >= 3"))));
+        AccountVelocityStore store = new AccountVelocityStore(10, 60, 1_000);
+        UUID accountId = UUID.randomUUID();
+        store.record(transaction(accountId));
+        TransactionCreatedEvent submitted = transaction(accountId);
+        evaluator.submit(submitted, store.record(submitted));
+        store.record(transaction(accountId));
+        release.countDown();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("ruleengine.shadow.evaluation").tag("set", "candidate").timer().count() < 2
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        evaluator.shutdown();
+
+        assertEquals(1.0, meterRegistry.get("ruleengine.shadow.hits")
+                .tags("set", "active", "rule", "VELOCITY").counter().count());
+        assertEquals(0.0, meterRegistry.get("ruleengine.shadow.hits")
+                .tags("set", "candidate", "rule", "VELOCITY_V2").counter().count());
+        assertEquals(1.0, meterRegistry.get("ruleengine.shadow.decisions")
+                .tag("outcome", "active_only").counter().count());
+    }
+
+    private static TransactionCreatedEvent transaction(UUID accountId) {
+        Instant now = Instant.now();
+        return new TransactionCreatedEvent(
+                UUID.randomUUID(), accountId, BigDecimal.TEN, "USD", "US", "Test Merchant", now, now);
+    }
+
+    private static TransactionCreatedEvent transaction(String amount) {
+        return new TransactionCreatedEvent(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new BigDecimal(amount),
+                "USD",
+                "US",
+                "Test Merchant",
+                Instant.now(),
+                Instant.now()
+        );
+    }
+}
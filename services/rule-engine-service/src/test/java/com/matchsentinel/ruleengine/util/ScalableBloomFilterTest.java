@@ -0,0 +1,71 @@
+package com.matchsentinel.ruleengine.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    void neverReportsFalseNegatives() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01, 1_000_000);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            filter.add(id);
+        }
+
+        for (UUID id : ids) {
+            assertTrue(filter.mightContain(id));
+        }
+        assertTrue(filter.approximateSize() >= 20_000);
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTargetAfterGrowth() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(10_000, 0.01, 10_000_000);
+        for (int i = 0; i < 100_000; i++) {
+            filter.add(UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < probes * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void forgetsOldestIdsOnceCapacityIsExceeded() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.001, 4_000);
+        List<UUID> first = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = UUID.randomUUID();
+            first.add(id);
+            filter.add(id);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            filter.add(UUID.randomUUID());
+        }
+
+        long remembered = first.stream().filter(filter::mightContain).count();
+        assertTrue(remembered < first.size() / 2, "remembered: " + remembered);
+        assertTrue(filter.approximateSize() <= 8_000);
+    }
+
+    @Test
+    void rejectsInvalidFalsePositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(1_000, 1.5, 10_000));
+        assertFalse(new ScalableBloomFilter(1_000, 0.01, 10_000).mightContain(UUID.randomUUID()));
+    }
+}
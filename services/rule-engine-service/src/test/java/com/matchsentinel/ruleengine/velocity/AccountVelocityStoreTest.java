@@ -0,0 +1,94 @@
+package com.matchsentinel.ruleengine.velocity;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import com.matchsentinel.ruleengine.rules.AccountActivity;
+import com.matchsentinel.ruleengine.rules.RuleExpressionParser;
+import com.matchsentinel.ruleengine.rules.RulePredicate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountVelocityStoreTest {
+
+    private static final Instant START = Instant.parse("2026-01-26T10:00:00Z");
+
+    private final AccountVelocityStore store = new AccountVelocityStore(10, 60, 1_000);
+
+    @Test
+    void sumsCountAndAmountOverTrailingWindows() {
+        UUID accountId = UUID.randomUUID();
+
+        store.record(event(accountId, "100.00", START));
+        store.record(event(accountId, "250.50", START.plusSeconds(5)));
+        store.record(event(accountId, "1000.00", START.plusSeconds(240)));
+        AccountActivity activity = store.record(event(accountId, "10.00", START.plusSeconds(900)));
+
+        assertEquals(1, activity.count(60));
+        assertEquals(1_000, activity.amountCents(60));
+        assertEquals(4, activity.count(3_600));
+        assertEquals(136_050, activity.amountCents(3_600));
+        assertEquals(2, store.record(event(accountId, "5.00", START.plusSeconds(1_000))).count(300));
+    }
+
+    @Test
+    void keepsAccountsSeparateAndDropsExpiredBuckets() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        store.record(event(first, "50.00", START));
+        store.record(event(second, "75.00", START.plusSeconds(30)));
+        AccountActivity activity = store.record(event(first, "20.00", START.plusSeconds(3_700)));
+
+        assertEquals(1, activity.count(3_600));
+        assertEquals(2_000, activity.amountCents(3_600));
+        assertEquals(1, ((AccountWindow) activity).bucketCount());
+    }
+
+    @Test
+    void countsLateEventsInTheirOwnBucket() {
+        UUID accountId = UUID.randomUUID();
+
+        store.record(event(accountId, "10.00", START.plusSeconds(600)));
+        store.record(event(accountId, "10.00", START.plusSeconds(200)));
+        store.record(event(accountId, "10.00", START.plusSeconds(400)));
+        AccountActivity activity = store.record(event(accountId, "10.00", START.minusSeconds(7_200)));
+
+        assertEquals(3, activity.count(3_600));
+        assertEquals(1, activity.count(60));
+        assertEquals(3, ((AccountWindow) activity).bucketCount());
+    }
+
+    @Test
+    void velocityRuleFlagsBurstForOneAccount() {
+        RulePredicate burst = RuleExpressionParser.parse("count_5m > 10 or amount_5m > 20000", store.retentionSeconds());
+        UUID accountId = UUID.randomUUID();
+        TransactionCreatedEvent event = null;
+        AccountActivity activity = null;
+
+        for (int i = 0; i < 10; i++) {
+            event = event(accountId, "100.00", START.plusSeconds(i * 20L));
+            activity = store.record(event);
+        }
+        assertFalse(burst.test(event, activity));
+
+        event = event(accountId, "100.00", START.plusSeconds(200));
+        assertTrue(burst.test(event, store.record(event)));
+    }
+
+    @Test
+    void rejectsRetentionShorterThanBucket() {
+        assertThrows(IllegalStateException.class, () -> new AccountVelocityStore(120, 1, 10));
+    }
+
+    private static TransactionCreatedEvent event(UUID accountId, String amount, Instant occurredAt) {
+        return new TransactionCreatedEvent(
+                UUID.randomUUID(), accountId, new BigDecimal(amount), "USD", "US", "Merchant", occurredAt, occurredAt);
+    }
+}
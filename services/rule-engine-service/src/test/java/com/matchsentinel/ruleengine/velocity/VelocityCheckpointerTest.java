@@ -0,0 +1,133 @@
+package com.matchsentinel.ruleengine.velocity;
+
+import com.matchsentinel.ruleengine.dto.TransactionCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VelocityCheckpointerTest {
+
+    @TempDir
+    Path directory;
+
+    private final Instant now = Instant.now();
+    private final UUID accountId = UUID.randomUUID();
+
+    @Test
+    void restoresFromSnapshotAndChangelogWithoutDoubleCounting() throws IOException {
+        AccountVelocityStore store = newStore();
+        VelocityCheckpointer checkpointer = new VelocityCheckpointer(store, directory.toString(), new SimpleMeterRegistry());
+        checkpointer.restore();
+
+        store.record(event("100.00", now.minusSeconds(120)));
+        store.record(event("200.00", now.minusSeconds(60)));
+        checkpointer.checkpoint();
+        store.record(event("300.00", now));
+        checkpointer.flush();
+
+        AccountVelocityStore restored = newStore();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new VelocityCheckpointer(restored, directory.toString(), meterRegistry).restore();
+
+        UUID otherAccount = UUID.randomUUID();
+        restored.record(new TransactionCreatedEvent(
+                UUID.randomUUID(), otherAccount, BigDecimal.ONE, "USD", "US", "Merchant", now, now));
+        var activity = restored.record(event("1.00", now));
+        assertEquals(4, activity.count(600));
+        assertEquals(60_100, activity.amountCents(600));
+        assertTrue(meterRegistry.get("ruleengine.velocity.snapshot.size").gauge().value() > 0);
+        assertTrue(restored.sequence() > store.sequence());
+    }
+
+    @Test
+    void shutdownLeavesOnlyTheLatestSnapshotAndAnEmptySegment() throws IOException {
+        AccountVelocityStore store = newStore();
+        VelocityCheckpointer checkpointer = new VelocityCheckpointer(store, directory.toString(), new SimpleMeterRegistry());
+        checkpointer.restore();
+        store.record(event("50.00", now));
+        checkpointer.checkpoint();
+        store.record(event("25.00", now));
+        checkpointer.shutdown();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+        AccountVelocityStore restored = newStore();
+        new VelocityCheckpointer(restored, directory.toString(), new SimpleMeterRegistry()).restore();
+        assertEquals(7_500, restored.restore(accountId).amountCents(600));
+    }
+
+    @Test
+    void readsSnapshotsLargerThanOneMapping() throws IOException {
+        AccountVelocityStore store = newStore();
+        VelocityCheckpointer checkpointer = new VelocityCheckpointer(store, directory.toString(), new SimpleMeterRegistry());
+        checkpointer.restore();
+        List<UUID> accounts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            UUID account = UUID.randomUUID();
+            accounts.add(account);
+            for (int bucket = 0; bucket <= i % 4; bucket++) {
+                store.record(new TransactionCreatedEvent(UUID.randomUUID(), account, new BigDecimal("1.00"),
+                        "USD", "US", "Merchant", now.minusSeconds(60L * bucket), now));
+            }
+        }
+        checkpointer.shutdown();
+
+        AccountVelocityStore restored = newStore();
+        new VelocityCheckpointer(restored, directory.toString(), new SimpleMeterRegistry(), 64).restore();
+
+        for (int i = 0; i < accounts.size(); i++) {
+            assertEquals(i % 4 + 1, restored.restore(accounts.get(i)).count(600));
+        }
+    }
+
+    @Test
+    void setsACorruptSnapshotAsideAndCountsIt() throws IOException {
+        AccountVelocityStore store = newStore();
+        VelocityCheckpointer checkpointer = new VelocityCheckpointer(store, directory.toString(), new SimpleMeterRegistry());
+        checkpointer.restore();
+        store.record(event("50.00", now));
+        checkpointer.shutdown();
+        Path snapshot;
+        try (Stream<Path> files = Files.list(directory)) {
+            snapshot = files.filter(file -> file.toString().endsWith(".bin")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(snapshot) - 4);
+        }
+
+        AccountVelocityStore restored = newStore();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new VelocityCheckpointer(restored, directory.toString(), meterRegistry).restore();
+
+        assertFalse(Files.exists(snapshot));
+        assertTrue(Files.exists(snapshot.resolveSibling(snapshot.getFileName() + ".corrupt")));
+        assertEquals(1.0, meterRegistry.get("ruleengine.velocity.snapshot.corrupt").counter().count());
+        assertEquals(0, restored.trackedAccounts());
+    }
+
+    private AccountVelocityStore newStore() {
+        return new AccountVelocityStore(10, 60, 1_000);
+    }
+
+    private TransactionCreatedEvent event(String amount, Instant occurredAt) {
+        return new TransactionCreatedEvent(
+                UUID.randomUUID(), accountId, new BigDecimal(amount), "USD", "US", "Merchant", occurredAt, occurredAt);
+    }
+}
@@ -1,19 +1,27 @@
 package com.matchsentinel.transaction.controller;
 
+import com.matchsentinel.transaction.dto.BatchCreateTransactionsResponse;
 import com.matchsentinel.transaction.dto.CreateTransactionRequest;
+import com.matchsentinel.transaction.dto.StreamIngestResponse;
+import com.matchsentinel.transaction.dto.TransactionCursorPage;
 import com.matchsentinel.transaction.dto.TransactionResponse;
 import com.matchsentinel.transaction.service.TransactionService;
+import com.matchsentinel.transaction.service.TransactionStreamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -22,6 +30,7 @@ import java.util.UUID;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionStreamService transactionStreamService;
 
     @PostMapping
     public ResponseEntity<TransactionResponse> create(@Valid @RequestBody CreateTransactionRequest request) {
@@ -29,6 +38,20 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateTransactionsResponse> createBatch(
+            @RequestBody List<CreateTransactionRequest> requests
+    ) {
+        BatchCreateTransactionsResponse response = transactionService.createBatch(requests);
+        HttpStatus status = response.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamIngestResponse> stream(InputStream body) throws IOException {
+        return ResponseEntity.ok(transactionStreamService.ingest(body));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TransactionResponse> getById(@PathVariable UUID id) {
         return ResponseEntity.ok(transactionService.getById(id));
@@ -54,4 +77,27 @@ public class TransactionController {
                 pageable
         ));
     }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<TransactionCursorPage> listAfter(
+            @RequestParam(required = false) UUID accountId,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(transactionService.listAfter(
+                accountId,
+                country,
+                from,
+                to,
+                minAmount,
+                maxAmount,
+                cursor,
+                size
+        ));
+    }
 }
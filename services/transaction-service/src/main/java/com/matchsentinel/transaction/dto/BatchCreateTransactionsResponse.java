@@ -0,0 +1,11 @@
+package com.matchsentinel.transaction.dto;
+
+import java.util.List;
+
+public record BatchCreateTransactionsResponse(
+        int total,
+        int created,
+        int failed,
+        List<BatchItemResult> results
+) {
+}
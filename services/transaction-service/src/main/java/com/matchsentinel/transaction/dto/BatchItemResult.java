@@ -0,0 +1,12 @@
+package com.matchsentinel.transaction.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record BatchItemResult(
+        int index,
+        BatchItemStatus status,
+        UUID id,
+        Map<String, String> errors
+) {
+}
@@ -0,0 +1,7 @@
+package com.matchsentinel.transaction.dto;
+
+public enum BatchItemStatus {
+    CREATED,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,12 @@
+package com.matchsentinel.transaction.dto;
+
+import java.util.List;
+
+public record StreamIngestResponse(
+        long lines,
+        long created,
+        long failed,
+        List<StreamLineError> errors,
+        boolean errorsTruncated
+) {
+}
@@ -0,0 +1,10 @@
+package com.matchsentinel.transaction.dto;
+
+import java.util.Map;
+
+public record StreamLineError(
+        long line,
+        BatchItemStatus status,
+        Map<String, String> errors
+) {
+}
@@ -0,0 +1,10 @@
+package com.matchsentinel.transaction.dto;
+
+import java.util.List;
+
+public record TransactionCursorPage(
+        List<TransactionResponse> items,
+        int size,
+        String nextCursor
+) {
+}
@@ -0,0 +1,29 @@
+package com.matchsentinel.transaction.messaging;
+
+import java.util.UUID;
+
+public final class AccountPartitioner {
+
+    private final int partitions;
+
+    public AccountPartitioner(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be at least 1");
+        }
+        this.partitions = partitions;
+    }
+
+    public int partitionFor(UUID accountId) {
+        long hash = accountId.getMostSignificantBits() ^ accountId.getLeastSignificantBits();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) Math.floorMod(hash, (long) partitions);
+    }
+
+    public int partitions() {
+        return partitions;
+    }
+}
@@ -4,25 +4,46 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class RabbitTransactionEventPublisher implements TransactionEventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
     private final String exchange;
     private final String routingKey;
+    private final long confirmTimeoutMillis;
+    private final AccountPartitioner partitioner;
 
     public RabbitTransactionEventPublisher(
             RabbitTemplate rabbitTemplate,
             @Value("${transaction.rabbit.exchange}") String exchange,
-            @Value("${transaction.rabbit.routing-key}") String routingKey
+            @Value("${transaction.rabbit.routing-key}") String routingKey,
+            @Value("${transaction.outbox.confirm-timeout-ms}") long confirmTimeoutMillis,
+            @Value("${transaction.rabbit.partitions}") int partitions
     ) {
         this.rabbitTemplate = rabbitTemplate;
         this.exchange = exchange;
         this.routingKey = routingKey;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+        this.partitioner = new AccountPartitioner(partitions);
     }
 
     @Override
-    public void publishTransactionCreated(TransactionCreatedEvent event) {
-        rabbitTemplate.convertAndSend(exchange, routingKey, event);
+    public void publishTransactionsCreated(List<TransactionCreatedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        rabbitTemplate.invoke(operations -> {
+            for (TransactionCreatedEvent event : events) {
+                operations.convertAndSend(exchange, routingKeyFor(event), event);
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+            return null;
+        });
+    }
+
+    String routingKeyFor(TransactionCreatedEvent event) {
+        return routingKey + "." + partitioner.partitionFor(event.accountId());
     }
 }
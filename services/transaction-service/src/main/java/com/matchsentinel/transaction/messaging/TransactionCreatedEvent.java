@@ -14,4 +14,5 @@ public record TransactionCreatedEvent(
         Instant occurredAt,
         Instant createdAt
 ) {
+    public static final String TYPE = "transaction.created";
 }
@@ -1,5 +1,7 @@
 package com.matchsentinel.transaction.messaging;
 
+import java.util.List;
+
 public interface TransactionEventPublisher {
-    void publishTransactionCreated(TransactionCreatedEvent event);
+    void publishTransactionsCreated(List<TransactionCreatedEvent> events);
 }
@@ -0,0 +1,102 @@
+package com.matchsentinel.transaction.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchsentinel.transaction.domain.OutboxEvent;
+import com.matchsentinel.transaction.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class TransactionOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionOutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deadLettered;
+    private final int batchSize;
+
+    public TransactionOutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            TransactionEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${transaction.outbox.batch-size}") int batchSize
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.deadLettered = meterRegistry.counter("transaction.outbox.dead.lettered");
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${transaction.outbox.poll-interval-ms}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException ex) {
+            logger.warn("Outbox relay failed, pending events will be retried", ex);
+        }
+    }
+
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            List<TransactionCreatedEvent> events = new ArrayList<>(batch.size());
+            List<UUID> ids = new ArrayList<>(batch.size());
+            for (OutboxEvent outboxEvent : batch) {
+                try {
+                    events.add(readPayload(outboxEvent));
+                    ids.add(outboxEvent.getId());
+                } catch (IllegalStateException ex) {
+                    deadLetter(outboxEvent, ex);
+                }
+            }
+            if (!events.isEmpty()) {
+                eventPublisher.publishTransactionsCreated(events);
+                outboxEventRepository.deleteAllByIdInBatch(ids);
+            }
+            logger.debug("Relayed {} outbox events", batch.size());
+            return batch.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    // A row that can never be published would otherwise roll back every batch it is locked into and stall
+    // the relay behind it; it is moved aside in the same transaction so the rest of the batch goes out.
+    private void deadLetter(OutboxEvent outboxEvent, IllegalStateException ex) {
+        outboxEventRepository.moveToDeadLetter(outboxEvent.getId(), String.valueOf(ex.getCause()));
+        deadLettered.increment();
+        logger.error("Moved unreadable outbox event {} for aggregate {} to outbox_dead_letter",
+                outboxEvent.getId(), outboxEvent.getAggregateId(), ex);
+    }
+
+    private TransactionCreatedEvent readPayload(OutboxEvent outboxEvent) {
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), TransactionCreatedEvent.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to read outbox event " + outboxEvent.getId(), ex);
+        }
+    }
+}
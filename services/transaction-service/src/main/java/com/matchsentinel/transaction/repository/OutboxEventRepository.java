@@ -0,0 +1,34 @@
+package com.matchsentinel.transaction.repository;
+
+import com.matchsentinel.transaction.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    @Query(value = """
+            SELECT *
+            FROM outbox
+            ORDER BY created_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            WITH moved AS (
+                DELETE FROM outbox WHERE id = :id
+                RETURNING id, aggregate_id, event_type, payload, created_at
+            )
+            INSERT INTO outbox_dead_letter (id, aggregate_id, event_type, payload, created_at, failed_at, error)
+            SELECT id, aggregate_id, event_type, payload, created_at, now(), :error
+            FROM moved
+            """, nativeQuery = true)
+    int moveToDeadLetter(@Param("id") UUID id, @Param("error") String error);
+}
@@ -35,4 +35,19 @@ public final class TransactionSpecifications {
     public static Specification<Transaction> amountLte(BigDecimal maxAmount) {
         return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), maxAmount);
     }
+
+    // (occurred_at, id) < (t, id) expanded for JPA. The leading occurred_at <= t is implied by the OR but is
+    // what gives Postgres a start key on the (occurred_at, id) index; without it deep pages scan from the top.
+    public static Specification<Transaction> seekBefore(Instant occurredAt, UUID id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("occurredAt"), occurredAt),
+                cb.or(
+                        cb.lessThan(root.get("occurredAt"), occurredAt),
+                        cb.and(
+                                cb.equal(root.get("occurredAt"), occurredAt),
+                                cb.lessThan(root.get("id"), id)
+                        )
+                )
+        );
+    }
 }
@@ -0,0 +1,173 @@
+package com.matchsentinel.transaction.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "transaction.partitions.enabled", havingValue = "true")
+public class TransactionPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionPartitionManager.class);
+    private static final String PARENT_TABLE = "transactions";
+    private static final String PARTITION_PREFIX = "transactions_p";
+    private static final String DEFAULT_PARTITION = "transactions_default";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter createFailures;
+    private final Counter expireFailures;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropDetached;
+    private final int moveBatchSize;
+    private final long lockTimeoutMs;
+
+    public TransactionPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${transaction.partitions.months-ahead}") int monthsAhead,
+            @Value("${transaction.partitions.retention-months}") int retentionMonths,
+            @Value("${transaction.partitions.drop-detached}") boolean dropDetached,
+            @Value("${transaction.partitions.move-batch-size}") int moveBatchSize,
+            @Value("${transaction.partitions.lock-timeout-ms}") long lockTimeoutMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.createFailures = meterRegistry.counter("transaction.partitions.failures", "operation", "create");
+        this.expireFailures = meterRegistry.counter("transaction.partitions.failures", "operation", "expire");
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropDetached = dropDetached;
+        this.moveBatchSize = moveBatchSize;
+        this.lockTimeoutMs = lockTimeoutMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${transaction.partitions.cron}", zone = "UTC")
+    public void maintain() {
+        maintain(YearMonth.now(ZoneOffset.UTC));
+    }
+
+    void maintain(YearMonth current) {
+        List<String> attached = attachedPartitions();
+        for (int offset = 0; offset <= monthsAhead; offset++) {
+            YearMonth month = current.plusMonths(offset);
+            if (!attached.contains(PARTITION_PREFIX + month.format(SUFFIX))) {
+                createPartition(month);
+            }
+        }
+        YearMonth oldestRetained = current.minusMonths(retentionMonths);
+        for (String partition : attached) {
+            YearMonth month = YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+            if (month.isBefore(oldestRetained)) {
+                expirePartition(partition);
+            }
+        }
+    }
+
+    // CREATE TABLE ... PARTITION OF and DETACH/ATTACH of the default partition all take ACCESS EXCLUSIVE on
+    // the parent, stalling every read and write on transactions. Instead the month is built as a standalone
+    // table whose CHECK constraint matches its bounds, rows that landed in the default partition are copied
+    // in bounded batches without holding locks, and only the final step locks anything: it takes EXCLUSIVE on
+    // the default partition (reads continue; out-of-range inserts wait), moves the stragglers and attaches the
+    // table. ATTACH takes SHARE UPDATE EXCLUSIVE on the parent, so traffic to the other partitions continues,
+    // and skips the range scan because of the CHECK constraint. lock_timeout keeps that step from queueing
+    // behind a long query and blocking writers behind it; a timed-out attempt is retried on the next run.
+    private void createPartition(YearMonth month) {
+        String partition = PARTITION_PREFIX + month.format(SUFFIX);
+        String range = " WHERE occurred_at >= '" + lowerBound(month)
+                + "' AND occurred_at < '" + lowerBound(month.plusMonths(1)) + "'";
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition
+                    + " (LIKE " + PARENT_TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING INDEXES,"
+                    + " CONSTRAINT " + partition + "_range CHECK (occurred_at >= '" + lowerBound(month)
+                    + "' AND occurred_at < '" + lowerBound(month.plusMonths(1)) + "'))");
+            String copy = "INSERT INTO " + partition + " SELECT d.* FROM " + DEFAULT_PARTITION + " d" + range
+                    + " AND NOT EXISTS (SELECT 1 FROM " + partition + " p WHERE p.id = d.id AND p.occurred_at = d.occurred_at)";
+            boolean holdsRows = defaultHoldsRows(month);
+            long copied = 0;
+            int batch = holdsRows ? moveBatchSize : 0;
+            while (batch == moveBatchSize) {
+                batch = jdbcTemplate.update(copy + " LIMIT " + moveBatchSize);
+                copied += batch;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeoutMs + "ms'");
+                if (holdsRows) {
+                    jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN EXCLUSIVE MODE");
+                    jdbcTemplate.update(copy);
+                    jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + range);
+                }
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + partition
+                        + " FOR VALUES FROM ('" + lowerBound(month) + "') TO ('" + lowerBound(month.plusMonths(1)) + "')");
+            });
+            if (holdsRows) {
+                logger.info("Created partition {} with {} rows copied out of {} in batches", partition, copied, DEFAULT_PARTITION);
+            }
+        } catch (DataAccessException ex) {
+            createFailures.increment();
+            logger.error("Failed to create partition {}", partition, ex);
+        }
+    }
+
+    private boolean defaultHoldsRows(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION
+                        + " WHERE occurred_at >= ?::timestamptz AND occurred_at < ?::timestamptz)",
+                Boolean.class, lowerBound(month), lowerBound(month.plusMonths(1))));
+    }
+
+    // DETACH ... CONCURRENTLY is not allowed while a default partition exists, so expiry takes a brief
+    // ACCESS EXCLUSIVE on the parent; it moves no data and is bounded by lock_timeout like creation.
+    private void expirePartition(String partition) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeoutMs + "ms'");
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+            });
+            if (dropDetached) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                logger.info("Dropped expired partition {}", partition);
+            } else {
+                logger.info("Detached expired partition {} for archiving", partition);
+            }
+        } catch (DataAccessException ex) {
+            expireFailures.increment();
+            logger.error("Failed to expire partition {}", partition, ex);
+        }
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits
+                JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                WHERE parent.relname = ?
+                  AND child.relname ~ '^transactions_p[0-9]{6}$'
+                ORDER BY child.relname
+                """, String.class, PARENT_TABLE);
+    }
+
+    private static String lowerBound(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+    }
+}
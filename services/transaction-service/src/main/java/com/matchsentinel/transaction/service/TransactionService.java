@@ -1,46 +1,122 @@
 package com.matchsentinel.transaction.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchsentinel.transaction.domain.OutboxEvent;
 import com.matchsentinel.transaction.domain.Transaction;
+import com.matchsentinel.transaction.dto.BatchCreateTransactionsResponse;
+import com.matchsentinel.transaction.dto.BatchItemResult;
+import com.matchsentinel.transaction.dto.BatchItemStatus;
 import com.matchsentinel.transaction.dto.CreateTransactionRequest;
+import com.matchsentinel.transaction.dto.TransactionCursorPage;
 import com.matchsentinel.transaction.dto.TransactionResponse;
 import com.matchsentinel.transaction.exception.NotFoundException;
 import com.matchsentinel.transaction.messaging.TransactionCreatedEvent;
-import com.matchsentinel.transaction.messaging.TransactionEventPublisher;
+import com.matchsentinel.transaction.repository.OutboxEventRepository;
 import com.matchsentinel.transaction.repository.TransactionRepository;
 import com.matchsentinel.transaction.repository.TransactionSpecifications;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
 
+    private static final Logger logger = LoggerFactory.getLogger(TransactionService.class);
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+    private static final Sort SEEK_ORDER = Sort.by(Sort.Direction.DESC, "occurredAt", "id");
+
     private final TransactionRepository transactionRepository;
-    private final TransactionEventPublisher eventPublisher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
 
-    public TransactionResponse create(CreateTransactionRequest request) {
-        Transaction transaction = Transaction.builder()
-                .accountId(request.getAccountId())
-                .amount(request.getAmount())
-                .currency(request.getCurrency().toUpperCase())
-                .country(request.getCountry().toUpperCase())
-                .merchant(request.getMerchant())
-                .occurredAt(request.getOccurredAt())
-                .createdAt(Instant.now())
-                .build();
+    @Value("${transaction.batch.max-size}")
+    private int batchMaxSize;
 
-        Transaction saved = transactionRepository.save(transaction);
-        eventPublisher.publishTransactionCreated(toEvent(saved));
+    @Value("${transaction.batch.chunk-size}")
+    private int batchChunkSize;
+
+    @Transactional
+    public TransactionResponse create(CreateTransactionRequest request) {
+        Transaction saved = transactionRepository.save(toEntity(request));
+        outboxEventRepository.save(toOutboxEvent(saved));
         return toResponse(saved);
     }
 
+    public BatchCreateTransactionsResponse createBatch(List<CreateTransactionRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one transaction");
+        }
+        if (requests.size() > batchMaxSize) {
+            throw new IllegalArgumentException("Batch must not contain more than " + batchMaxSize + " transactions");
+        }
+
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        int created = 0;
+        for (int from = 0; from < requests.size(); from += batchChunkSize) {
+            List<CreateTransactionRequest> chunk = requests.subList(from, Math.min(from + batchChunkSize, requests.size()));
+            for (BatchItemResult result : createChunk(chunk)) {
+                if (result.status() == BatchItemStatus.CREATED) {
+                    created++;
+                }
+                results.add(new BatchItemResult(from + result.index(), result.status(), result.id(), result.errors()));
+            }
+        }
+        return new BatchCreateTransactionsResponse(
+                requests.size(),
+                created,
+                requests.size() - created,
+                results
+        );
+    }
+
+    public List<BatchItemResult> createChunk(List<CreateTransactionRequest> requests) {
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> pendingIndexes = new ArrayList<>(requests.size());
+        List<Transaction> pending = new ArrayList<>(requests.size());
+
+        for (int index = 0; index < requests.size(); index++) {
+            CreateTransactionRequest request = requests.get(index);
+            Map<String, String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results[index] = new BatchItemResult(index, BatchItemStatus.INVALID, null, errors);
+                continue;
+            }
+            pendingIndexes.add(index);
+            pending.add(toEntity(request));
+        }
+        if (!pending.isEmpty()) {
+            persistChunk(pendingIndexes, pending, results);
+        }
+        return Arrays.asList(results);
+    }
+
+    @Cacheable("transactions")
     public TransactionResponse getById(UUID id) {
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Transaction not found"));
@@ -56,7 +132,58 @@ public class TransactionService {
             BigDecimal maxAmount,
             Pageable pageable
     ) {
-        Specification<com.matchsentinel.transaction.domain.Transaction> spec = (root, query, cb) -> null;
+        Specification<Transaction> spec = filters(accountId, country, from, to, minAmount, maxAmount);
+        return transactionRepository.findAll(spec, pageable)
+                .map(this::toResponse);
+    }
+
+    public TransactionCursorPage listAfter(
+            UUID accountId,
+            String country,
+            Instant from,
+            Instant to,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String cursor,
+            int size
+    ) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        Specification<Transaction> spec = filters(accountId, country, from, to, minAmount, maxAmount);
+        if (cursor != null && !cursor.isBlank()) {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            spec = spec.and(TransactionSpecifications.seekBefore(position.occurredAt(), position.id()));
+        }
+
+        List<Transaction> rows = transactionRepository.findBy(spec, query -> query
+                .sortBy(SEEK_ORDER)
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = rows.size() > size;
+        List<Transaction> page = hasNext ? rows.subList(0, size) : rows;
+        List<TransactionResponse> items = new ArrayList<>(page.size());
+        for (Transaction transaction : page) {
+            items.add(toResponse(transaction));
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            Transaction last = page.get(page.size() - 1);
+            nextCursor = new TransactionCursor(last.getOccurredAt(), last.getId()).encode();
+        }
+        return new TransactionCursorPage(items, items.size(), nextCursor);
+    }
+
+    private Specification<Transaction> filters(
+            UUID accountId,
+            String country,
+            Instant from,
+            Instant to,
+            BigDecimal minAmount,
+            BigDecimal maxAmount
+    ) {
+        Specification<Transaction> spec = (root, query, cb) -> null;
 
         if (accountId != null) {
             spec = spec.and(TransactionSpecifications.hasAccountId(accountId));
@@ -77,8 +204,61 @@ public class TransactionService {
             spec = spec.and(TransactionSpecifications.amountLte(maxAmount));
         }
 
-        return transactionRepository.findAll(spec, pageable)
-                .map(this::toResponse);
+        return spec;
+    }
+
+    private void persistChunk(List<Integer> indexes, List<Transaction> chunk, BatchItemResult[] results) {
+        List<Transaction> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                List<Transaction> transactions = transactionRepository.saveAll(chunk);
+                List<OutboxEvent> outboxEvents = new ArrayList<>(transactions.size());
+                for (Transaction transaction : transactions) {
+                    outboxEvents.add(toOutboxEvent(transaction));
+                }
+                outboxEventRepository.saveAll(outboxEvents);
+                return transactions;
+            });
+        } catch (DataAccessException ex) {
+            logger.error("Failed to persist batch chunk of {} transactions", chunk.size(), ex);
+            for (int index : indexes) {
+                results[index] = new BatchItemResult(
+                        index, BatchItemStatus.FAILED, null, Map.of("transaction", "persistence failed"));
+            }
+            return;
+        }
+
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = new BatchItemResult(index, BatchItemStatus.CREATED, saved.get(i).getId(), null);
+        }
+    }
+
+    private Map<String, String> validate(CreateTransactionRequest request) {
+        if (request == null) {
+            return Map.of("transaction", "transaction is required");
+        }
+        Set<ConstraintViolation<CreateTransactionRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<CreateTransactionRequest> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private Transaction toEntity(CreateTransactionRequest request) {
+        return Transaction.builder()
+                .accountId(request.getAccountId())
+                .amount(request.getAmount())
+                .currency(request.getCurrency().toUpperCase())
+                .country(request.getCountry().toUpperCase())
+                .merchant(request.getMerchant())
+                .occurredAt(request.getOccurredAt())
+                .createdAt(Instant.now())
+                .build();
     }
 
     private TransactionResponse toResponse(Transaction transaction) {
@@ -106,4 +286,17 @@ public class TransactionService {
                 transaction.getCreatedAt()
         );
     }
+
+    private OutboxEvent toOutboxEvent(Transaction transaction) {
+        try {
+            return OutboxEvent.builder()
+                    .aggregateId(transaction.getId())
+                    .eventType(TransactionCreatedEvent.TYPE)
+                    .payload(objectMapper.writeValueAsString(toEvent(transaction)))
+                    .createdAt(Instant.now())
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize transaction event", ex);
+        }
+    }
 }
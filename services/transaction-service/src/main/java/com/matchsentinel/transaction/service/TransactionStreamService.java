@@ -0,0 +1,181 @@
+package com.matchsentinel.transaction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.matchsentinel.transaction.dto.BatchItemResult;
+import com.matchsentinel.transaction.dto.BatchItemStatus;
+import com.matchsentinel.transaction.dto.CreateTransactionRequest;
+import com.matchsentinel.transaction.dto.StreamIngestResponse;
+import com.matchsentinel.transaction.dto.StreamLineError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TransactionStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionStreamService.class);
+
+    private final TransactionService transactionService;
+    private final ObjectReader requestReader;
+    private final int chunkSize;
+    private final int maxLineLength;
+    private final int maxReportedErrors;
+
+    public TransactionStreamService(
+            TransactionService transactionService,
+            ObjectMapper objectMapper,
+            @Value("${transaction.stream.chunk-size}") int chunkSize,
+            @Value("${transaction.stream.max-line-length}") int maxLineLength,
+            @Value("${transaction.stream.max-reported-errors}") int maxReportedErrors
+    ) {
+        this.transactionService = transactionService;
+        this.requestReader = objectMapper.readerFor(CreateTransactionRequest.class);
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public StreamIngestResponse ingest(InputStream body) throws IOException {
+        IngestProgress progress = new IngestProgress();
+        List<CreateTransactionRequest> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        LineReader reader = new LineReader(new InputStreamReader(body, StandardCharsets.UTF_8), maxLineLength);
+
+        String line;
+        while ((line = reader.nextLine()) != null) {
+            long lineNumber = reader.lineNumber();
+            if (reader.truncated()) {
+                progress.fail(lineNumber, BatchItemStatus.INVALID, Map.of("line", "line exceeds " + maxLineLength + " characters"));
+                continue;
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                chunk.add(requestReader.readValue(line));
+                chunkLines.add(lineNumber);
+            } catch (JsonProcessingException ex) {
+                progress.fail(lineNumber, BatchItemStatus.INVALID, Map.of("line", "malformed JSON: " + ex.getOriginalMessage()));
+                continue;
+            }
+            if (chunk.size() >= chunkSize) {
+                flush(chunk, chunkLines, progress);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, chunkLines, progress);
+        }
+
+        logger.info("Stream ingest finished: lines={} created={} failed={}",
+                reader.lineNumber(), progress.created, progress.failed);
+        return new StreamIngestResponse(
+                reader.lineNumber(),
+                progress.created,
+                progress.failed,
+                progress.errors,
+                progress.errorsTruncated
+        );
+    }
+
+    private void flush(List<CreateTransactionRequest> chunk, List<Long> chunkLines, IngestProgress progress) {
+        for (BatchItemResult result : transactionService.createChunk(chunk)) {
+            if (result.status() == BatchItemStatus.CREATED) {
+                progress.created++;
+            } else {
+                progress.fail(chunkLines.get(result.index()), result.status(), result.errors());
+            }
+        }
+        progress.chunks++;
+        logger.debug("Stream ingest progress: chunks={} created={} failed={}",
+                progress.chunks, progress.created, progress.failed);
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private final class IngestProgress {
+        private final List<StreamLineError> errors = new ArrayList<>();
+        private long created;
+        private long failed;
+        private long chunks;
+        private boolean errorsTruncated;
+
+        private void fail(long line, BatchItemStatus status, Map<String, String> lineErrors) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new StreamLineError(line, status, lineErrors));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    static final class LineReader {
+        private final Reader reader;
+        private final int maxLineLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private long lineNumber;
+        private boolean truncated;
+
+        LineReader(Reader reader, int maxLineLength) {
+            this.reader = reader;
+            this.maxLineLength = maxLineLength;
+        }
+
+        String nextLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            boolean sawAny = false;
+            while (true) {
+                if (position == limit) {
+                    limit = reader.read(buffer);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        if (!sawAny) {
+                            return null;
+                        }
+                        break;
+                    }
+                }
+                sawAny = true;
+                char c = buffer[position++];
+                if (c == '\n') {
+                    break;
+                }
+                if (c == '\r') {
+                    continue;
+                }
+                if (line.length() < maxLineLength) {
+                    line.append(c);
+                } else {
+                    truncated = true;
+                }
+            }
+            lineNumber++;
+            return line.toString();
+        }
+
+        long lineNumber() {
+            return lineNumber;
+        }
+
+        boolean truncated() {
+            return truncated;
+        }
+    }
+}
@@ -46,6 +46,7 @@ class TransactionIntegrationTest {
     private static final String EXCHANGE = "transaction.events";
     private static final String ROUTING_KEY = "transaction.created";
     private static final String QUEUE = "transaction.created.it";
+    private static final int PARTITIONS = 4;
 
     @Container
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
@@ -69,6 +70,7 @@ class TransactionIntegrationTest {
         registry.add("spring.rabbitmq.port", rabbit::getAmqpPort);
         registry.add("transaction.rabbit.exchange", () -> EXCHANGE);
         registry.add("transaction.rabbit.routing-key", () -> ROUTING_KEY);
+        registry.add("transaction.rabbit.partitions", () -> PARTITIONS);
     }
 
     @Autowired
@@ -91,10 +93,12 @@ class TransactionIntegrationTest {
         Queue queue = QueueBuilder.durable(QUEUE).build();
         rabbitAdmin.declareQueue(queue);
         rabbitAdmin.declareExchange(transactionExchange);
-        Binding binding = BindingBuilder.bind(queue)
-                .to(transactionExchange)
-                .with(ROUTING_KEY);
-        rabbitAdmin.declareBinding(binding);
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            Binding binding = BindingBuilder.bind(queue)
+                    .to(transactionExchange)
+                    .with(ROUTING_KEY + "." + partition);
+            rabbitAdmin.declareBinding(binding);
+        }
 
         Map<String, Object> request = Map.of(
                 "accountId", UUID.randomUUID().toString(),
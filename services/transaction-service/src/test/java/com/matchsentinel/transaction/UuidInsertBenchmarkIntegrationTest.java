@@ -0,0 +1,132 @@
+package com.matchsentinel.transaction;
+
+import com.matchsentinel.transaction.util.UuidV7;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("integration")
+@Testcontainers
+class UuidInsertBenchmarkIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(UuidInsertBenchmarkIntegrationTest.class);
+    private static final int ROWS = 500_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int ROUNDS = 2;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @BeforeAll
+    static void installPgstattuple() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+        }
+    }
+
+    @Test
+    void timeOrderedKeysSplitFewerIndexPagesAndWriteLessWal() throws SQLException {
+        List<Result> random = new ArrayList<>();
+        List<Result> timeOrdered = new ArrayList<>();
+        // Alternate which variant goes first so neither always inherits a warm cache or a fresh checkpoint.
+        for (int round = 0; round < ROUNDS; round++) {
+            if (round % 2 == 0) {
+                random.add(run("ids_v4_" + round, UUID::randomUUID));
+                timeOrdered.add(run("ids_v7_" + round, UuidV7::generate));
+            } else {
+                timeOrdered.add(run("ids_v7_" + round, UuidV7::generate));
+                random.add(run("ids_v4_" + round, UUID::randomUUID));
+            }
+        }
+
+        random.forEach(result -> logger.info("UUIDv4: {}", result));
+        timeOrdered.forEach(result -> logger.info("UUIDv7: {}", result));
+
+        long maxOrderedLeafPages = timeOrdered.stream().mapToLong(Result::leafPages).max().orElseThrow();
+        long minRandomLeafPages = random.stream().mapToLong(Result::leafPages).min().orElseThrow();
+        assertTrue(maxOrderedLeafPages < minRandomLeafPages,
+                "append-only keys should split fewer leaf pages: " + timeOrdered + " vs " + random);
+
+        long maxOrderedWal = timeOrdered.stream().mapToLong(Result::walBytesPerRow).max().orElseThrow();
+        long minRandomWal = random.stream().mapToLong(Result::walBytesPerRow).min().orElseThrow();
+        assertTrue(maxOrderedWal < minRandomWal,
+                "append-only keys should dirty fewer pages per insert: " + timeOrdered + " vs " + random);
+    }
+
+    private Result run(String table, Supplier<UUID> ids) throws SQLException {
+        try (Connection connection = connect()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, payload varchar(64) NOT NULL)");
+                // Start every run from a clean checkpoint so full-page images are counted the same way for both keys.
+                statement.execute("CHECKPOINT");
+            }
+            connection.setAutoCommit(false);
+
+            long walStart = walPosition(connection);
+            long started = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+                for (int i = 1; i <= ROWS; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.setString(2, "payload-" + i);
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            long elapsedNanos = System.nanoTime() - started;
+            long walBytes = walPosition(connection) - walStart;
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet index = statement.executeQuery(
+                         "SELECT leaf_pages, avg_leaf_density FROM pgstatindex('" + table + "_pkey')")) {
+                index.next();
+                Result result = new Result(ROWS * 1_000_000_000L / elapsedNanos, walBytes / ROWS,
+                        index.getLong(1), index.getDouble(2));
+                connection.commit();
+                return result;
+            }
+        }
+    }
+
+    private static long walPosition(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet lsn = statement.executeQuery("SELECT pg_current_wal_insert_lsn() - '0/0'::pg_lsn")) {
+            lsn.next();
+            long position = lsn.getLong(1);
+            connection.commit();
+            return position;
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                postgres.getUsername(),
+                postgres.getPassword());
+    }
+
+    // Each leaf page beyond the first comes from a page split, so leafPages tracks splits during the load.
+    private record Result(long rowsPerSecond, long walBytesPerRow, long leafPages, double avgLeafDensity) {
+    }
+}
@@ -1,7 +1,11 @@
 package com.matchsentinel.transaction.controller;
 
+import com.matchsentinel.transaction.dto.BatchCreateTransactionsResponse;
+import com.matchsentinel.transaction.dto.BatchItemResult;
+import com.matchsentinel.transaction.dto.BatchItemStatus;
 import com.matchsentinel.transaction.dto.TransactionResponse;
 import com.matchsentinel.transaction.service.TransactionService;
+import com.matchsentinel.transaction.service.TransactionStreamService;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -11,6 +15,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -29,6 +35,9 @@ class TransactionControllerTest {
     @MockitoBean
     private TransactionService transactionService;
 
+    @MockitoBean
+    private TransactionStreamService transactionStreamService;
+
     @Test
     void create_returnsCreated() throws Exception {
         TransactionResponse response = new TransactionResponse(
@@ -61,4 +70,46 @@ class TransactionControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.currency").value("USD"));
     }
+
+    @Test
+    void createBatch_returnsMultiStatusWhenRowsFail() throws Exception {
+        BatchCreateTransactionsResponse response = new BatchCreateTransactionsResponse(
+                2,
+                1,
+                1,
+                List.of(
+                        new BatchItemResult(0, BatchItemStatus.CREATED, UUID.randomUUID(), null),
+                        new BatchItemResult(1, BatchItemStatus.INVALID, null, Map.of("amount", "amount is required"))
+                )
+        );
+
+        when(transactionService.createBatch(any())).thenReturn(response);
+
+        String body = """
+                [
+                  {
+                    \"accountId\": \"11111111-1111-1111-1111-111111111111\",
+                    \"amount\": 123.45,
+                    \"currency\": \"USD\",
+                    \"country\": \"US\",
+                    \"merchant\": \"Test Merchant\",
+                    \"occurredAt\": \"2026-01-25T10:15:30Z\"
+                  },
+                  {
+                    \"accountId\": \"11111111-1111-1111-1111-111111111111\",
+                    \"currency\": \"USD\",
+                    \"country\": \"US\",
+                    \"merchant\": \"Test Merchant\",
+                    \"occurredAt\": \"2026-01-25T10:15:30Z\"
+                  }
+                ]
+                """;
+
+        mockMvc.perform(post("/api/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"));
+    }
 }
@@ -0,0 +1,51 @@
+package com.matchsentinel.transaction.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountPartitionerTest {
+
+    @Test
+    void partitionFor_isStableForAnAccount() {
+        AccountPartitioner partitioner = new AccountPartitioner(8);
+        UUID accountId = UUID.randomUUID();
+
+        int partition = partitioner.partitionFor(accountId);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(partition, partitioner.partitionFor(UUID.fromString(accountId.toString())));
+        }
+    }
+
+    @Test
+    void partitionFor_spreadsAccountsAcrossAllPartitions() {
+        AccountPartitioner partitioner = new AccountPartitioner(4);
+        int[] counts = new int[4];
+
+        for (int i = 0; i < 40_000; i++) {
+            counts[partitioner.partitionFor(UUID.randomUUID())]++;
+        }
+
+        for (int count : counts) {
+            assertTrue(count > 9_000 && count < 11_000, "partition share out of balance: " + count);
+        }
+    }
+
+    // ai-service routes transaction.scored with a copy of this hash; its publisher test pins the same values.
+    @Test
+    void partitionFor_matchesThePinnedAssignments() {
+        assertEquals(3, new AccountPartitioner(4).partitionFor(UUID.fromString("7f3c9a52-1d4e-4b8a-9c61-2e5f0a7b3d94")));
+        assertEquals(1, new AccountPartitioner(4).partitionFor(UUID.fromString("c0ffee00-1234-4abc-8def-0123456789ab")));
+        assertEquals(7, new AccountPartitioner(16).partitionFor(UUID.fromString("7f3c9a52-1d4e-4b8a-9c61-2e5f0a7b3d94")));
+    }
+
+    @Test
+    void rejectsNonPositivePartitionCount() {
+        assertThrows(IllegalArgumentException.class, () -> new AccountPartitioner(0));
+    }
+}
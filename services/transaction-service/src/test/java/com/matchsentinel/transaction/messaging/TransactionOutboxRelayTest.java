@@ -0,0 +1,119 @@
+package com.matchsentinel.transaction.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchsentinel.transaction.domain.OutboxEvent;
+import com.matchsentinel.transaction.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionOutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private TransactionEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TransactionOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new TransactionOutboxRelay(
+                outboxEventRepository, eventPublisher, objectMapper, transactionTemplate, meterRegistry, 10);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void relayBatch_publishesAndDeletesLockedEvents() throws Exception {
+        OutboxEvent first = outboxEvent();
+        OutboxEvent second = outboxEvent();
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of(first, second));
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(2, relayed);
+        verify(eventPublisher).publishTransactionsCreated(anyList());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    void relay_keepsEventsWhenPublishFails() throws Exception {
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of(outboxEvent()));
+        doThrow(new AmqpException("nack")).when(eventPublisher).publishTransactionsCreated(anyList());
+
+        relay.relay();
+
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relayBatch_deadLettersUnreadableRowsAndPublishesTheRest() throws Exception {
+        OutboxEvent good = outboxEvent();
+        OutboxEvent poison = outboxEvent();
+        poison.setPayload("{not json");
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of(poison, good));
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(2, relayed);
+        verify(outboxEventRepository).moveToDeadLetter(eq(poison.getId()), anyString());
+        ArgumentCaptor<List<TransactionCreatedEvent>> published = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishTransactionsCreated(published.capture());
+        assertEquals(List.of(good.getAggregateId()), published.getValue().stream().map(TransactionCreatedEvent::id).toList());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(good.getId()));
+        assertEquals(1.0, meterRegistry.counter("transaction.outbox.dead.lettered").count());
+    }
+
+    private OutboxEvent outboxEvent() throws Exception {
+        TransactionCreatedEvent event = new TransactionCreatedEvent(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new BigDecimal("10.00"),
+                "USD",
+                "US",
+                "Outbox Merchant",
+                Instant.now(),
+                Instant.now()
+        );
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .aggregateId(event.id())
+                .eventType(TransactionCreatedEvent.TYPE)
+                .payload(objectMapper.writeValueAsString(event))
+                .createdAt(Instant.now())
+                .build();
+    }
+}
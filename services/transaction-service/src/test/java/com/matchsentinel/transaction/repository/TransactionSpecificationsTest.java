@@ -0,0 +1,64 @@
+package com.matchsentinel.transaction.repository;
+
+import com.matchsentinel.transaction.domain.Transaction;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSpecificationsTest {
+
+    @Mock
+    private Root<Transaction> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Mock
+    private Path<Instant> occurredAt;
+
+    @Mock
+    private Path<UUID> id;
+
+    @Test
+    void seekBefore_boundsOccurredAtSoTheIndexHasAStartKey() {
+        Instant cursorTime = Instant.parse("2025-10-01T12:00:00Z");
+        UUID cursorId = UUID.randomUUID();
+        Predicate bound = mock(Predicate.class);
+        Predicate strictlyBefore = mock(Predicate.class);
+        Predicate sameTime = mock(Predicate.class);
+        Predicate lowerId = mock(Predicate.class);
+        Predicate tieBreak = mock(Predicate.class);
+        Predicate after = mock(Predicate.class);
+        Predicate seek = mock(Predicate.class);
+        doReturn(occurredAt).when(root).get("occurredAt");
+        doReturn(id).when(root).get("id");
+        doReturn(bound).when(cb).lessThanOrEqualTo(occurredAt, cursorTime);
+        doReturn(strictlyBefore).when(cb).lessThan(occurredAt, cursorTime);
+        doReturn(sameTime).when(cb).equal(occurredAt, cursorTime);
+        doReturn(lowerId).when(cb).lessThan(id, cursorId);
+        doReturn(tieBreak).when(cb).and(sameTime, lowerId);
+        doReturn(after).when(cb).or(strictlyBefore, tieBreak);
+        doReturn(seek).when(cb).and(bound, after);
+
+        Predicate predicate = TransactionSpecifications.seekBefore(cursorTime, cursorId).toPredicate(root, query, cb);
+
+        assertSame(seek, predicate);
+    }
+}
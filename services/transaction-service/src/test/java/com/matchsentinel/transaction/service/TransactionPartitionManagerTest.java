@@ -0,0 +1,123 @@
+package com.matchsentinel.transaction.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionPartitionManagerTest {
+
+    private static final String CREATE_202511 = "CREATE TABLE IF NOT EXISTS transactions_p202511"
+            + " (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING INDEXES,"
+            + " CONSTRAINT transactions_p202511_range CHECK (occurred_at >= '2025-11-01T00:00Z'"
+            + " AND occurred_at < '2025-12-01T00:00Z'))";
+    private static final String ATTACH_202511 = "ALTER TABLE transactions ATTACH PARTITION transactions_p202511"
+            + " FOR VALUES FROM ('2025-11-01T00:00Z') TO ('2025-12-01T00:00Z')";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void maintain_createsUpcomingPartitionsAndDetachesExpiredOnes() {
+        TransactionPartitionManager manager = new TransactionPartitionManager(jdbcTemplate, transactionTemplate, meterRegistry, 1, 12, false, 1_000, 5_000);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("transactions")))
+                .thenReturn(List.of("transactions_p202409", "transactions_p202410", "transactions_p202510"));
+        runTransactionsInline();
+
+        manager.maintain(YearMonth.of(2025, 10));
+
+        verify(jdbcTemplate).execute(CREATE_202511);
+        verify(jdbcTemplate).execute(ATTACH_202511);
+        verify(jdbcTemplate, never()).execute(contains("CREATE TABLE IF NOT EXISTS transactions_p202510"));
+        verify(jdbcTemplate, never()).execute(contains("PARTITION OF"));
+        verify(jdbcTemplate).execute("ALTER TABLE transactions DETACH PARTITION transactions_p202409");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE transactions DETACH PARTITION transactions_p202410");
+        verify(jdbcTemplate, never()).execute("DROP TABLE transactions_p202409");
+    }
+
+    @Test
+    void maintain_dropsExpiredPartitionsWhenConfigured() {
+        TransactionPartitionManager manager = new TransactionPartitionManager(jdbcTemplate, transactionTemplate, meterRegistry, 0, 1, true, 1_000, 5_000);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("transactions")))
+                .thenReturn(List.of("transactions_p202501"));
+        runTransactionsInline();
+
+        manager.maintain(YearMonth.of(2025, 10));
+
+        verify(jdbcTemplate).execute("ALTER TABLE transactions DETACH PARTITION transactions_p202501");
+        verify(jdbcTemplate).execute("DROP TABLE transactions_p202501");
+    }
+
+    @Test
+    void maintain_copiesRowsOutOfDefaultInBatchesBeforeAttaching() {
+        TransactionPartitionManager manager =
+                new TransactionPartitionManager(jdbcTemplate, transactionTemplate, meterRegistry, 0, 12, false, 1_000, 5_000);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("2025-10-01T00:00Z"), eq("2025-11-01T00:00Z")))
+                .thenReturn(true);
+        String range = " WHERE occurred_at >= '2025-10-01T00:00Z' AND occurred_at < '2025-11-01T00:00Z'";
+        String copy = "INSERT INTO transactions_p202510 SELECT d.* FROM transactions_default d" + range
+                + " AND NOT EXISTS (SELECT 1 FROM transactions_p202510 p WHERE p.id = d.id AND p.occurred_at = d.occurred_at)";
+        when(jdbcTemplate.update(copy + " LIMIT 1000")).thenReturn(1_000, 1_000, 12);
+        runTransactionsInline();
+
+        manager.maintain(YearMonth.of(2025, 10));
+
+        var ordered = inOrder(jdbcTemplate, transactionTemplate);
+        ordered.verify(jdbcTemplate).execute(contains("CREATE TABLE IF NOT EXISTS transactions_p202510 (LIKE transactions"));
+        ordered.verify(jdbcTemplate, times(3)).update(copy + " LIMIT 1000");
+        ordered.verify(transactionTemplate).executeWithoutResult(any());
+        ordered.verify(jdbcTemplate).execute("SET LOCAL lock_timeout = '5000ms'");
+        ordered.verify(jdbcTemplate).execute("LOCK TABLE transactions_default IN EXCLUSIVE MODE");
+        ordered.verify(jdbcTemplate).update(copy);
+        ordered.verify(jdbcTemplate).update("DELETE FROM transactions_default" + range);
+        ordered.verify(jdbcTemplate).execute("ALTER TABLE transactions ATTACH PARTITION transactions_p202510"
+                + " FOR VALUES FROM ('2025-10-01T00:00Z') TO ('2025-11-01T00:00Z')");
+        verify(jdbcTemplate, never()).execute(contains("DETACH PARTITION transactions_default"));
+    }
+
+    @Test
+    void maintain_countsFailedPartitionCreation() {
+        TransactionPartitionManager manager =
+                new TransactionPartitionManager(jdbcTemplate, transactionTemplate, meterRegistry, 0, 12, false, 1_000, 5_000);
+        doThrow(new DataIntegrityViolationException("updated partition constraint for default partition would be violated"))
+                .when(jdbcTemplate).execute(anyString());
+
+        manager.maintain(YearMonth.of(2025, 10));
+
+        assertEquals(1.0, meterRegistry.counter("transaction.partitions.failures", "operation", "create").count());
+    }
+
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
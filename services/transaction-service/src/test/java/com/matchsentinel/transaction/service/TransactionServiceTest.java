@@ -1,25 +1,47 @@
 package com.matchsentinel.transaction.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchsentinel.transaction.domain.OutboxEvent;
 import com.matchsentinel.transaction.domain.Transaction;
+import com.matchsentinel.transaction.dto.BatchCreateTransactionsResponse;
+import com.matchsentinel.transaction.dto.BatchItemStatus;
 import com.matchsentinel.transaction.dto.CreateTransactionRequest;
+import com.matchsentinel.transaction.dto.TransactionCursorPage;
 import com.matchsentinel.transaction.exception.NotFoundException;
-import com.matchsentinel.transaction.messaging.TransactionEventPublisher;
+import com.matchsentinel.transaction.messaging.TransactionCreatedEvent;
+import com.matchsentinel.transaction.repository.OutboxEventRepository;
 import com.matchsentinel.transaction.repository.TransactionRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,7 +52,16 @@ class TransactionServiceTest {
     private TransactionRepository transactionRepository;
 
     @Mock
-    private TransactionEventPublisher eventPublisher;
+    private OutboxEventRepository outboxEventRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     private TransactionService transactionService;
@@ -65,7 +96,10 @@ class TransactionServiceTest {
         assertNotNull(response.id());
         assertEquals("USD", response.currency());
         assertEquals("US", response.country());
-        verify(eventPublisher).publishTransactionCreated(any());
+        ArgumentCaptor<OutboxEvent> outboxEvent = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(outboxEvent.capture());
+        assertEquals(saved.getId(), outboxEvent.getValue().getAggregateId());
+        assertEquals(TransactionCreatedEvent.TYPE, outboxEvent.getValue().getEventType());
     }
 
     @Test
@@ -74,4 +108,103 @@ class TransactionServiceTest {
 
         assertThrows(NotFoundException.class, () -> transactionService.getById(UUID.randomUUID()));
     }
+
+    @Test
+    void createBatch_persistsValidRowsInChunksAndReportsInvalidRows() {
+        ReflectionTestUtils.setField(transactionService, "batchMaxSize", 100);
+        ReflectionTestUtils.setField(transactionService, "batchChunkSize", 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Transaction> saved = new ArrayList<>();
+            for (Transaction transaction : invocation.<List<Transaction>>getArgument(0)) {
+                transaction.setId(UUID.randomUUID());
+                saved.add(transaction);
+            }
+            return saved;
+        });
+
+        CreateTransactionRequest invalid = request();
+        invalid.setCurrency("dollars");
+        List<CreateTransactionRequest> requests = List.of(request(), invalid, request(), request());
+
+        BatchCreateTransactionsResponse response = transactionService.createBatch(requests);
+
+        assertEquals(4, response.total());
+        assertEquals(3, response.created());
+        assertEquals(1, response.failed());
+        assertEquals(BatchItemStatus.INVALID, response.results().get(1).status());
+        assertNotNull(response.results().get(1).errors().get("currency"));
+        assertEquals(BatchItemStatus.CREATED, response.results().get(3).status());
+        assertNotNull(response.results().get(3).id());
+        verify(transactionRepository, times(2)).saveAll(anyList());
+        verify(outboxEventRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void createBatch_rejectsOversizedBatch() {
+        ReflectionTestUtils.setField(transactionService, "batchMaxSize", 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> transactionService.createBatch(List.of(request(), request())));
+    }
+
+    @Test
+    void listAfter_returnsCursorForNextPageWithoutCounting() {
+        Transaction newest = transaction(Instant.parse("2026-01-25T10:00:00Z"));
+        Transaction older = transaction(Instant.parse("2026-01-25T09:00:00Z"));
+        Transaction oldest = transaction(Instant.parse("2026-01-25T08:00:00Z"));
+        when(transactionRepository.findBy(ArgumentMatchers.<Specification<Transaction>>any(), any())).thenReturn(List.of(newest, older, oldest));
+
+        TransactionCursorPage page = transactionService.listAfter(null, "us", null, null, null, null, null, 2);
+
+        assertEquals(2, page.size());
+        assertEquals(older.getId(), page.items().get(1).id());
+        TransactionCursor cursor = TransactionCursor.decode(page.nextCursor());
+        assertEquals(older.getOccurredAt(), cursor.occurredAt());
+        assertEquals(older.getId(), cursor.id());
+        verify(transactionRepository, never()).findAll(ArgumentMatchers.<Specification<Transaction>>any(), any(Pageable.class));
+    }
+
+    @Test
+    void listAfter_returnsNoCursorOnLastPage() {
+        Transaction only = transaction(Instant.now());
+        when(transactionRepository.findBy(ArgumentMatchers.<Specification<Transaction>>any(), any())).thenReturn(List.of(only));
+        String cursor = new TransactionCursor(Instant.now(), UUID.randomUUID()).encode();
+
+        TransactionCursorPage page = transactionService.listAfter(null, null, null, null, null, null, cursor, 2);
+
+        assertEquals(1, page.size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void listAfter_rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> transactionService.listAfter(null, null, null, null, null, null, "not a cursor", 10));
+    }
+
+    private Transaction transaction(Instant occurredAt) {
+        return Transaction.builder()
+                .id(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .amount(new BigDecimal("10.00"))
+                .currency("USD")
+                .country("US")
+                .merchant("Cursor Merchant")
+                .occurredAt(occurredAt)
+                .createdAt(occurredAt)
+                .build();
+    }
+
+    private CreateTransactionRequest request() {
+        return new CreateTransactionRequest(
+                UUID.randomUUID(),
+                new BigDecimal("42.00"),
+                "usd",
+                "us",
+                "Batch Merchant",
+                Instant.now()
+        );
+    }
 }
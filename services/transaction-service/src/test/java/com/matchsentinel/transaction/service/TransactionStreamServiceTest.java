@@ -0,0 +1,94 @@
+package com.matchsentinel.transaction.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matchsentinel.transaction.dto.BatchItemResult;
+import com.matchsentinel.transaction.dto.BatchItemStatus;
+import com.matchsentinel.transaction.dto.CreateTransactionRequest;
+import com.matchsentinel.transaction.dto.StreamIngestResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionStreamServiceTest {
+
+    private static final String VALID_LINE = """
+            {"accountId":"11111111-1111-1111-1111-111111111111","amount":10.5,"currency":"USD","country":"US","merchant":"Stream Merchant","occurredAt":"2026-01-25T10:15:30Z"}""";
+
+    @Mock
+    private TransactionService transactionService;
+
+    private TransactionStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        streamService = new TransactionStreamService(transactionService, objectMapper, 2, 512, 10);
+    }
+
+    @Test
+    void ingest_commitsInChunksAndReportsLineErrors() throws Exception {
+        when(transactionService.createChunk(anyList())).thenAnswer(invocation -> {
+            List<CreateTransactionRequest> chunk = invocation.getArgument(0);
+            List<BatchItemResult> results = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(new BatchItemResult(i, BatchItemStatus.CREATED, UUID.randomUUID(), null));
+            }
+            return results;
+        });
+
+        String body = String.join("\n",
+                VALID_LINE,
+                "{not json",
+                "",
+                VALID_LINE,
+                "x".repeat(600),
+                VALID_LINE
+        ) + "\n";
+
+        StreamIngestResponse response = streamService.ingest(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(6, response.lines());
+        assertEquals(3, response.created());
+        assertEquals(2, response.failed());
+        assertEquals(2, response.errors().get(0).line());
+        assertEquals(5, response.errors().get(1).line());
+        assertFalse(response.errorsTruncated());
+        verify(transactionService, times(2)).createChunk(anyList());
+    }
+
+    @Test
+    void ingest_mapsChunkFailuresBackToLineNumbers() throws Exception {
+        when(transactionService.createChunk(anyList())).thenReturn(List.of(
+                new BatchItemResult(0, BatchItemStatus.CREATED, UUID.randomUUID(), null),
+                new BatchItemResult(1, BatchItemStatus.INVALID, null, java.util.Map.of("amount", "amount is required"))
+        ));
+
+        String body = VALID_LINE + "\n\n" + VALID_LINE;
+
+        StreamIngestResponse response = streamService.ingest(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, response.created());
+        assertEquals(1, response.failed());
+        assertEquals(3, response.errors().get(0).line());
+        assertTrue(response.errors().get(0).errors().containsKey("amount"));
+    }
+}
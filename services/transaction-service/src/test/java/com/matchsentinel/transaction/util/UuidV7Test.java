@@ -0,0 +1,36 @@
+package com.matchsentinel.transaction.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+
+    @Test
+    void generate_setsVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.generate();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue((id.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    void generate_isStrictlyIncreasingInUnsignedByteOrder() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7.generate());
+        }
+        for (int i = 1; i < ids.size(); i++) {
+            long previous = ids.get(i - 1).getMostSignificantBits();
+            long current = ids.get(i).getMostSignificantBits();
+            assertTrue(Long.compareUnsigned(previous, current) < 0, "ids must sort by generation order");
+        }
+    }
+}
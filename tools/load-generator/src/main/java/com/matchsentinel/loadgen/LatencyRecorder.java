@@ -0,0 +1,44 @@
+package com.matchsentinel.loadgen;
+
+import java.util.Arrays;
+
+public final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+
+    public synchronized void record(long micros) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = micros;
+    }
+
+    public synchronized Summary summarize() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(
+                count,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.95),
+                percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1]
+        );
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    public record Summary(int count, long p50Micros, long p95Micros, long p99Micros, long maxMicros) {
+
+        public String format() {
+            return String.format("n=%d p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                    count, p50Micros / 1000.0, p95Micros / 1000.0, p99Micros / 1000.0, maxMicros / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.matchsentinel.loadgen;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public record LoadConfig(
+        URI transactionUrl,
+        URI caseUrl,
+        URI reportingUrl,
+        Mode mode,
+        List<Integer> rates,
+        int stepSeconds,
+        int batchSize,
+        int accounts,
+        int merchants,
+        double skew,
+        double highRiskShare,
+        double largeAmountShare,
+        int maxInFlight,
+        double caseSampleRate,
+        int drainTimeoutSeconds,
+        long seed
+) {
+
+    public enum Mode {
+        SINGLE,
+        BATCH
+    }
+
+    public static LoadConfig fromArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadConfig config = new LoadConfig(
+                URI.create(options.getOrDefault("transaction-url", "http://localhost:8082")),
+                URI.create(options.getOrDefault("case-url", "http://localhost:8084")),
+                URI.create(options.getOrDefault("reporting-url", "http://localhost:8086")),
+                Mode.valueOf(options.getOrDefault("mode", "single").toUpperCase()),
+                parseRates(options.getOrDefault("rates", "50,100,200,400")),
+                Integer.parseInt(options.getOrDefault("step-seconds", "30")),
+                Integer.parseInt(options.getOrDefault("batch-size", "100")),
+                Integer.parseInt(options.getOrDefault("accounts", "100000")),
+                Integer.parseInt(options.getOrDefault("merchants", "5000")),
+                Double.parseDouble(options.getOrDefault("skew", "1.1")),
+                Double.parseDouble(options.getOrDefault("high-risk-share", "0.02")),
+                Double.parseDouble(options.getOrDefault("large-amount-share", "0.005")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "256")),
+                Double.parseDouble(options.getOrDefault("case-sample-rate", "0.1")),
+                Integer.parseInt(options.getOrDefault("drain-timeout-seconds", "120")),
+                Long.parseLong(options.getOrDefault("seed", "42"))
+        );
+        options.keySet().removeAll(List.of(
+                "transaction-url", "case-url", "reporting-url", "mode", "rates", "step-seconds", "batch-size",
+                "accounts", "merchants", "skew", "high-risk-share", "large-amount-share", "max-in-flight",
+                "case-sample-rate", "drain-timeout-seconds", "seed"));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+
+    private static List<Integer> parseRates(String value) {
+        List<Integer> rates = new ArrayList<>();
+        for (String token : value.split(",")) {
+            int rate = Integer.parseInt(token.trim());
+            if (rate < 1) {
+                throw new IllegalArgumentException("rates must be positive");
+            }
+            rates.add(rate);
+        }
+        return rates;
+    }
+}
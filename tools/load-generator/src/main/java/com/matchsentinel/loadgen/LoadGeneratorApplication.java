@@ -0,0 +1,76 @@
+package com.matchsentinel.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public final class LoadGeneratorApplication {
+
+    private LoadGeneratorApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.fromArgs(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+        TransactionFactory factory = new TransactionFactory(config);
+
+        try (PipelineProbe probe = new PipelineProbe(client, objectMapper, config)) {
+            PipelineProbe.DailyCounters before = probe.dailyCounters();
+            LoadRun run = new LoadRun(config, client, objectMapper, factory, probe);
+            List<LoadRun.StepResult> results = new ArrayList<>();
+            long totalAccepted = 0;
+
+            System.out.printf("mode=%s steps=%s step-seconds=%d accounts=%d merchants=%d skew=%.2f%n",
+                    config.mode(), config.rates(), config.stepSeconds(), config.accounts(), config.merchants(),
+                    config.skew());
+            for (int rate : config.rates()) {
+                LoadRun.StepResult result = run.runStep(rate);
+                results.add(result);
+                totalAccepted += result.accepted();
+                print(result, results.get(0));
+            }
+
+            LoadRun.StepResult knee = results.stream()
+                    .filter(result -> result.saturated(results.get(0)))
+                    .findFirst()
+                    .orElse(null);
+            System.out.println(knee == null
+                    ? "No saturation observed; raise --rates to find the limit"
+                    : "Saturation at target " + knee.targetRate() + " tx/s");
+            if (probe.timedOut() > 0) {
+                System.out.println("Sampled transactions without a case before timeout: " + probe.timedOut());
+            }
+
+            long drainStart = System.nanoTime();
+            long deadline = drainStart + TimeUnit.SECONDS.toNanos(config.drainTimeoutSeconds());
+            PipelineProbe.DailyCounters after = probe.dailyCounters();
+            while (after.transactions() - before.transactions() < totalAccepted && System.nanoTime() < deadline) {
+                Thread.sleep(500);
+                after = probe.dailyCounters();
+            }
+            long reported = after.transactions() - before.transactions();
+            System.out.printf("reporting: %d/%d transactions counted, drained in %.1fs, flagged +%d, cases +%d%n",
+                    reported, totalAccepted, (System.nanoTime() - drainStart) / 1e9,
+                    after.flagged() - before.flagged(), after.cases() - before.cases());
+        } finally {
+            System.exit(0);
+        }
+    }
+
+    private static void print(LoadRun.StepResult result, LoadRun.StepResult baseline) {
+        System.out.printf("target=%d achieved=%.1f accepted=%d failed=%d%s%n",
+                result.targetRate(), result.achievedRate(), result.accepted(), result.failed(),
+                result.saturated(baseline) ? " SATURATED" : "");
+        System.out.println("  http     " + result.http().format());
+        System.out.println("  case e2e " + result.caseEndToEnd().format());
+    }
+}
@@ -0,0 +1,181 @@
+package com.matchsentinel.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-loop driver: requests are scheduled at fixed intervals and latency is measured from the intended
+// send time, so queueing behind a saturated service shows up in the numbers instead of slowing the clock.
+public final class LoadRun {
+
+    private final LoadConfig config;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final TransactionFactory factory;
+    private final PipelineProbe probe;
+
+    public LoadRun(
+            LoadConfig config,
+            HttpClient client,
+            ObjectMapper objectMapper,
+            TransactionFactory factory,
+            PipelineProbe probe
+    ) {
+        this.config = config;
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.factory = factory;
+        this.probe = probe;
+    }
+
+    public StepResult runStep(int targetRate) throws InterruptedException {
+        int perRequest = config.mode() == LoadConfig.Mode.BATCH ? config.batchSize() : 1;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(perRequest) / targetRate;
+        long durationNanos = TimeUnit.SECONDS.toNanos(config.stepSeconds());
+        URI uri = config.transactionUrl().resolve(
+                config.mode() == LoadConfig.Mode.BATCH ? "/api/transactions/batch" : "/api/transactions");
+
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        LatencyRecorder httpLatency = new LatencyRecorder();
+        LatencyRecorder caseLatency = new LatencyRecorder();
+        AtomicLong accepted = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLong lastCompletion = new AtomicLong();
+
+        long start = System.nanoTime();
+        for (long sent = 0; ; sent++) {
+            long intended = start + sent * intervalNanos;
+            if (intended - start >= durationNanos) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            List<TransactionFactory.Generated> generated = new ArrayList<>(perRequest);
+            for (int i = 0; i < perRequest; i++) {
+                generated.add(factory.next());
+            }
+            boolean[] tracked = new boolean[perRequest];
+            for (int i = 0; i < perRequest; i++) {
+                tracked[i] = generated.get(i).expectFlag() && factory.sample(config.caseSampleRate());
+            }
+
+            inFlight.acquire();
+            client.sendAsync(buildRequest(uri, generated), HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> {
+                        try {
+                            httpLatency.record((System.nanoTime() - intended) / 1_000);
+                            if (error != null) {
+                                failed.addAndGet(perRequest);
+                            } else {
+                                handleResponse(response, tracked, intended, accepted, failed, caseLatency);
+                            }
+                            lastCompletion.set(System.nanoTime());
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+        }
+        if (!inFlight.tryAcquire(config.maxInFlight(), 60, TimeUnit.SECONDS)) {
+            System.err.println("Timed out waiting for in-flight requests to finish");
+        }
+        double elapsedSeconds = Math.max(lastCompletion.get() - start, 1) / 1e9;
+        probe.awaitCases(TimeUnit.SECONDS.toMillis(config.drainTimeoutSeconds()));
+
+        return new StepResult(
+                targetRate,
+                accepted.get() / elapsedSeconds,
+                accepted.get(),
+                failed.get(),
+                httpLatency.summarize(),
+                caseLatency.summarize()
+        );
+    }
+
+    private HttpRequest buildRequest(URI uri, List<TransactionFactory.Generated> generated) {
+        Object body = config.mode() == LoadConfig.Mode.BATCH
+                ? generated.stream().map(TransactionFactory.Generated::request).toList()
+                : generated.get(0).request();
+        try {
+            return HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void handleResponse(
+            HttpResponse<byte[]> response,
+            boolean[] tracked,
+            long intended,
+            AtomicLong accepted,
+            AtomicLong failed,
+            LatencyRecorder caseLatency
+    ) {
+        int status = response.statusCode();
+        if (status != 201 && status != 207) {
+            failed.addAndGet(tracked.length);
+            return;
+        }
+        JsonNode body;
+        try {
+            body = objectMapper.readTree(response.body());
+        } catch (IOException ex) {
+            failed.addAndGet(tracked.length);
+            return;
+        }
+        if (config.mode() == LoadConfig.Mode.SINGLE) {
+            accepted.incrementAndGet();
+            if (tracked[0]) {
+                probe.track(body.path("id").asText(), intended, caseLatency);
+            }
+            return;
+        }
+        for (JsonNode result : body.path("results")) {
+            if (!"CREATED".equals(result.path("status").asText())) {
+                failed.incrementAndGet();
+                continue;
+            }
+            accepted.incrementAndGet();
+            if (tracked[result.path("index").asInt()]) {
+                probe.track(result.path("id").asText(), intended, caseLatency);
+            }
+        }
+    }
+
+    public record StepResult(
+            int targetRate,
+            double achievedRate,
+            long accepted,
+            long failed,
+            LatencyRecorder.Summary http,
+            LatencyRecorder.Summary caseEndToEnd
+    ) {
+
+        public boolean saturated(StepResult baseline) {
+            long total = accepted + failed;
+            boolean fellBehind = achievedRate < targetRate * 0.95;
+            boolean erroring = total > 0 && failed > total * 0.01;
+            boolean latencyBlewUp = baseline != null && baseline.http().p99Micros() > 0
+                    && http.p99Micros() > baseline.http().p99Micros() * 5;
+            return fellBehind || erroring || latencyBlewUp;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.matchsentinel.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Follows sampled transactions until their case shows up in case-service, and reads reporting counters.
+public final class PipelineProbe implements AutoCloseable {
+
+    private static final int MAX_PENDING = 2_000;
+    private static final long POLL_INTERVAL_MILLIS = 250;
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI caseUrl;
+    private final URI reportingUrl;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger timedOut = new AtomicInteger();
+    private final long timeoutNanos;
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor();
+
+    public PipelineProbe(HttpClient client, ObjectMapper objectMapper, LoadConfig config) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.caseUrl = config.caseUrl();
+        this.reportingUrl = config.reportingUrl();
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(config.drainTimeoutSeconds());
+        poller.scheduleWithFixedDelay(this::poll, POLL_INTERVAL_MILLIS, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void track(String transactionId, long intendedNanos, LatencyRecorder recorder) {
+        if (pending.size() < MAX_PENDING) {
+            pending.put(transactionId, new Pending(intendedNanos, recorder));
+        }
+    }
+
+    public boolean awaitCases(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!pending.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        return pending.isEmpty();
+    }
+
+    public int timedOut() {
+        return timedOut.get();
+    }
+
+    public DailyCounters dailyCounters() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        try {
+            JsonNode page = get(reportingUrl.resolve("/api/reports/daily?date=" + today));
+            JsonNode stat = page == null ? null : page.path("content").path(0);
+            if (stat == null || stat.isMissingNode()) {
+                return new DailyCounters(0, 0, 0);
+            }
+            return new DailyCounters(
+                    stat.path("totalTransactions").asLong(),
+                    stat.path("flaggedTransactions").asLong(),
+                    stat.path("casesCreated").asLong()
+            );
+        } catch (IOException ex) {
+            return new DailyCounters(0, 0, 0);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new DailyCounters(0, 0, 0);
+        }
+    }
+
+    private void poll() {
+        for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+            Pending tracked = entry.getValue();
+            long now = System.nanoTime();
+            if (now - tracked.intendedNanos() > timeoutNanos) {
+                pending.remove(entry.getKey());
+                timedOut.incrementAndGet();
+                continue;
+            }
+            try {
+                JsonNode page = get(caseUrl.resolve("/api/cases?size=1&transactionId=" + entry.getKey()));
+                if (page != null && page.path("content").size() > 0) {
+                    tracked.recorder().record((System.nanoTime() - tracked.intendedNanos()) / 1_000);
+                    pending.remove(entry.getKey());
+                }
+            } catch (IOException ex) {
+                // Service hiccups are expected under saturation; retry on the next poll.
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private JsonNode get(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    public record DailyCounters(long transactions, long flagged, long cases) {
+    }
+
+    private record Pending(long intendedNanos, LatencyRecorder recorder) {
+    }
+}
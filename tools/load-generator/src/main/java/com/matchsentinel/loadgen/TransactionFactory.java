@@ -0,0 +1,108 @@
+package com.matchsentinel.loadgen;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public final class TransactionFactory {
+
+    private static final String[] HIGH_RISK_COUNTRIES = {"IR", "KP", "SY"};
+    private static final String[] COUNTRIES = {"US", "GB", "DE", "FR", "CA", "BR", "IN", "NL", "ES", "MX"};
+    private static final double[] COUNTRY_WEIGHTS = {0.55, 0.10, 0.08, 0.07, 0.06, 0.05, 0.04, 0.02, 0.02, 0.01};
+    private static final BigDecimal LARGE_AMOUNT_FLOOR = new BigDecimal("10000");
+
+    private final SplittableRandom random;
+    private final UUID[] accounts;
+    private final String[] merchants;
+    private final ZipfSampler accountSampler;
+    private final ZipfSampler merchantSampler;
+    private final double highRiskShare;
+    private final double largeAmountShare;
+
+    public TransactionFactory(LoadConfig config) {
+        this.random = new SplittableRandom(config.seed());
+        this.accounts = new UUID[config.accounts()];
+        for (int i = 0; i < accounts.length; i++) {
+            accounts[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        this.merchants = new String[config.merchants()];
+        for (int i = 0; i < merchants.length; i++) {
+            merchants[i] = i % 50 == 7 ? "Crypto Exchange " + i : "Merchant " + i;
+        }
+        this.accountSampler = new ZipfSampler(accounts.length, config.skew());
+        this.merchantSampler = new ZipfSampler(merchants.length, config.skew());
+        this.highRiskShare = config.highRiskShare();
+        this.largeAmountShare = config.largeAmountShare();
+    }
+
+    public Generated next() {
+        String country = random.nextDouble() < highRiskShare
+                ? HIGH_RISK_COUNTRIES[random.nextInt(HIGH_RISK_COUNTRIES.length)]
+                : pickCountry();
+        BigDecimal amount = random.nextDouble() < largeAmountShare
+                ? BigDecimal.valueOf(10_000 + random.nextDouble() * 40_000)
+                : BigDecimal.valueOf(Math.min(Math.exp(Math.log(60) + 1.6 * gaussian()), 9_999));
+        amount = amount.setScale(2, RoundingMode.HALF_UP);
+
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("accountId", accounts[accountSampler.sample(random)].toString());
+        request.put("amount", amount);
+        request.put("currency", currencyFor(country));
+        request.put("country", country);
+        request.put("merchant", merchants[merchantSampler.sample(random)]);
+        request.put("occurredAt", Instant.now().toString());
+
+        boolean expectFlag = amount.compareTo(LARGE_AMOUNT_FLOOR) > 0 || isHighRisk(country);
+        return new Generated(request, expectFlag);
+    }
+
+    public boolean sample(double rate) {
+        return random.nextDouble() < rate;
+    }
+
+    private String pickCountry() {
+        double roll = random.nextDouble();
+        double cumulative = 0;
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            cumulative += COUNTRY_WEIGHTS[i];
+            if (roll < cumulative) {
+                return COUNTRIES[i];
+            }
+        }
+        return COUNTRIES[0];
+    }
+
+    private double gaussian() {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private static boolean isHighRisk(String country) {
+        for (String highRisk : HIGH_RISK_COUNTRIES) {
+            if (highRisk.equals(country)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String currencyFor(String country) {
+        return switch (country) {
+            case "GB" -> "GBP";
+            case "DE", "FR", "NL", "ES" -> "EUR";
+            case "BR" -> "BRL";
+            case "IN" -> "INR";
+            case "CA" -> "CAD";
+            case "MX" -> "MXN";
+            default -> "USD";
+        };
+    }
+
+    public record Generated(Map<String, Object> request, boolean expectFlag) {
+    }
+}
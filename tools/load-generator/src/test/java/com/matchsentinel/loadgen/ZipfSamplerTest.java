@@ -0,0 +1,27 @@
+package com.matchsentinel.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZipfSamplerTest {
+
+    @Test
+    void sampleFavoursLowRanksAndStaysInRange() {
+        ZipfSampler sampler = new ZipfSampler(1_000, 1.1);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] counts = new int[1_000];
+
+        for (int i = 0; i < 100_000; i++) {
+            int rank = sampler.sample(random);
+            assertTrue(rank >= 0 && rank < 1_000);
+            counts[rank]++;
+        }
+
+        assertTrue(counts[0] > counts[1]);
+        assertTrue(counts[1] > counts[10]);
+        assertTrue(counts[0] > 100_000 / 1_000 * 10);
+    }
+}